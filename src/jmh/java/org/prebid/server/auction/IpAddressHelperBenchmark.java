@@ -0,0 +1,89 @@
+package org.prebid.server.auction;
+
+import inet.ipaddr.AddressStringException;
+import inet.ipaddr.IPAddress;
+import inet.ipaddr.IPAddressString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.auction.model.IpAddress;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Compares IP address classification and masking done by {@link IpAddressHelper} with the same work done entirely
+ * by IPAddress library, which is what the helper falls back to for uncommon notations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IpAddressHelperBenchmark {
+
+    private static final List<String> LOCAL_NETWORKS = asList("::1/128", "2001:db8::/32", "fc00::/7", "fe80::/10",
+            "ff00::/8");
+
+    @Param({"93.184.216.34", "2a00:1450:4001:82a::200e"})
+    private String ip;
+
+    private IpAddressHelper ipAddressHelper;
+
+    private List<IPAddress> localNetworks;
+
+    private IPAddress alwaysMask;
+
+    private IPAddress anonLeftMask;
+
+    @Setup
+    public void setUp() throws AddressStringException {
+        ipAddressHelper = new IpAddressHelper(64, 56, LOCAL_NETWORKS);
+        localNetworks = LOCAL_NETWORKS.stream()
+                .map(network -> new IPAddressString(network).getAddress())
+                .collect(Collectors.toList());
+        alwaysMask = new IPAddressString("::/64").toAddress().getNetworkMask();
+        anonLeftMask = new IPAddressString("::/56").toAddress().getNetworkMask();
+    }
+
+    @Benchmark
+    public IpAddress toIpAddress() {
+        return ipAddressHelper.toIpAddress(ip);
+    }
+
+    @Benchmark
+    public IpAddress toIpAddressByLibrary() throws AddressStringException {
+        final IPAddress address = new IPAddressString(ip).toAddress();
+        final boolean isPublic = !address.isLocal() && !address.isLoopback() && !address.isMulticast()
+                && !address.isMax() && localNetworks.stream().noneMatch(network -> network.contains(address));
+        if (!isPublic) {
+            return null;
+        }
+        return address.isIPv4()
+                ? IpAddress.of(ip, IpAddress.IP.v4)
+                : IpAddress.of(address.mask(alwaysMask).toCanonicalString(), IpAddress.IP.v6);
+    }
+
+    @Benchmark
+    public String anonymizeIpv6() {
+        return ipAddressHelper.anonymizeIpv6(ip);
+    }
+
+    @Benchmark
+    public String anonymizeIpv6ByLibrary() throws AddressStringException {
+        final IPAddressString ipAddressString = new IPAddressString(ip);
+        return ipAddressString.isIPv6() ? ipAddressString.toAddress().mask(anonLeftMask).toCanonicalString() : null;
+    }
+}
@@ -0,0 +1,49 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.response.Bid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
+import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonList;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TargetingKeywordsCreatorBenchmark {
+
+    private TargetingKeywordsCreator targetingKeywordsCreator;
+
+    private Bid bid;
+
+    @Setup
+    public void setUp() {
+        targetingKeywordsCreator = TargetingKeywordsCreator.create(
+                ExtPriceGranularity.of(2, singletonList(
+                        ExtGranularityRange.of(BigDecimal.valueOf(20), BigDecimal.valueOf(0.1)))),
+                true, true, false, false, 20, "cache-host", "cache-path", null);
+        bid = Bid.builder().id("bid-id").impid("imp-id").price(BigDecimal.valueOf(3.87)).w(300).h(250)
+                .dealid("deal-id").build();
+    }
+
+    @Benchmark
+    public Map<String, String> makeForWinningBid() {
+        return targetingKeywordsCreator.makeFor(bid, "appnexus", true, "cache-id", null, "vast-cache-id");
+    }
+}
@@ -0,0 +1,123 @@
+package org.prebid.server.bidder;
+
+import com.codahale.metrics.MetricRegistry;
+import com.iab.openrtb.request.BidRequest;
+import io.vertx.core.Future;
+import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.http.HttpMethod;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.auction.model.BidderRequest;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.bidder.model.HttpCall;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.bidder.model.Result;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.log.HttpInteractionLogger;
+import org.prebid.server.metric.AccountMetricsVerbosity;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Guards result assembly cost of multi-request bidders with large request bodies.
+ * <p>
+ * Bidder creates new request bodies on every call, as real bidders serializing requests do, and HTTP client responds
+ * immediately, so the measured time is dominated by bookkeeping of calls rather than by I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpBidderRequesterBenchmark {
+
+    @Param({"1", "10"})
+    private int requests;
+
+    @Param({"1000", "20000"})
+    private int bodySize;
+
+    private HttpBidderRequester httpBidderRequester;
+
+    private Bidder<BidRequest> bidder;
+
+    private BidderRequest bidderRequest;
+
+    private Timeout timeout;
+
+    @Setup
+    public void setUp() {
+        final Metrics metrics = new Metrics(new MetricRegistry(), CounterType.counter,
+                new AccountMetricsVerbosity(AccountMetricsVerbosityLevel.none, emptyList(), emptyList()));
+        final HttpClient httpClient = (method, url, headers, body, timeoutMs) ->
+                Future.succeededFuture(HttpClientResponse.of(200, null, "{}"));
+
+        httpBidderRequester = new HttpBidderRequester(httpClient, null,
+                new BidderErrorNotifier(200, false, false, 0.0, httpClient, metrics),
+                new HttpInteractionLogger(1024, metrics));
+        bidder = new MultiRequestBidder(requests, StringUtils.repeat('a', bodySize));
+        bidderRequest = BidderRequest.of("bidder", null, BidRequest.builder().build());
+        timeout = new TimeoutFactory(Clock.systemUTC()).create(TimeUnit.DAYS.toMillis(1));
+    }
+
+    @Benchmark
+    public BidderSeatBid requestBids() {
+        return httpBidderRequester.requestBids(bidder, bidderRequest, timeout, true).result();
+    }
+
+    private static class MultiRequestBidder implements Bidder<BidRequest> {
+
+        private final int requests;
+
+        private final String body;
+
+        MultiRequestBidder(int requests, String body) {
+            this.requests = requests;
+            this.body = body;
+        }
+
+        @Override
+        public Result<List<HttpRequest<BidRequest>>> makeHttpRequests(BidRequest request) {
+            final List<HttpRequest<BidRequest>> httpRequests = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                httpRequests.add(HttpRequest.<BidRequest>builder()
+                        .method(HttpMethod.POST)
+                        .uri("http://bidder/" + i)
+                        // new string each time, so its hash is not cached between invocations
+                        .body(body.concat(String.valueOf(i)))
+                        .headers(new CaseInsensitiveHeaders())
+                        .payload(request)
+                        .build());
+            }
+            return Result.of(httpRequests, emptyList());
+        }
+
+        @Override
+        public Result<List<BidderBid>> makeBids(HttpCall<BidRequest> httpCall, BidRequest bidRequest) {
+            return Result.of(emptyList(), emptyList());
+        }
+    }
+}
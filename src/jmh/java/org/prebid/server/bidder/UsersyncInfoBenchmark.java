@@ -0,0 +1,75 @@
+package org.prebid.server.bidder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.privacy.ccpa.Ccpa;
+import org.prebid.server.privacy.model.Privacy;
+import org.prebid.server.proto.response.UsersyncInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds usersync info for 100 bidders, like a cookie sync response with coop sync enabled does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UsersyncInfoBenchmark {
+
+    private static final int BIDDERS = 100;
+
+    private List<Usersyncer.UsersyncMethod> usersyncMethods;
+
+    private List<UsersyncInfoTemplate> templates;
+
+    private Privacy privacy;
+
+    @Setup
+    public void setUp() {
+        usersyncMethods = new ArrayList<>(BIDDERS);
+        templates = new ArrayList<>(BIDDERS);
+        for (int i = 0; i < BIDDERS; i++) {
+            final Usersyncer.UsersyncMethod usersyncMethod = Usersyncer.UsersyncMethod.of(
+                    i % 2 == 0 ? Usersyncer.UsersyncMethod.REDIRECT_TYPE : Usersyncer.UsersyncMethod.IFRAME_TYPE,
+                    "https://sync.bidder" + i + ".com/sync?gdpr={{gdpr}}&gdpr_consent={{gdpr_consent}}"
+                            + "&us_privacy={{us_privacy}}&redir=",
+                    "https://prebid-server.example.com/setuid?bidder=bidder" + i + "&gdpr={{gdpr}}"
+                            + "&gdpr_consent={{gdpr_consent}}&us_privacy={{us_privacy}}&uid=$UID",
+                    false);
+            usersyncMethods.add(usersyncMethod);
+            templates.add(UsersyncInfoTemplate.compile(usersyncMethod));
+        }
+        privacy = Privacy.of("1", "BONciguONcjGKADACHENAOLS1rAHDAFAAEAASABQAMwAeACEAFw", Ccpa.of("1YNN"), null);
+    }
+
+    @Benchmark
+    public List<UsersyncInfo> assembler() {
+        final List<UsersyncInfo> result = new ArrayList<>(BIDDERS);
+        for (Usersyncer.UsersyncMethod usersyncMethod : usersyncMethods) {
+            result.add(UsersyncInfoAssembler.from(usersyncMethod).withPrivacy(privacy).assemble());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<UsersyncInfo> template() {
+        final List<UsersyncInfo> result = new ArrayList<>(BIDDERS);
+        for (UsersyncInfoTemplate template : templates) {
+            result.add(template.render(privacy));
+        }
+        return result;
+    }
+}
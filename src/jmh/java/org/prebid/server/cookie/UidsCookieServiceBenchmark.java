@@ -0,0 +1,145 @@
+package org.prebid.server.cookie;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonMap;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UidsCookieServiceBenchmark {
+
+    private static final int LARGE_COOKIE_FAMILIES = 60;
+
+    private static final String[] FAMILIES = {"adnxs", "rubicon", "openx", "pubmatic", "ix", "sovrn", "triplelift",
+            "sharethrough", "yieldmo", "33across"};
+
+    private UidsCookieService uidsCookieService;
+
+    private UidsCookieService binaryUidsCookieService;
+
+    private UidsCookie uidsCookie;
+
+    private Map<String, String> cookies;
+
+    private Map<String, String> largeCookies;
+
+    private Map<String, String> largeBinaryCookies;
+
+    private JacksonMapper mapper;
+
+    @Setup
+    public void setUp() {
+        mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+        final UidsCookieBinaryCodec binaryCodec = new UidsCookieBinaryCodec(Arrays.asList(FAMILIES));
+        uidsCookieService = new UidsCookieService("trp_optout", "true", null, null, "cookie-domain", 90, 0,
+                UidsCookieFormat.json, binaryCodec, mapper);
+        binaryUidsCookieService = new UidsCookieService("trp_optout", "true", null, null, "cookie-domain", 90, 0,
+                UidsCookieFormat.binary, binaryCodec, mapper);
+
+        final Map<String, UidWithExpiry> uids = new HashMap<>();
+        for (String family : FAMILIES) {
+            uids.put(family, UidWithExpiry.live(family + "-0123456789abcdef0123456789abcdef"));
+        }
+        uidsCookie = new UidsCookie(Uids.builder().uids(uids).build(), mapper);
+        cookies = singletonMap("uids", uidsCookieService.toCookie(uidsCookie).getValue());
+
+        final Map<String, UidWithExpiry> largeUids = new HashMap<>();
+        for (int i = 0; i < LARGE_COOKIE_FAMILIES; i++) {
+            largeUids.put("family" + i, UidWithExpiry.live("family" + i + "-0123456789abcdef"));
+        }
+        for (String family : FAMILIES) {
+            largeUids.put(family, UidWithExpiry.live(family + "-0123456789abcdef0123456789abcdef"));
+        }
+        final UidsCookie largeUidsCookie = new UidsCookie(Uids.builder().uids(largeUids).build(), mapper);
+        largeCookies = singletonMap("uids", uidsCookieService.toCookie(largeUidsCookie).getValue());
+        largeBinaryCookies = singletonMap("uids", binaryUidsCookieService.toCookie(largeUidsCookie).getValue());
+    }
+
+    @Benchmark
+    public Uids parseUids() {
+        return uidsCookieService.parseUids(cookies);
+    }
+
+    @Benchmark
+    public Cookie toCookie() {
+        return uidsCookieService.toCookie(uidsCookie);
+    }
+
+    /**
+     * Auction-like usage of a cookie with many families: only a few bidders look up their UIDs.
+     */
+    @Benchmark
+    public void parseLargeCookieAndLookupFewUids(Blackhole blackhole) {
+        final UidsCookie parsed = uidsCookieService.parseFromCookies(largeCookies);
+        for (int i = 0; i < 3; i++) {
+            blackhole.consume(parsed.uidFrom(FAMILIES[i]));
+        }
+    }
+
+    /**
+     * Path of auction and AMP handlers: metrics check for any live UID, then a few bidders look up their UIDs.
+     */
+    @Benchmark
+    public void parseLargeCookieCheckLiveUidsAndLookupFewUids(Blackhole blackhole) {
+        final UidsCookie parsed = uidsCookieService.parseFromCookies(largeCookies);
+        blackhole.consume(parsed.hasLiveUids());
+        for (int i = 0; i < 3; i++) {
+            blackhole.consume(parsed.uidFrom(FAMILIES[i]));
+        }
+    }
+
+    /**
+     * Setuid-like usage of a cookie with many families: one UID is replaced and cookie is written back.
+     */
+    @Benchmark
+    public Cookie parseLargeCookieAndUpdateUid() {
+        final UidsCookie parsed = uidsCookieService.parseFromCookies(largeCookies);
+        return uidsCookieService.toCookie(parsed.updateUid(FAMILIES[0], "new-uid"));
+    }
+
+    /**
+     * Same as {@link #parseLargeCookieAndLookupFewUids(Blackhole)} for cookie in binary format.
+     */
+    @Benchmark
+    public void parseLargeBinaryCookieAndLookupFewUids(Blackhole blackhole) {
+        final UidsCookie parsed = binaryUidsCookieService.parseFromCookies(largeBinaryCookies);
+        for (int i = 0; i < 3; i++) {
+            blackhole.consume(parsed.uidFrom(FAMILIES[i]));
+        }
+    }
+
+    /**
+     * Baseline binding every UID of a cookie with many families.
+     */
+    @Benchmark
+    public Uids bindLargeCookie() {
+        final byte[] json = Base64.getUrlDecoder().decode(largeCookies.get("uids"));
+        return mapper.decodeValue(Buffer.buffer(json), Uids.class);
+    }
+}
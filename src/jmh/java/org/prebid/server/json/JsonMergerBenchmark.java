@@ -0,0 +1,51 @@
+package org.prebid.server.json;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Site;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonList;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonMergerBenchmark {
+
+    private static final String STORED_REQUEST = "{\"id\":\"stored-id\",\"tmax\":1000,\"site\":{\"page\":\"prebid.org\","
+            + "\"publisher\":{\"id\":\"publisherId\"}},\"ext\":{\"prebid\":{\"targeting\":{"
+            + "\"pricegranularity\":\"med\"},\"cache\":{\"bids\":{}}}}}";
+
+    private JsonMerger jsonMerger;
+
+    private BidRequest bidRequest;
+
+    @Setup
+    public void setUp() {
+        jsonMerger = new JsonMerger(new JacksonMapper(ObjectMapperProvider.mapper()));
+        bidRequest = BidRequest.builder()
+                .id("request-id")
+                .imp(singletonList(Imp.builder().id("imp-id").build()))
+                .site(Site.builder().domain("prebid.org").build())
+                .build();
+    }
+
+    @Benchmark
+    public BidRequest mergeWithStoredRequest() {
+        return jsonMerger.merge(bidRequest, STORED_REQUEST, "stored-id", BidRequest.class);
+    }
+}
@@ -0,0 +1,28 @@
+package org.prebid.server.load;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Describes how simulated bidder behaves: response latency, chance to bid on each impression,
+ * chance to fail the whole request and size of the generated creative.
+ */
+@Builder
+@Value
+public class BidderProfile {
+
+    @Builder.Default
+    long latencyMeanMs = 50L;
+
+    @Builder.Default
+    long latencyStdDevMs = 20L;
+
+    @Builder.Default
+    double bidRate = 0.8D;
+
+    @Builder.Default
+    double errorRate = 0.01D;
+
+    @Builder.Default
+    int admSize = 1024;
+}
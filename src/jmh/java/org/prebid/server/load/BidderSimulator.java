@@ -0,0 +1,193 @@
+package org.prebid.server.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-process fake of OpenRTB bidders for capacity testing.
+ * <p>
+ * Serves POST /{bidder} requests, so bidder endpoint should be configured as
+ * {@code adapters.<bidder>.endpoint: http://localhost:<port>/<bidder>}. Each impression of incoming OpenRTB request
+ * gets a bid according to {@link BidderProfile} of the bidder, the default profile is used for unknown bidders.
+ */
+public class BidderSimulator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BidderSimulator.class);
+
+    private final Vertx vertx;
+    private final BidderProfile defaultProfile;
+    private final Map<String, BidderProfile> profiles;
+    private final JacksonMapper mapper;
+
+    private HttpServer httpServer;
+
+    public BidderSimulator(Vertx vertx, BidderProfile defaultProfile, Map<String, BidderProfile> profiles,
+                           JacksonMapper mapper) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.defaultProfile = Objects.requireNonNull(defaultProfile);
+        this.profiles = new HashMap<>(Objects.requireNonNull(profiles));
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    public Future<Void> start(int port) {
+        final Promise<HttpServer> promise = Promise.promise();
+        vertx.createHttpServer()
+                .requestHandler(request -> request.bodyHandler(body -> handle(request, body)))
+                .listen(port, promise);
+
+        return promise.future()
+                .map(server -> {
+                    httpServer = server;
+                    logger.info("Bidder simulator is listening on port {0,number,#}", server.actualPort());
+                    return null;
+                });
+    }
+
+    public void stop() {
+        if (httpServer != null) {
+            httpServer.close();
+        }
+    }
+
+    private void handle(HttpServerRequest request, Buffer body) {
+        final String bidder = StringUtils.removeStart(request.path(), "/");
+        final BidderProfile profile = profiles.getOrDefault(bidder, defaultProfile);
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        final long latency = Math.max(0L,
+                Math.round(profile.getLatencyMeanMs() + random.nextGaussian() * profile.getLatencyStdDevMs()));
+
+        vertx.setTimer(Math.max(1L, latency), ignored -> {
+            if (random.nextDouble() < profile.getErrorRate()) {
+                request.response().setStatusCode(HttpResponseStatus.INTERNAL_SERVER_ERROR.code()).end();
+                return;
+            }
+
+            final BidResponse bidResponse = makeBidResponse(body, bidder, profile);
+            if (bidResponse == null) {
+                request.response().setStatusCode(HttpResponseStatus.NO_CONTENT.code()).end();
+            } else {
+                request.response().end(mapper.encode(bidResponse));
+            }
+        });
+    }
+
+    private BidResponse makeBidResponse(Buffer body, String bidder, BidderProfile profile) {
+        final JsonNode bidRequest = mapper.decodeValue(body, JsonNode.class);
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final String adm = StringUtils.repeat('a', profile.getAdmSize());
+
+        final List<Bid> bids = new ArrayList<>();
+        for (JsonNode imp : bidRequest.path("imp")) {
+            if (random.nextDouble() < profile.getBidRate()) {
+                final String impId = imp.path("id").asText();
+                bids.add(Bid.builder()
+                        .id(bidder + "-" + impId)
+                        .impid(impId)
+                        .price(BigDecimal.valueOf(random.nextInt(1, 2000), 2))
+                        .adm(adm)
+                        .crid("creative-" + impId)
+                        .w(300)
+                        .h(250)
+                        .build());
+            }
+        }
+
+        if (bids.isEmpty()) {
+            return null;
+        }
+
+        return BidResponse.builder()
+                .id(bidRequest.path("id").asText())
+                .cur("USD")
+                .seatbid(Collections.singletonList(SeatBid.builder().seat(bidder).bid(bids).build()))
+                .build();
+    }
+
+    /**
+     * Reads per-bidder profiles from JSON object keyed by bidder name, for example
+     * {@code {"rubicon": {"latency_mean_ms": 120, "bid_rate": 0.5}}}. Properties missing in bidder profile are taken
+     * from the default one.
+     */
+    static Map<String, BidderProfile> readProfiles(byte[] content, BidderProfile defaultProfile,
+                                                   JacksonMapper mapper) throws IOException {
+
+        final ObjectMapper objectMapper = mapper.mapper();
+        final JsonNode profilesNode = objectMapper.readTree(content);
+        if (!profilesNode.isObject()) {
+            throw new IllegalArgumentException("Bidder profiles should be a JSON object keyed by bidder name");
+        }
+
+        final Map<String, BidderProfile> profiles = new HashMap<>();
+        final Iterator<Map.Entry<String, JsonNode>> fields = profilesNode.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            if (!field.getValue().isObject()) {
+                throw new IllegalArgumentException(
+                        String.format("Profile of bidder %s should be a JSON object", field.getKey()));
+            }
+
+            final ObjectNode profileNode = objectMapper.valueToTree(defaultProfile);
+            profileNode.setAll((ObjectNode) field.getValue());
+            profiles.put(field.getKey(), objectMapper.treeToValue(profileNode, BidderProfile.class));
+        }
+        return profiles;
+    }
+
+    /**
+     * Starts simulator with the default profile for all bidders, except ones listed in optional profiles file
+     * (see {@link #readProfiles(byte[], BidderProfile, JacksonMapper)}).
+     * <p>
+     * Arguments: port [latencyMeanMs latencyStdDevMs bidRate errorRate admSize] [profilesFile]
+     */
+    public static void main(String[] args) throws IOException {
+        final BidderProfile.BidderProfileBuilder profile = BidderProfile.builder();
+        if (args.length >= 6) {
+            profile.latencyMeanMs(Long.parseLong(args[1]))
+                    .latencyStdDevMs(Long.parseLong(args[2]))
+                    .bidRate(Double.parseDouble(args[3]))
+                    .errorRate(Double.parseDouble(args[4]))
+                    .admSize(Integer.parseInt(args[5]));
+        }
+        final BidderProfile defaultProfile = profile.build();
+
+        // profiles file follows either port or the default profile
+        final int profilesFileIndex = args.length >= 6 ? 6 : 1;
+        final JacksonMapper mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+        final Map<String, BidderProfile> profiles = args.length > profilesFileIndex
+                ? readProfiles(Files.readAllBytes(Paths.get(args[profilesFileIndex])), defaultProfile, mapper)
+                : Collections.emptyMap();
+
+        final int port = args.length > 0 ? Integer.parseInt(args[0]) : 8090;
+        new BidderSimulator(Vertx.vertx(), defaultProfile, profiles, mapper).start(port);
+    }
+}
@@ -0,0 +1,65 @@
+package org.prebid.server.load;
+
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.entry;
+
+public class BidderSimulatorTest extends VertxTest {
+
+    private static final BidderProfile DEFAULT_PROFILE = BidderProfile.builder()
+            .latencyMeanMs(10L)
+            .latencyStdDevMs(5L)
+            .bidRate(0.5D)
+            .errorRate(0.1D)
+            .admSize(100)
+            .build();
+
+    @Test
+    public void readProfilesShouldTakePropertiesMissingInBidderProfileFromDefaultProfile() throws IOException {
+        // given
+        final String content = "{\"rubicon\":{\"latency_mean_ms\":120,\"bid_rate\":1.0},"
+                + "\"appnexus\":{\"error_rate\":0.0,\"adm_size\":4096}}";
+
+        // when
+        final Map<String, BidderProfile> profiles = BidderSimulator.readProfiles(content.getBytes(),
+                DEFAULT_PROFILE, jacksonMapper);
+
+        // then
+        assertThat(profiles).containsOnly(
+                entry("rubicon", BidderProfile.builder()
+                        .latencyMeanMs(120L).latencyStdDevMs(5L).bidRate(1.0D).errorRate(0.1D).admSize(100).build()),
+                entry("appnexus", BidderProfile.builder()
+                        .latencyMeanMs(10L).latencyStdDevMs(5L).bidRate(0.5D).errorRate(0.0D).admSize(4096).build()));
+    }
+
+    @Test
+    public void readProfilesShouldReturnEmptyMapIfNoBidderIsListed() throws IOException {
+        // when
+        final Map<String, BidderProfile> profiles = BidderSimulator.readProfiles("{}".getBytes(),
+                DEFAULT_PROFILE, jacksonMapper);
+
+        // then
+        assertThat(profiles).isEmpty();
+    }
+
+    @Test
+    public void readProfilesShouldFailIfContentIsNotObject() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BidderSimulator.readProfiles("[]".getBytes(), DEFAULT_PROFILE, jacksonMapper))
+                .withMessage("Bidder profiles should be a JSON object keyed by bidder name");
+    }
+
+    @Test
+    public void readProfilesShouldFailIfBidderProfileIsNotObject() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BidderSimulator.readProfiles("{\"rubicon\":1}".getBytes(), DEFAULT_PROFILE,
+                        jacksonMapper))
+                .withMessage("Profile of bidder rubicon should be a JSON object");
+    }
+}
@@ -0,0 +1,277 @@
+package org.prebid.server.load;
+
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.prebid.server.vertx.http.BasicHttpClient;
+import org.prebid.server.vertx.http.HttpClient;
+
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Drives an endpoint with fixed request rate and reports throughput and latency percentiles.
+ * <p>
+ * Generator runs in its own JVM, so GC activity of the server under test is read by {@link #main(String[])} from
+ * the server JVM over JMX if its address is given.
+ * <p>
+ * Requests are fired every {@link #TICK_MS} milliseconds so that the average rate matches target QPS.
+ * Latency is measured from the moment request is fired, so it includes time spent in the client connection queue.
+ */
+public class LoadGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private static final long TICK_MS = 10L;
+
+    private final Vertx vertx;
+    private final HttpClient httpClient;
+
+    public LoadGenerator(Vertx vertx, HttpClient httpClient) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.httpClient = Objects.requireNonNull(httpClient);
+    }
+
+    /**
+     * Sends requests to the given url with the given body (GET request if body is null) with target QPS
+     * during the given period of time and resolves to {@link Report} when all responses are received.
+     */
+    public Future<Report> run(HttpMethod method, String url, MultiMap headers, String body, int qps,
+                              long durationMs, long timeoutMs) {
+
+        final Promise<Report> promise = Promise.promise();
+        vertx.runOnContext(ignored -> start(method, url, headers, body, qps, durationMs, timeoutMs, promise));
+        return promise.future();
+    }
+
+    private void start(HttpMethod method, String url, MultiMap headers, String body, int qps, long durationMs,
+                       long timeoutMs, Promise<Report> promise) {
+
+        final RunState state = new RunState(System.nanoTime());
+        final double requestsPerTick = qps * TICK_MS / 1000D;
+
+        vertx.setPeriodic(TICK_MS, timerId -> {
+            if (System.nanoTime() - state.startNanos >= durationMs * 1_000_000L) {
+                vertx.cancelTimer(timerId);
+                state.firingFinished = true;
+                completeIfDone(state, promise);
+                return;
+            }
+
+            state.requestsToFire += requestsPerTick;
+            while (state.requestsToFire >= 1D) {
+                state.requestsToFire--;
+                fire(method, url, headers, body, timeoutMs, state, promise);
+            }
+        });
+    }
+
+    private void fire(HttpMethod method, String url, MultiMap headers, String body, long timeoutMs,
+                      RunState state, Promise<Report> promise) {
+
+        final long requestStartNanos = System.nanoTime();
+        state.inFlight++;
+
+        httpClient.request(method, url, headers, body, timeoutMs).setHandler(result -> {
+            state.inFlight--;
+            state.latenciesMicros.add((System.nanoTime() - requestStartNanos) / 1000L);
+            if (result.failed() || result.result().getStatusCode() >= 400) {
+                state.errors++;
+            }
+            completeIfDone(state, promise);
+        });
+    }
+
+    private static void completeIfDone(RunState state, Promise<Report> promise) {
+        if (state.firingFinished && state.inFlight == 0) {
+            promise.tryComplete(state.toReport(System.nanoTime()));
+        }
+    }
+
+    private static class RunState {
+
+        private final long startNanos;
+
+        private final List<Long> latenciesMicros = new ArrayList<>();
+
+        private double requestsToFire;
+
+        private int inFlight;
+
+        private long errors;
+
+        private boolean firingFinished;
+
+        RunState(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        Report toReport(long endNanos) {
+            Collections.sort(latenciesMicros);
+            final double durationSeconds = (endNanos - startNanos) / 1_000_000_000D;
+
+            return new Report(
+                    latenciesMicros.size(),
+                    errors,
+                    latenciesMicros.size() / durationSeconds,
+                    percentile(0.5D),
+                    percentile(0.9D),
+                    percentile(0.99D),
+                    percentile(1D));
+        }
+
+        private long percentile(double percentile) {
+            if (latenciesMicros.isEmpty()) {
+                return 0L;
+            }
+            final int index = (int) Math.ceil(percentile * latenciesMicros.size()) - 1;
+            return latenciesMicros.get(Math.max(0, index));
+        }
+    }
+
+    public static class Report {
+
+        private final long requests;
+
+        private final long errors;
+
+        private final double throughput;
+
+        private final long p50Micros;
+
+        private final long p90Micros;
+
+        private final long p99Micros;
+
+        private final long maxMicros;
+
+        Report(long requests, long errors, double throughput, long p50Micros, long p90Micros, long p99Micros,
+               long maxMicros) {
+            this.requests = requests;
+            this.errors = errors;
+            this.throughput = throughput;
+            this.p50Micros = p50Micros;
+            this.p90Micros = p90Micros;
+            this.p99Micros = p99Micros;
+            this.maxMicros = maxMicros;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("requests: %d, errors: %d, throughput: %.1f rps, latency p50: %.1f ms, "
+                            + "p90: %.1f ms, p99: %.1f ms, max: %.1f ms",
+                    requests, errors, throughput, p50Micros / 1000D, p90Micros / 1000D, p99Micros / 1000D,
+                    maxMicros / 1000D);
+        }
+    }
+
+    /**
+     * Garbage collectors of the server JVM read over JMX connection.
+     */
+    private static class ServerGc implements AutoCloseable {
+
+        private final JMXConnector connector;
+
+        private final List<GarbageCollectorMXBean> collectors;
+
+        private ServerGc(JMXConnector connector, List<GarbageCollectorMXBean> collectors) {
+            this.connector = connector;
+            this.collectors = collectors;
+        }
+
+        /**
+         * Connects to JVM started with {@code -Dcom.sun.management.jmxremote.port} option, address is host:port.
+         */
+        static ServerGc connect(String address) throws IOException {
+            final JMXConnector connector = JMXConnectorFactory.connect(
+                    new JMXServiceURL(String.format("service:jmx:rmi:///jndi/rmi://%s/jmxrmi", address)));
+            return new ServerGc(connector, ManagementFactory.getPlatformMXBeans(
+                    connector.getMBeanServerConnection(), GarbageCollectorMXBean.class));
+        }
+
+        long count() {
+            return collectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+        }
+
+        long timeMs() {
+            return collectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+        }
+
+        @Override
+        public void close() throws IOException {
+            connector.close();
+        }
+    }
+
+    /**
+     * Arguments: url qps durationSeconds [bodyFile [serverJmxAddress]]
+     * <p>
+     * POST request is sent if body file is given, otherwise GET ("-" stands for no body when JMX address follows).
+     * Server GC activity during the run is reported if server JMX address (host:port) is given.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            logger.error("Usage: LoadGenerator <url> <qps> <durationSeconds> [bodyFile [serverJmxAddress]]");
+            return;
+        }
+
+        final String bodyFile = args.length > 3 && !"-".equals(args[3]) ? args[3] : null;
+        final String body = bodyFile != null
+                ? new String(Files.readAllBytes(Paths.get(bodyFile)), StandardCharsets.UTF_8)
+                : null;
+        final ServerGc serverGc = args.length > 4 ? ServerGc.connect(args[4]) : null;
+
+        final Vertx vertx = Vertx.vertx();
+        final HttpClient httpClient = new BasicHttpClient(vertx, vertx.createHttpClient(new HttpClientOptions()
+                .setMaxPoolSize(1000)
+                .setKeepAlive(true)));
+
+        try {
+            final long startGcCount = serverGc != null ? serverGc.count() : 0L;
+            final long startGcTimeMs = serverGc != null ? serverGc.timeMs() : 0L;
+
+            final CompletableFuture<Report> report = new CompletableFuture<>();
+            new LoadGenerator(vertx, httpClient)
+                    .run(body != null ? HttpMethod.POST : HttpMethod.GET, args[0], null, body,
+                            Integer.parseInt(args[1]), Long.parseLong(args[2]) * 1000L, 5000L)
+                    .setHandler(result -> {
+                        if (result.succeeded()) {
+                            report.complete(result.result());
+                        } else {
+                            report.completeExceptionally(result.cause());
+                        }
+                    });
+
+            logger.info("Load test finished: {0}", report.get());
+            if (serverGc != null) {
+                logger.info("Server gc: {0} collections, {1} ms", serverGc.count() - startGcCount,
+                        serverGc.timeMs() - startGcTimeMs);
+            }
+        } catch (Exception e) {
+            logger.error("Load test failed", e);
+        } finally {
+            if (serverGc != null) {
+                serverGc.close();
+            }
+            vertx.close();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.prebid.server.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderDeps;
+import org.prebid.server.bidder.BidderInstanceDeps;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.proto.response.BidderInfo;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * Compares validation of typical bidder params by schema with lookup of cached result, which costs digest of
+ * params tree on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BidderParamValidatorBenchmark {
+
+    private static final String RUBICON = "rubicon";
+
+    private BidderParamValidator uncachedValidator;
+
+    private BidderParamValidator cachedValidator;
+
+    private JsonNode params;
+
+    @Setup
+    public void setUp() throws IOException {
+        final JacksonMapper mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+        final BidderCatalog bidderCatalog = new BidderCatalog(singletonList(BidderDeps.of(singletonList(
+                BidderInstanceDeps.builder()
+                        .name(RUBICON)
+                        .deprecatedNames(emptyList())
+                        .bidderInfo(BidderInfo.create(true, null, null, null, null, null, 0, true, true, false))
+                        .build()))));
+
+        uncachedValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", 0, true, mapper);
+        cachedValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", 10000, true, mapper);
+        params = mapper.mapper().readTree("{\"accountId\":1001,\"siteId\":113932,\"zoneId\":535510,"
+                + "\"inventory\":{\"rating\":[\"5-star\"],\"prodtype\":[\"tech\"]},"
+                + "\"visitor\":{\"ucat\":[\"new\"],\"search\":[\"iphone\"]},\"video\":{\"size_id\":201}}");
+    }
+
+    @Benchmark
+    public Set<String> validateBySchema() {
+        return uncachedValidator.validate(RUBICON, params);
+    }
+
+    @Benchmark
+    public Set<String> validateCached() {
+        return cachedValidator.validate(RUBICON, params);
+    }
+}
@@ -0,0 +1,127 @@
+package org.prebid.server.vertx.timer;
+
+import io.netty.util.internal.DefaultPriorityQueue;
+import io.netty.util.internal.PriorityQueueNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps 10k concurrent deadlines like event loops do under load: each deadline is scheduled, most of them are
+ * cancelled because request completed in time and the rest expire.
+ * <p>
+ * Vert.x timers are kept in Netty's scheduled task queue, which is the indexed binary heap used as a baseline here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeadlineSchedulerBenchmark {
+
+    private static final int DEADLINES = 10_000;
+    private static final int EXPIRED_PERCENT = 2;
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private long[] delaysMs;
+
+    private boolean[] expires;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        delaysMs = new long[DEADLINES];
+        expires = new boolean[DEADLINES];
+        for (int i = 0; i < DEADLINES; i++) {
+            delaysMs[i] = 50 + random.nextInt(950);
+            expires[i] = random.nextInt(100) < EXPIRED_PERCENT;
+        }
+    }
+
+    @Benchmark
+    public void timerWheel(Blackhole blackhole) {
+        final HashedTimerWheel wheel = new HashedTimerWheel(1, 512, 0);
+        final Runnable handler = () -> blackhole.consume(1);
+
+        final HashedTimerWheel.Entry[] entries = new HashedTimerWheel.Entry[DEADLINES];
+        for (int i = 0; i < DEADLINES; i++) {
+            entries[i] = wheel.schedule(delaysMs[i], handler, 0);
+        }
+        for (int i = 0; i < DEADLINES; i++) {
+            if (!expires[i]) {
+                entries[i].cancel();
+            }
+        }
+
+        long nowNanos = 0;
+        while (!wheel.isEmpty()) {
+            nowNanos += TICK_NANOS;
+            wheel.advance(nowNanos);
+        }
+    }
+
+    @Benchmark
+    public void priorityQueue(Blackhole blackhole) {
+        final DefaultPriorityQueue<HeapEntry> queue = new DefaultPriorityQueue<>(
+                Comparator.comparingLong(entry -> entry.deadlineNanos), DEADLINES);
+        final Runnable handler = () -> blackhole.consume(1);
+
+        final HeapEntry[] entries = new HeapEntry[DEADLINES];
+        for (int i = 0; i < DEADLINES; i++) {
+            entries[i] = new HeapEntry(TimeUnit.MILLISECONDS.toNanos(delaysMs[i]), handler);
+            queue.offer(entries[i]);
+        }
+        for (int i = 0; i < DEADLINES; i++) {
+            if (!expires[i]) {
+                queue.removeTyped(entries[i]);
+            }
+        }
+
+        long nowNanos = 0;
+        while (!queue.isEmpty()) {
+            nowNanos += TICK_NANOS;
+            HeapEntry entry = queue.peek();
+            while (entry != null && entry.deadlineNanos <= nowNanos) {
+                queue.poll().handler.run();
+                entry = queue.peek();
+            }
+        }
+    }
+
+    private static class HeapEntry implements PriorityQueueNode {
+
+        private final long deadlineNanos;
+
+        private final Runnable handler;
+
+        private int queueIndex = INDEX_NOT_IN_QUEUE;
+
+        HeapEntry(long deadlineNanos, Runnable handler) {
+            this.deadlineNanos = deadlineNanos;
+            this.handler = handler;
+        }
+
+        @Override
+        public int priorityQueueIndex(DefaultPriorityQueue<?> queue) {
+            return queueIndex;
+        }
+
+        @Override
+        public void priorityQueueIndex(DefaultPriorityQueue<?> queue, int index) {
+            queueIndex = index;
+        }
+    }
+}
@@ -24,6 +24,8 @@ import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageClock;
 import org.prebid.server.auction.model.BidInfo;
 import org.prebid.server.auction.model.BidRequestCacheInfo;
 import org.prebid.server.auction.model.BidderResponse;
@@ -84,10 +86,12 @@ import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -113,6 +117,7 @@ public class BidResponseCreator {
     private final StoredRequestProcessor storedRequestProcessor;
     private final IdGenerator bidIdGenerator;
     private final int truncateAttrChars;
+    private final boolean debugStageTimes;
     private final Clock clock;
     private final JacksonMapper mapper;
 
@@ -129,6 +134,7 @@ public class BidResponseCreator {
                               WinningBidComparator winningBidComparator,
                               IdGenerator bidIdGenerator,
                               int truncateAttrChars,
+                              boolean debugStageTimes,
                               Clock clock,
                               JacksonMapper mapper) {
 
@@ -140,6 +146,7 @@ public class BidResponseCreator {
         this.winningBidComparator = Objects.requireNonNull(winningBidComparator);
         this.bidIdGenerator = Objects.requireNonNull(bidIdGenerator);
         this.truncateAttrChars = validateTruncateAttrChars(truncateAttrChars);
+        this.debugStageTimes = debugStageTimes;
         this.clock = Objects.requireNonNull(clock);
         this.mapper = Objects.requireNonNull(mapper);
 
@@ -180,7 +187,7 @@ public class BidResponseCreator {
                 eventsContext);
 
         if (isEmptyBidderResponses(bidderResponseInfos)) {
-            return Future.succeededFuture(BidResponse.builder()
+            final BidResponse bidResponse = BidResponse.builder()
                     .id(bidRequest.getId())
                     .cur(bidRequest.getCur().get(0))
                     .nbr(0) // signal "Unknown Error"
@@ -193,7 +200,8 @@ public class BidResponseCreator {
                             auctionTimestamp,
                             debugEnabled,
                             null)))
-                    .build());
+                    .build();
+            return Future.succeededFuture(auctionContext.markStage(AuctionStage.response_creation, bidResponse));
         }
 
         return cacheBidsAndCreateResponse(
@@ -333,7 +341,8 @@ public class BidResponseCreator {
                                 cacheResult,
                                 videoStoredDataResult,
                                 eventsContext,
-                                debugEnabled)));
+                                debugEnabled)))
+                .map(bidResponse -> auctionContext.markStage(AuctionStage.response_creation, bidResponse));
     }
 
     private static ExtRequestTargeting targeting(BidRequest bidRequest) {
@@ -493,7 +502,8 @@ public class BidResponseCreator {
         final BidRequest bidRequest = auctionContext.getBidRequest();
 
         final ExtResponseDebug extResponseDebug = debugEnabled
-                ? ExtResponseDebug.of(toExtHttpCalls(bidderResponseInfos, cacheResult), bidRequest)
+                ? ExtResponseDebug.of(toExtHttpCalls(bidderResponseInfos, cacheResult), bidRequest,
+                debugStageTimes ? toStageTimes(auctionContext.getStageClock()) : null)
                 : null;
 
         final Map<String, List<ExtBidderError>> errors =
@@ -530,7 +540,11 @@ public class BidResponseCreator {
                 .shouldCacheVideoBids(cacheInfo.isShouldCacheVideoBids())
                 .build();
 
+        // time spent on Prebid Cache call is recorded separately from the rest of response creation
+        auctionContext.markStage(AuctionStage.response_creation);
+
         return cacheService.cacheBidsOpenrtb(bidsValidToBeCached, auctionContext, cacheContext, eventsContext)
+                .map(cacheResult -> auctionContext.markStage(AuctionStage.prebid_cache, cacheResult))
                 .map(cacheResult -> addNotCachedBids(cacheResult, bidsToCache));
     }
 
@@ -568,6 +582,20 @@ public class BidResponseCreator {
         return cacheResult;
     }
 
+    /**
+     * Returns durations in microseconds of the auction stages completed before response creation, if they are timed.
+     */
+    private static Map<String, Long> toStageTimes(AuctionStageClock stageClock) {
+        if (stageClock == null) {
+            return null;
+        }
+
+        final Map<String, Long> stageTimes = new LinkedHashMap<>();
+        stageClock.forEachRecorded((stage, nanos) ->
+                stageTimes.put(stage.metricName().toString(), TimeUnit.NANOSECONDS.toMicros(nanos)));
+        return stageTimes;
+    }
+
     private static Map<String, List<ExtHttpCall>> toExtHttpCalls(List<BidderResponseInfo> bidderResponses,
                                                                  CacheServiceResult cacheResult) {
         final Map<String, List<ExtHttpCall>> bidderHttpCalls = bidderResponses.stream()
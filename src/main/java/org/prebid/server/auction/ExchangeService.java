@@ -24,6 +24,8 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageClock;
 import org.prebid.server.auction.model.BidRequestCacheInfo;
 import org.prebid.server.auction.model.BidderPrivacyResult;
 import org.prebid.server.auction.model.BidderRequest;
@@ -44,6 +46,7 @@ import org.prebid.server.execution.Timeout;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.overload.OverloadController;
 import org.prebid.server.proto.openrtb.ext.ExtPrebidBidders;
 import org.prebid.server.proto.openrtb.ext.request.BidAdjustmentMediaType;
 import org.prebid.server.proto.openrtb.ext.request.ExtApp;
@@ -76,6 +79,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -111,6 +115,7 @@ public class ExchangeService {
     private final CurrencyConversionService currencyService;
     private final BidResponseCreator bidResponseCreator;
     private final BidResponsePostProcessor bidResponsePostProcessor;
+    private final OverloadController overloadController;
     private final Metrics metrics;
     private final Clock clock;
     private final JacksonMapper mapper;
@@ -126,6 +131,7 @@ public class ExchangeService {
                            CurrencyConversionService currencyService,
                            BidResponseCreator bidResponseCreator,
                            BidResponsePostProcessor bidResponsePostProcessor,
+                           OverloadController overloadController,
                            Metrics metrics,
                            Clock clock,
                            JacksonMapper mapper) {
@@ -144,6 +150,7 @@ public class ExchangeService {
         this.currencyService = Objects.requireNonNull(currencyService);
         this.bidResponseCreator = Objects.requireNonNull(bidResponseCreator);
         this.bidResponsePostProcessor = Objects.requireNonNull(bidResponsePostProcessor);
+        this.overloadController = Objects.requireNonNull(overloadController);
         this.metrics = Objects.requireNonNull(metrics);
         this.clock = Objects.requireNonNull(clock);
         this.mapper = Objects.requireNonNull(mapper);
@@ -163,16 +170,25 @@ public class ExchangeService {
         final List<SeatBid> storedAuctionResponses = new ArrayList<>();
         final BidderAliases aliases = aliases(bidRequest);
         final String publisherId = account.getId();
-        final BidRequestCacheInfo cacheInfo = bidRequestCacheInfo(bidRequest);
-        final boolean debugEnabled = isDebugEnabled(bidRequest);
+        final MetricName requestTypeMetric = context.getRequestTypeMetric();
+        final boolean degraded = overloadController.shouldDegrade(requestTypeMetric, publisherId);
+        if (degraded) {
+            metrics.updateOverloadDegradedMetric(requestTypeMetric);
+        }
+        final BidRequestCacheInfo cacheInfo = degraded
+                ? essentialCacheInfo(bidRequestCacheInfo(bidRequest), requestTypeMetric)
+                : bidRequestCacheInfo(bidRequest);
+        final boolean debugEnabled = !degraded && isDebugEnabled(bidRequest);
         final Map<String, MultiBidConfig> bidderToMultiBid = bidderToMultiBids(bidRequest, debugWarnings);
 
         return storedResponseProcessor.getStoredResponseResult(bidRequest.getImp(), timeout)
                 .map(storedResponseResult -> populateStoredResponse(storedResponseResult, storedAuctionResponses))
                 .compose(storedResponseResult -> extractBidderRequests(
                         context, storedResponseResult, aliases, bidderToMultiBid))
+                .map(bidderRequests -> degraded ? withoutLowPriorityBidders(bidderRequests) : bidderRequests)
                 .map(bidderRequests -> updateRequestMetric(
-                        bidderRequests, uidsCookie, aliases, publisherId, context.getRequestTypeMetric()))
+                        bidderRequests, uidsCookie, aliases, publisherId, requestTypeMetric))
+                .map(bidderRequests -> context.markStage(AuctionStage.bidder_requests, bidderRequests))
                 .compose(bidderRequests -> CompositeFuture.join(
                         bidderRequests.stream()
                                 .map(bidderRequest -> requestBids(
@@ -183,6 +199,7 @@ public class ExchangeService {
                                 .collect(Collectors.toList())))
                 // send all the requests to the bidders and gathers results
                 .map(CompositeFuture::<BidderResponse>list)
+                .map(bidderResponses -> context.markStage(AuctionStage.bidder_responses, bidderResponses))
                 .map(bidderResponses -> storedResponseProcessor.mergeWithBidderResponses(
                         bidderResponses, storedAuctionResponses, bidRequest.getImp()))
                 .map(bidderResponses -> validateAndAdjustBids(bidderResponses, context, aliases))
@@ -194,6 +211,7 @@ public class ExchangeService {
                         cacheInfo,
                         bidderToMultiBid,
                         debugEnabled))
+                .map(bidResponse -> updateAuctionStageMetrics(context, bidResponse))
                 .compose(bidResponse -> bidResponsePostProcessor.postProcess(
                         context.getRoutingContext(), uidsCookie, bidRequest, bidResponse, account));
     }
@@ -253,6 +271,34 @@ public class ExchangeService {
         return BidRequestCacheInfo.noCache();
     }
 
+    /**
+     * Leaves only caching the response can not do without while server is overloaded: AMP and video responses
+     * refer to cached creatives, as well as VAST XML cached for video bids of other requests.
+     */
+    private static BidRequestCacheInfo essentialCacheInfo(BidRequestCacheInfo cacheInfo, MetricName requestType) {
+        if (requestType == MetricName.amp || requestType == MetricName.video || !cacheInfo.isShouldCacheBids()) {
+            return cacheInfo;
+        }
+
+        return cacheInfo.toBuilder()
+                .doCaching(cacheInfo.isShouldCacheVideoBids())
+                .shouldCacheBids(false)
+                .cacheBidsTtl(null)
+                .returnCreativeBids(false)
+                .shouldCacheWinningBidsOnly(
+                        cacheInfo.isShouldCacheVideoBids() && cacheInfo.isShouldCacheWinningBidsOnly())
+                .build();
+    }
+
+    /**
+     * Drops requests to bidders configured as low-priority while server is overloaded.
+     */
+    private List<BidderRequest> withoutLowPriorityBidders(List<BidderRequest> bidderRequests) {
+        return bidderRequests.stream()
+                .filter(bidderRequest -> !overloadController.isLowPriorityBidder(bidderRequest.getBidder()))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Determines debug flag from {@link BidRequest} or {@link ExtRequest}.
      */
@@ -654,6 +700,7 @@ public class ExchangeService {
                                                   Map<String, ExtBidderConfigOrtb> biddersToConfigs) {
 
         final Map<String, JsonNode> bidderToPrebidBidders = bidderToPrebidBidders(bidRequest);
+        final Map<Imp, JsonNode> impToCleanedExtPrebid = impToCleanedExtPrebid(imps);
 
         final List<BidderRequest> bidderRequests = bidderPrivacyResults.stream()
                 // for each bidder create a new request that is a copy of original request except buyerid, imp
@@ -666,7 +713,8 @@ public class ExchangeService {
                         imps,
                         bidderToMultiBid,
                         biddersToConfigs,
-                        bidderToPrebidBidders))
+                        bidderToPrebidBidders,
+                        impToCleanedExtPrebid))
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
 
@@ -704,7 +752,8 @@ public class ExchangeService {
                                               List<Imp> imps,
                                               Map<String, MultiBidConfig> bidderToMultiBid,
                                               Map<String, ExtBidderConfigOrtb> biddersToConfigs,
-                                              Map<String, JsonNode> bidderToPrebidBidders) {
+                                              Map<String, JsonNode> bidderToPrebidBidders,
+                                              Map<Imp, JsonNode> impToCleanedExtPrebid) {
 
         final String bidder = bidderPrivacyResult.getRequestBidder();
         if (bidderPrivacyResult.isBlockedRequestByTcf()) {
@@ -737,7 +786,7 @@ public class ExchangeService {
                 // User was already prepared above
                 .user(bidderPrivacyResult.getUser())
                 .device(bidderPrivacyResult.getDevice())
-                .imp(prepareImps(bidder, imps, useFirstPartyData))
+                .imp(prepareImps(bidder, imps, impToCleanedExtPrebid, useFirstPartyData))
                 .app(prepareApp(bidRequestApp, fpdApp, useFirstPartyData))
                 .site(prepareSite(bidRequestSite, fpdSite, useFirstPartyData))
                 .source(prepareSource(bidder, bidRequest))
@@ -745,15 +794,32 @@ public class ExchangeService {
                 .build());
     }
 
+    /**
+     * Returns imp.ext.prebid without bidders params for each imp, or null if nothing else is left in imp.ext.prebid.
+     * <p>
+     * It doesn't depend on bidder, so it is computed once per auction instead of once per each bidder and imp.
+     */
+    private Map<Imp, JsonNode> impToCleanedExtPrebid(List<Imp> imps) {
+        final Map<Imp, JsonNode> impToCleanedExtPrebid = new IdentityHashMap<>(imps.size());
+        for (Imp imp : imps) {
+            impToCleanedExtPrebid.put(imp, cleanBidderParamsFromImpExtPrebid(imp.getExt().get(PREBID_EXT)));
+        }
+        return impToCleanedExtPrebid;
+    }
+
     /**
      * For each given imp creates a new imp with extension crafted to contain only "prebid", "context" and
      * bidder-specific extension.
      */
-    private List<Imp> prepareImps(String bidder, List<Imp> imps, boolean useFirstPartyData) {
+    private List<Imp> prepareImps(String bidder,
+                                  List<Imp> imps,
+                                  Map<Imp, JsonNode> impToCleanedExtPrebid,
+                                  boolean useFirstPartyData) {
+
         return imps.stream()
                 .filter(imp -> bidderParamsFromImpExt(imp.getExt()).hasNonNull(bidder))
                 .map(imp -> imp.toBuilder()
-                        .ext(prepareImpExt(bidder, imp.getExt(), useFirstPartyData))
+                        .ext(prepareImpExt(bidder, imp.getExt(), impToCleanedExtPrebid.get(imp), useFirstPartyData))
                         .build())
                 .collect(Collectors.toList());
     }
@@ -767,14 +833,22 @@ public class ExchangeService {
      * <li>"data" field populated with an imp.ext.data field value, may be null</li>
      * </ul>
      */
-    private ObjectNode prepareImpExt(String bidder, ObjectNode impExt, boolean useFirstPartyData) {
-        final ObjectNode modifiedImpExt = impExt.deepCopy();
-
-        final JsonNode impExtPrebid = cleanBidderParamsFromImpExtPrebid(impExt.get(PREBID_EXT));
-        if (impExtPrebid == null) {
-            modifiedImpExt.remove(PREBID_EXT);
-        } else {
-            modifiedImpExt.set(PREBID_EXT, impExtPrebid);
+    private ObjectNode prepareImpExt(String bidder,
+                                     ObjectNode impExt,
+                                     JsonNode cleanedImpExtPrebid,
+                                     boolean useFirstPartyData) {
+
+        // copy field by field to avoid deep copying of imp.ext.prebid.bidder containing params of all bidders
+        final ObjectNode modifiedImpExt = mapper.mapper().createObjectNode();
+        final Iterator<Map.Entry<String, JsonNode>> fields = impExt.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final String fieldName = field.getKey();
+            if (!Objects.equals(fieldName, PREBID_EXT)) {
+                modifiedImpExt.set(fieldName, field.getValue().deepCopy());
+            } else if (cleanedImpExtPrebid != null) {
+                modifiedImpExt.set(PREBID_EXT, cleanedImpExtPrebid.deepCopy());
+            }
         }
 
         modifiedImpExt.set(BIDDER_EXT, bidderParamsFromImpExt(impExt).get(bidder));
@@ -981,8 +1055,20 @@ public class ExchangeService {
         final Bidder<?> bidder = bidderCatalog.bidderByName(aliases.resolveBidder(bidderName));
         final long startTime = clock.millis();
 
+        overloadController.bidderRequestStarted();
         return httpBidderRequester.requestBids(bidder, bidderRequest, timeout, debugEnabled)
-                .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(startTime)));
+                .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(startTime)))
+                .compose(this::bidderRequestFinished, this::bidderRequestFinished);
+    }
+
+    private <T> Future<T> bidderRequestFinished(T result) {
+        overloadController.bidderRequestFinished();
+        return Future.succeededFuture(result);
+    }
+
+    private <T> Future<T> bidderRequestFinished(Throwable exception) {
+        overloadController.bidderRequestFinished();
+        return Future.failedFuture(exception);
     }
 
     private List<BidderResponse> validateAndAdjustBids(
@@ -1251,6 +1337,19 @@ public class ExchangeService {
         return bidderResponses;
     }
 
+    /**
+     * Updates metrics with durations of the auction stages recorded while processing the request.
+     */
+    private BidResponse updateAuctionStageMetrics(AuctionContext context, BidResponse bidResponse) {
+        final AuctionStageClock stageClock = context.getStageClock();
+        if (stageClock != null) {
+            final MetricName requestType = context.getRequestTypeMetric();
+            stageClock.forEachRecorded((stage, nanos) ->
+                    metrics.updateAuctionStageTimeMetric(requestType, stage.metricName(), nanos));
+        }
+        return bidResponse;
+    }
+
     /**
      * Resolves {@link MetricName} by {@link BidderError.Type} value.
      */
@@ -6,14 +6,19 @@ import inet.ipaddr.IPAddressString;
 import inet.ipaddr.IPAddressStringParameters;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
-import org.apache.commons.lang3.StringUtils;
-import org.apache.http.conn.util.InetAddressUtils;
 import org.prebid.server.auction.model.IpAddress;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
+/**
+ * Validates, classifies and masks IP addresses.
+ * <p>
+ * Common notations are handled by {@link IpAddressParser} and bit operations over precompiled
+ * {@link IpAddressRangeTable}s of non-public networks, the rest is handled by IPAddress library.
+ */
 public class IpAddressHelper {
 
     private static final Logger logger = LoggerFactory.getLogger(IpAddressHelper.class);
@@ -24,10 +29,23 @@ public class IpAddressHelper {
                     .allowEmpty(false)
                     .toParams();
 
+    // local, loopback, multicast and max addresses as classified by IPAddress library
+    private static final List<String> IPV4_NON_PUBLIC_NETWORKS = Arrays.asList("0.0.0.0/32", "10.0.0.0/8",
+            "127.0.0.0/8", "169.254.0.0/16", "172.16.0.0/12", "192.168.0.0/16", "224.0.0.0/4", "255.255.255.255/32");
+    private static final List<String> IPV6_NON_PUBLIC_NETWORKS = Arrays.asList("::/128", "::1/128", "fc00::/7",
+            "fe80::/10", "fec0::/10", "ff00::/8");
+
     private final IPAddress ipv6AlwaysMaskAddress;
     private final IPAddress ipv6AnonLeftMaskAddress;
     private final List<IPAddress> ipv6LocalNetworkMaskAddresses;
 
+    private final long ipv6AlwaysMaskHigh;
+    private final long ipv6AlwaysMaskLow;
+    private final long ipv6AnonLeftMaskHigh;
+    private final long ipv6AnonLeftMaskLow;
+    private final IpAddressRangeTable ipv4NonPublicRanges;
+    private final IpAddressRangeTable ipv6NonPublicRanges;
+
     public IpAddressHelper(int ipv6AlwaysMaskBits, int ipv6AnonLeftMaskBits, List<String> ipv6LocalNetworks) {
         ipv6AlwaysMaskAddress =
                 toAddress(String.format("::/%d", validateIpv6AlwaysMaskBits(ipv6AlwaysMaskBits))).getNetworkMask();
@@ -36,9 +54,25 @@ public class IpAddressHelper {
         ipv6LocalNetworkMaskAddresses = ipv6LocalNetworks.stream()
                 .map(this::toAddress)
                 .collect(Collectors.toList());
+
+        ipv6AlwaysMaskHigh = maskHigh(ipv6AlwaysMaskBits);
+        ipv6AlwaysMaskLow = maskLow(ipv6AlwaysMaskBits);
+        ipv6AnonLeftMaskHigh = maskHigh(ipv6AnonLeftMaskBits);
+        ipv6AnonLeftMaskLow = maskLow(ipv6AnonLeftMaskBits);
+        ipv4NonPublicRanges = nonPublicRanges(IPV4_NON_PUBLIC_NETWORKS, ipv6LocalNetworkMaskAddresses, true);
+        ipv6NonPublicRanges = nonPublicRanges(IPV6_NON_PUBLIC_NETWORKS, ipv6LocalNetworkMaskAddresses, false);
     }
 
     public String anonymizeIpv6(String ip) {
+        final long[] words = new long[2];
+        if (IpAddressParser.parseIpv6(ip, words)) {
+            return IpAddressParser.toCanonicalIpv6(
+                    words[0] & ipv6AnonLeftMaskHigh, words[1] & ipv6AnonLeftMaskLow, ip);
+        }
+        if (IpAddressParser.parseIpv4(ip) != IpAddressParser.NOT_PARSED) {
+            return null;
+        }
+
         try {
             final IPAddressString ipAddressString = new IPAddressString(ip);
             return ipAddressString.isIPv6()
@@ -51,6 +85,19 @@ public class IpAddressHelper {
     }
 
     public IpAddress toIpAddress(String ip) {
+        final long ipv4 = IpAddressParser.parseIpv4(ip);
+        if (ipv4 != IpAddressParser.NOT_PARSED) {
+            return ipv4NonPublicRanges.contains(0L, ipv4) ? null : IpAddress.of(ip, IpAddress.IP.v4);
+        }
+
+        final long[] words = new long[2];
+        if (IpAddressParser.parseIpv6(ip, words)) {
+            return ipv6NonPublicRanges.contains(words[0], words[1])
+                    ? null
+                    : IpAddress.of(IpAddressParser.toCanonicalIpv6(
+                            words[0] & ipv6AlwaysMaskHigh, words[1] & ipv6AlwaysMaskLow, ip), IpAddress.IP.v6);
+        }
+
         final IPAddress ipAddress = toIpAddressInternal(ip);
 
         if (ipAddress == null) {
@@ -75,21 +122,14 @@ public class IpAddressHelper {
     }
 
     public String maskIpv4(String ip) {
-        if (StringUtils.isBlank(ip) || !InetAddressUtils.isIPv4Address(ip)) {
+        final long ipv4 = IpAddressParser.parseIpv4(ip);
+        // addresses with zero first octet are not considered valid for masking
+        if (ipv4 == IpAddressParser.NOT_PARSED || ipv4 >>> 24 == 0 || (ipv4 & 0xff) == 0) {
             return ip;
         }
-        String maskedIp = ip;
-        for (int i = 0; i < 1; i++) {
-            if (maskedIp.contains(".")) {
-                maskedIp = maskedIp.substring(0, maskedIp.lastIndexOf("."));
-            } else {
-                // ip is malformed
-                return ip;
-            }
-        }
-        return String.format("%s%s", maskedIp,
-                IntStream.range(0, 1).mapToObj(ignored -> "0")
-                        .collect(Collectors.joining(".", ".", "")));
+
+        final int lastOctetIndex = ip.lastIndexOf('.') + 1;
+        return new StringBuilder(lastOctetIndex + 1).append(ip, 0, lastOctetIndex).append('0').toString();
     }
 
     private String maskIpv6(IPAddress ipAddress) {
@@ -116,6 +156,24 @@ public class IpAddressHelper {
         return ipv6AnonLeftMaskBits;
     }
 
+    private static long maskHigh(int bits) {
+        return bits >= 64 ? -1L : -1L << (64 - bits);
+    }
+
+    private static long maskLow(int bits) {
+        return bits <= 64 ? 0L : -1L << (128 - bits);
+    }
+
+    private IpAddressRangeTable nonPublicRanges(List<String> reservedNetworks,
+                                                List<IPAddress> localNetworks,
+                                                boolean ipv4) {
+
+        final List<IPAddress> networks = new ArrayList<>();
+        reservedNetworks.stream().map(this::toAddress).forEach(networks::add);
+        localNetworks.stream().filter(network -> network.isIPv4() == ipv4).forEach(networks::add);
+        return IpAddressRangeTable.of(networks);
+    }
+
     private IPAddress toAddress(String address) {
         try {
             return new IPAddressString(address).toAddress();
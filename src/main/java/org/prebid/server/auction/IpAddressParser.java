@@ -0,0 +1,214 @@
+package org.prebid.server.auction;
+
+/**
+ * Parses and prints IP addresses in their common textual forms without allocating intermediate objects.
+ * <p>
+ * Only plain dotted-decimal IPv4 and colon-hexadecimal IPv6 notations are accepted. Anything else (leading zeros
+ * in IPv4 octets, which may denote octal numbers, embedded IPv4 in IPv6, zones, prefixes, surrounding whitespace,
+ * etc.) is reported as not parsed, so that caller can fall back to full-featured parser.
+ */
+final class IpAddressParser {
+
+    static final long NOT_PARSED = -1L;
+
+    private static final int MAX_IPV6_LENGTH = 39;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private IpAddressParser() {
+    }
+
+    /**
+     * Returns IPv4 address as unsigned 32-bit value or {@link #NOT_PARSED}.
+     */
+    static long parseIpv4(String ip) {
+        final int length = ip != null ? ip.length() : 0;
+        if (length < 7 || length > 15) {
+            return NOT_PARSED;
+        }
+
+        long address = 0;
+        int octets = 0;
+        int octet = 0;
+        int digits = 0;
+        for (int i = 0; i <= length; i++) {
+            final char character = i < length ? ip.charAt(i) : '.';
+            if (character == '.') {
+                if (digits == 0 || ++octets > 4) {
+                    return NOT_PARSED;
+                }
+                address = address << 8 | octet;
+                octet = 0;
+                digits = 0;
+            } else if (character >= '0' && character <= '9') {
+                if (digits == 1 && octet == 0) {
+                    return NOT_PARSED;
+                }
+                octet = octet * 10 + (character - '0');
+                if (++digits > 3 || octet > 255) {
+                    return NOT_PARSED;
+                }
+            } else {
+                return NOT_PARSED;
+            }
+        }
+
+        return octets == 4 ? address : NOT_PARSED;
+    }
+
+    /**
+     * Parses IPv6 address into high and low 64 bits stored in the given pair, returns false if address is not
+     * parsed.
+     */
+    static boolean parseIpv6(String ip, long[] words) {
+        final int length = ip != null ? ip.length() : 0;
+        if (length < 2 || length > MAX_IPV6_LENGTH) {
+            return false;
+        }
+
+        final int doubleColon = ip.indexOf("::");
+        if (doubleColon < 0) {
+            return parseIpv6Groups(ip, 0, length, words) == 8;
+        }
+        if (ip.indexOf("::", doubleColon + 1) >= 0) {
+            return false;
+        }
+
+        final int headGroups = parseIpv6Groups(ip, 0, doubleColon, words);
+        final long headHigh = words[0];
+        final long headLow = words[1];
+        final int tailGroups = parseIpv6Groups(ip, doubleColon + 2, length, words);
+        if (headGroups < 0 || tailGroups < 0 || headGroups + tailGroups > 7) {
+            return false;
+        }
+
+        // tail is already in place, head is shifted over groups after it and compressed zeros
+        final int shift = (8 - headGroups) * 16;
+        if (shift >= 128) {
+            return true;
+        }
+        if (shift >= 64) {
+            words[0] |= headLow << (shift - 64);
+        } else {
+            words[0] |= headHigh << shift | headLow >>> (64 - shift);
+            words[1] |= headLow << shift;
+        }
+        return true;
+    }
+
+    /**
+     * Parses colon-separated groups in the given range into the pair, returns number of groups or -1 if range is
+     * malformed.
+     */
+    private static int parseIpv6Groups(String ip, int from, int to, long[] words) {
+        long high = 0;
+        long low = 0;
+        int groups = 0;
+
+        int group = 0;
+        int digits = 0;
+        // empty range has no groups, otherwise its end is treated as the last separator
+        for (int i = from; from < to && i <= to; i++) {
+            final char character = i < to ? ip.charAt(i) : ':';
+            if (character == ':') {
+                if (digits == 0 || ++groups > 8) {
+                    return -1;
+                }
+                high = high << 16 | low >>> 48;
+                low = low << 16 | group;
+                group = 0;
+                digits = 0;
+            } else {
+                final int digit = hexDigit(character);
+                if (digit < 0 || ++digits > 4) {
+                    return -1;
+                }
+                group = group << 4 | digit;
+            }
+        }
+
+        words[0] = high;
+        words[1] = low;
+        return groups;
+    }
+
+    private static int hexDigit(char character) {
+        if (character >= '0' && character <= '9') {
+            return character - '0';
+        }
+        if (character >= 'a' && character <= 'f') {
+            return character - 'a' + 10;
+        }
+        if (character >= 'A' && character <= 'F') {
+            return character - 'A' + 10;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns canonical (RFC 5952) form of IPv6 address, reusing original string if it is already in this form.
+     */
+    static String toCanonicalIpv6(long high, long low, String original) {
+        // find first longest run of at least two zero groups to be compressed
+        int runStart = -1;
+        int runLength = 0;
+        int currentStart = -1;
+        for (int i = 0; i < 8; i++) {
+            if (ipv6Group(high, low, i) == 0) {
+                if (currentStart < 0) {
+                    currentStart = i;
+                }
+                final int currentLength = i - currentStart + 1;
+                if (currentLength > runLength && currentLength > 1) {
+                    runStart = currentStart;
+                    runLength = currentLength;
+                }
+            } else {
+                currentStart = -1;
+            }
+        }
+
+        final char[] chars = new char[MAX_IPV6_LENGTH];
+        int length = 0;
+        for (int i = 0; i < 8; i++) {
+            if (i == runStart) {
+                chars[length++] = ':';
+                if (i == 0) {
+                    chars[length++] = ':';
+                }
+                i += runLength - 1;
+                continue;
+            }
+
+            final int group = ipv6Group(high, low, i);
+            for (int shift = 12; shift > 0; shift -= 4) {
+                if (group >>> shift != 0) {
+                    chars[length++] = HEX_DIGITS[(group >>> shift) & 0xf];
+                }
+            }
+            chars[length++] = HEX_DIGITS[group & 0xf];
+            if (i < 7) {
+                chars[length++] = ':';
+            }
+        }
+
+        return sameChars(original, chars, length) ? original : new String(chars, 0, length);
+    }
+
+    private static int ipv6Group(long high, long low, int index) {
+        final long word = index < 4 ? high : low;
+        return (int) (word >>> (48 - (index & 3) * 16)) & 0xffff;
+    }
+
+    private static boolean sameChars(String string, char[] chars, int length) {
+        if (string == null || string.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (string.charAt(i) != chars[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,128 @@
+package org.prebid.server.auction;
+
+import inet.ipaddr.IPAddress;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sorted table of non-overlapping address ranges looked up by binary search.
+ * <p>
+ * Addresses are 128-bit unsigned values kept as high and low 64 bits, IPv4 addresses have high bits set to zero.
+ * Tables are expected to hold either IPv4 or IPv6 ranges, not both.
+ */
+final class IpAddressRangeTable {
+
+    private static final Comparator<Range> RANGE_START_COMPARATOR = (left, right) ->
+            compare(left.getStartHigh(), left.getStartLow(), right.getStartHigh(), right.getStartLow());
+
+    private final long[] startHigh;
+    private final long[] startLow;
+    private final long[] endHigh;
+    private final long[] endLow;
+
+    private IpAddressRangeTable(List<Range> ranges) {
+        final int size = ranges.size();
+        startHigh = new long[size];
+        startLow = new long[size];
+        endHigh = new long[size];
+        endLow = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            final Range range = ranges.get(i);
+            startHigh[i] = range.getStartHigh();
+            startLow[i] = range.getStartLow();
+            endHigh[i] = range.getEndHigh();
+            endLow[i] = range.getEndLow();
+        }
+    }
+
+    /**
+     * Creates table of given networks, overlapping networks are merged.
+     */
+    static IpAddressRangeTable of(List<IPAddress> networks) {
+        final List<Range> ranges = new ArrayList<>(networks.size());
+        for (IPAddress network : networks) {
+            ranges.add(Range.from(network));
+        }
+        ranges.sort(RANGE_START_COMPARATOR);
+
+        final List<Range> merged = new ArrayList<>(ranges.size());
+        for (Range range : ranges) {
+            final int lastIndex = merged.size() - 1;
+            final Range last = lastIndex >= 0 ? merged.get(lastIndex) : null;
+            if (last != null && compare(range.getStartHigh(), range.getStartLow(),
+                    last.getEndHigh(), last.getEndLow()) <= 0) {
+
+                if (compare(range.getEndHigh(), range.getEndLow(), last.getEndHigh(), last.getEndLow()) > 0) {
+                    merged.set(lastIndex, Range.of(last.getStartHigh(), last.getStartLow(),
+                            range.getEndHigh(), range.getEndLow()));
+                }
+            } else {
+                merged.add(range);
+            }
+        }
+
+        return new IpAddressRangeTable(merged);
+    }
+
+    boolean contains(long high, long low) {
+        // find the last range starting at or before the address
+        int from = 0;
+        int to = startHigh.length - 1;
+        int candidate = -1;
+        while (from <= to) {
+            final int middle = (from + to) >>> 1;
+            if (compare(startHigh[middle], startLow[middle], high, low) <= 0) {
+                candidate = middle;
+                from = middle + 1;
+            } else {
+                to = middle - 1;
+            }
+        }
+
+        return candidate >= 0 && compare(high, low, endHigh[candidate], endLow[candidate]) <= 0;
+    }
+
+    private static int compare(long leftHigh, long leftLow, long rightHigh, long rightLow) {
+        final int highComparison = Long.compareUnsigned(leftHigh, rightHigh);
+        return highComparison != 0 ? highComparison : Long.compareUnsigned(leftLow, rightLow);
+    }
+
+    @Value(staticConstructor = "of")
+    private static class Range {
+
+        long startHigh;
+
+        long startLow;
+
+        long endHigh;
+
+        long endLow;
+
+        static Range from(IPAddress network) {
+            final byte[] start = network.getLower().getBytes();
+            final byte[] end = network.getUpper().getBytes();
+            return of(high(start), low(start), high(end), low(end));
+        }
+
+        private static long high(byte[] bytes) {
+            return bytes.length > 8 ? toLong(bytes, 0, bytes.length - 8) : 0L;
+        }
+
+        private static long low(byte[] bytes) {
+            final int from = Math.max(0, bytes.length - 8);
+            return toLong(bytes, from, bytes.length);
+        }
+
+        private static long toLong(byte[] bytes, int from, int to) {
+            long value = 0;
+            for (int i = from; i < to; i++) {
+                value = value << 8 | (bytes[i] & 0xff);
+            }
+            return value;
+        }
+    }
+}
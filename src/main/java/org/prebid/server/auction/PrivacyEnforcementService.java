@@ -38,6 +38,7 @@ import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
@@ -214,12 +215,14 @@ public class PrivacyEnforcementService {
                                                       Device device,
                                                       Map<String, User> bidderToUser) {
 
+        final Device maskedDevice = maskCcpaDevice(device);
+
         return biddersToMask.stream()
                 .collect(Collectors.toMap(Function.identity(),
                         bidder -> BidderPrivacyResult.builder()
                                 .requestBidder(bidder)
                                 .user(maskCcpaUser(bidderToUser.get(bidder)))
-                                .device(maskCcpaDevice(device))
+                                .device(maskedDevice)
                                 .build()));
     }
 
@@ -256,11 +259,13 @@ public class PrivacyEnforcementService {
     private List<BidderPrivacyResult> maskCoppa(Map<String, User> bidderToUser, Device device) {
         metrics.updatePrivacyCoppaMetric();
 
+        final Device maskedDevice = maskCoppaDevice(device);
+
         return bidderToUser.entrySet().stream()
                 .map(bidderAndUser -> BidderPrivacyResult.builder()
                         .requestBidder(bidderAndUser.getKey())
                         .user(maskCoppaUser(bidderAndUser.getValue()))
-                        .device(maskCoppaDevice(device))
+                        .device(maskedDevice)
                         .build())
                 .collect(Collectors.toList());
     }
@@ -424,6 +429,8 @@ public class PrivacyEnforcementService {
             Device device) {
 
         final boolean isLmtEnabled = lmtEnforce && isLmtEnabled(device);
+        // device is the same for all bidders, so it is masked once per distinct combination of masking flags
+        final Map<Integer, Device> maskingFlagsToDevice = new HashMap<>();
         return bidderToUser.entrySet().stream()
                 .filter(entry -> bidders.contains(entry.getKey()))
                 .map(bidderUserEntry -> createBidderPrivacyResult(
@@ -431,7 +438,8 @@ public class PrivacyEnforcementService {
                         device,
                         bidderUserEntry.getKey(),
                         isLmtEnabled,
-                        bidderToEnforcement))
+                        bidderToEnforcement,
+                        maskingFlagsToDevice))
                 .collect(Collectors.toList());
     }
 
@@ -442,7 +450,8 @@ public class PrivacyEnforcementService {
                                                           Device device,
                                                           String bidder,
                                                           boolean isLmtEnabled,
-                                                          Map<String, PrivacyEnforcementAction> bidderToEnforcement) {
+                                                          Map<String, PrivacyEnforcementAction> bidderToEnforcement,
+                                                          Map<Integer, Device> maskingFlagsToDevice) {
 
         final PrivacyEnforcementAction privacyEnforcementAction = bidderToEnforcement.get(bidder);
         final boolean blockBidderRequest = privacyEnforcementAction.isBlockBidderRequest();
@@ -461,7 +470,9 @@ public class PrivacyEnforcementService {
 
         final boolean maskIp = privacyEnforcementAction.isMaskDeviceIp() || isLmtEnabled;
         final boolean maskInfo = privacyEnforcementAction.isMaskDeviceInfo() || isLmtEnabled;
-        final Device maskedDevice = maskTcfDevice(device, maskIp, maskGeo, maskInfo);
+        final Device maskedDevice = maskingFlagsToDevice.computeIfAbsent(
+                maskingFlags(maskIp, maskGeo, maskInfo),
+                ignored -> maskTcfDevice(device, maskIp, maskGeo, maskInfo));
 
         return BidderPrivacyResult.builder()
                 .requestBidder(bidder)
@@ -494,6 +505,10 @@ public class PrivacyEnforcementService {
         return null;
     }
 
+    private static int maskingFlags(boolean maskIp, boolean maskGeo, boolean maskInfo) {
+        return (maskIp ? 1 : 0) | (maskGeo ? 2 : 0) | (maskInfo ? 4 : 0);
+    }
+
     /**
      * Returns masked device accordingly for each flag.
      */
@@ -3,6 +3,7 @@ package org.prebid.server.auction;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.Bid;
 import com.iab.openrtb.response.SeatBid;
@@ -52,11 +53,24 @@ public class StoredResponseProcessor {
     private final ApplicationSettings applicationSettings;
     private final JacksonMapper mapper;
 
+    private final Map<String, List<SeatBid>> parsedSeatBids;
+
     public StoredResponseProcessor(ApplicationSettings applicationSettings,
                                    JacksonMapper mapper) {
 
+        this(applicationSettings, 0, mapper);
+    }
+
+    public StoredResponseProcessor(ApplicationSettings applicationSettings,
+                                   int parsedCacheSize,
+                                   JacksonMapper mapper) {
+
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
         this.mapper = Objects.requireNonNull(mapper);
+
+        parsedSeatBids = parsedCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(parsedCacheSize).<String, List<SeatBid>>build().asMap()
+                : null;
     }
 
     Future<StoredResponseResult> getStoredResponseResult(List<Imp> imps, Timeout timeout) {
@@ -177,8 +191,7 @@ public class StoredResponseProcessor {
             final String id = storedIdToImpId.getKey();
             final String impId = storedIdToImpId.getValue();
             final String rowSeatBid = idToStoredResponses.get(id);
-            final List<SeatBid> seatBids = parseSeatBid(id, rowSeatBid);
-            validateStoredSeatBid(seatBids);
+            final List<SeatBid> seatBids = resolveSeatBids(id, rowSeatBid);
             resolvedSeatBids.addAll(seatBids.stream()
                     .map(seatBid -> updateSeatBidBids(seatBid, impId))
                     .collect(Collectors.toList()));
@@ -186,6 +199,36 @@ public class StoredResponseProcessor {
         return mergeSameBidderSeatBid(resolvedSeatBids);
     }
 
+    /**
+     * Returns validated {@link SeatBid}s of stored response.
+     * <p>
+     * Parsed results are cached by raw stored response value, so updated or invalidated stored response is never
+     * served from this cache. Cached lists are shared between requests and must not be modified, so their mutable
+     * parts (extensions and lists of bids) are copied by {@link #updateBidWithImpId(Bid, String)} and
+     * {@link #makeMergedSeatBid(String, List)} before leaving this class.
+     */
+    private List<SeatBid> resolveSeatBids(String id, String rowSeatBid) {
+        final List<SeatBid> cachedSeatBids = parsedSeatBids != null && rowSeatBid != null
+                ? parsedSeatBids.get(rowSeatBid)
+                : null;
+        if (cachedSeatBids != null) {
+            return cachedSeatBids;
+        }
+
+        final List<SeatBid> seatBids = parseSeatBid(id, rowSeatBid);
+        validateStoredSeatBid(seatBids);
+
+        if (parsedSeatBids == null) {
+            return seatBids;
+        }
+
+        final List<SeatBid> immutableSeatBids = Collections.unmodifiableList(seatBids.stream()
+                .map(seatBid -> seatBid.toBuilder().bid(Collections.unmodifiableList(seatBid.getBid())).build())
+                .collect(Collectors.toList()));
+        parsedSeatBids.put(rowSeatBid, immutableSeatBids);
+        return immutableSeatBids;
+    }
+
     private List<SeatBid> parseSeatBid(String id, String rowSeatBid) {
         try {
             return mapper.mapper().readValue(rowSeatBid, SEATBID_LIST_TYPE);
@@ -203,7 +246,18 @@ public class StoredResponseProcessor {
     }
 
     private static Bid updateBidWithImpId(Bid bid, String impId) {
-        return bid.toBuilder().impid(impId).build();
+        final ObjectNode ext = bid.getExt();
+        return bid.toBuilder()
+                .impid(impId)
+                .adomain(copyOrNull(bid.getAdomain()))
+                .cat(copyOrNull(bid.getCat()))
+                .attr(copyOrNull(bid.getAttr()))
+                .ext(ext != null ? ext.deepCopy() : null)
+                .build();
+    }
+
+    private static <T> List<T> copyOrNull(List<T> list) {
+        return list != null ? new ArrayList<>(list) : null;
     }
 
     private void validateStoredSeatBid(List<SeatBid> seatBids) {
@@ -226,10 +280,15 @@ public class StoredResponseProcessor {
     }
 
     private SeatBid makeMergedSeatBid(String seat, List<SeatBid> storedSeatBids) {
+        final ObjectNode ext = storedSeatBids.stream()
+                .map(SeatBid::getExt)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
         return SeatBid.builder()
                 .bid(storedSeatBids.stream().map(SeatBid::getBid).flatMap(List::stream).collect(Collectors.toList()))
                 .seat(seat)
-                .ext(storedSeatBids.stream().map(SeatBid::getExt).filter(Objects::nonNull).findFirst().orElse(null))
+                .ext(ext != null ? ext.deepCopy() : null)
                 .build();
     }
 
@@ -41,6 +41,8 @@ public class AuctionContext {
 
     GeoInfo geoInfo;
 
+    AuctionStageClock stageClock;
+
     public AuctionContext with(BidRequest bidRequest) {
         return this.toBuilder().bidRequest(bidRequest).build();
     }
@@ -51,4 +53,21 @@ public class AuctionContext {
                 .geoInfo(privacyContext.getTcfContext().getGeoInfo())
                 .build();
     }
+
+    /**
+     * Records end of the given auction stage if stages of this request are timed.
+     */
+    public void markStage(AuctionStage stage) {
+        if (stageClock != null) {
+            stageClock.mark(stage);
+        }
+    }
+
+    /**
+     * Records end of the given auction stage if stages of this request are timed and returns passed value.
+     */
+    public <T> T markStage(AuctionStage stage, T value) {
+        markStage(stage);
+        return value;
+    }
 }
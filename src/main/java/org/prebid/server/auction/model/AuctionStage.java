@@ -0,0 +1,28 @@
+package org.prebid.server.auction.model;
+
+import org.prebid.server.metric.MetricName;
+
+/**
+ * Stages of auction request processing timed by {@link AuctionStageClock}.
+ */
+public enum AuctionStage {
+
+    request_parsing(MetricName.request_parsing),
+    account_fetch(MetricName.account_fetch),
+    stored_request_merge(MetricName.stored_request_merge),
+    privacy_resolution(MetricName.privacy_resolution),
+    bidder_requests(MetricName.bidder_requests),
+    bidder_responses(MetricName.bidder_responses),
+    prebid_cache(MetricName.prebid_cache),
+    response_creation(MetricName.response_creation);
+
+    private final MetricName metricName;
+
+    AuctionStage(MetricName metricName) {
+        this.metricName = metricName;
+    }
+
+    public MetricName metricName() {
+        return metricName;
+    }
+}
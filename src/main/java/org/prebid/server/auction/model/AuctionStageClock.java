@@ -0,0 +1,61 @@
+package org.prebid.server.auction.model;
+
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Measures how long each {@link AuctionStage} of a single request takes.
+ * <p>
+ * Time between the previous mark (or clock start) and the current one is attributed to the marked stage, so a stage
+ * marked several times, like response creation around the Prebid Cache call, accumulates all its parts.
+ * <p>
+ * Not thread-safe, expected to be marked from the event loop thread handling the request.
+ */
+public class AuctionStageClock {
+
+    private static final AuctionStage[] STAGES = AuctionStage.values();
+
+    private final long[] durations;
+
+    private long lastMarkNanos;
+
+    private int recordedStages;
+
+    private AuctionStageClock(long startNanos) {
+        this.durations = new long[STAGES.length];
+        this.lastMarkNanos = startNanos;
+    }
+
+    public static AuctionStageClock start() {
+        return new AuctionStageClock(System.nanoTime());
+    }
+
+    /**
+     * Records end of the given stage.
+     */
+    public void mark(AuctionStage stage) {
+        final long now = System.nanoTime();
+        final int index = stage.ordinal();
+        durations[index] += now - lastMarkNanos;
+        recordedStages |= 1 << index;
+        lastMarkNanos = now;
+    }
+
+    /**
+     * Records end of the given stage and returns passed value, to be used in {@link io.vertx.core.Future} chains.
+     */
+    public <T> T mark(AuctionStage stage, T value) {
+        mark(stage);
+        return value;
+    }
+
+    /**
+     * Passes duration in nanoseconds of each stage recorded so far to the given consumer.
+     */
+    public void forEachRecorded(ObjLongConsumer<AuctionStage> consumer) {
+        for (int i = 0; i < STAGES.length; i++) {
+            if ((recordedStages & (1 << i)) != 0) {
+                consumer.accept(STAGES[i], durations[i]);
+            }
+        }
+    }
+}
@@ -6,7 +6,7 @@ import lombok.Value;
 /**
  * Holds caching information extracted from incoming auction request.
  */
-@Builder
+@Builder(toBuilder = true)
 @Value
 public class BidRequestCacheInfo {
 
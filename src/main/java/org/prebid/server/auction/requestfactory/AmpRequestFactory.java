@@ -28,6 +28,8 @@ import org.prebid.server.auction.PrivacyEnforcementService;
 import org.prebid.server.auction.StoredRequestProcessor;
 import org.prebid.server.auction.TimeoutResolver;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageClock;
 import org.prebid.server.auction.model.Tuple2;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.json.JacksonMapper;
@@ -115,7 +117,10 @@ public class AmpRequestFactory {
      * Creates {@link AuctionContext} based on {@link RoutingContext}.
      */
     public Future<AuctionContext> fromRequest(RoutingContext routingContext, long startTime) {
+        final AuctionStageClock stageClock = AuctionStageClock.start();
+
         return createBidRequest(routingContext)
+                .map(bidRequestWithErrors -> stageClock.mark(AuctionStage.stored_request_merge, bidRequestWithErrors))
                 .compose(bidRequestWithErrors -> ortb2RequestFactory.fetchAccountAndCreateAuctionContext(
                         routingContext,
                         bidRequestWithErrors.getLeft(),
@@ -123,15 +128,25 @@ public class AmpRequestFactory {
                         false,
                         startTime,
                         bidRequestWithErrors.getRight()))
+                .map(auctionContext -> stageClock.mark(AuctionStage.account_fetch, auctionContext))
 
                 .compose(auctionContext -> privacyEnforcementService.contextFromBidRequest(auctionContext)
                         .map(auctionContext::with))
 
-                .map(auctionContext -> auctionContext.with(
-                        ortb2RequestFactory.enrichBidRequestWithAccountAndPrivacyData(
-                                auctionContext.getBidRequest(),
-                                auctionContext.getAccount(),
-                                auctionContext.getPrivacyContext())));
+                .map(auctionContext -> enrichAuctionContext(auctionContext, stageClock));
+    }
+
+    private AuctionContext enrichAuctionContext(AuctionContext auctionContext, AuctionStageClock stageClock) {
+        final BidRequest bidRequest = ortb2RequestFactory.enrichBidRequestWithAccountAndPrivacyData(
+                auctionContext.getBidRequest(),
+                auctionContext.getAccount(),
+                auctionContext.getPrivacyContext());
+        stageClock.mark(AuctionStage.privacy_resolution);
+
+        return auctionContext.toBuilder()
+                .bidRequest(bidRequest)
+                .stageClock(stageClock)
+                .build();
     }
 
     /**
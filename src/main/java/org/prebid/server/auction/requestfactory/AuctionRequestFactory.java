@@ -12,6 +12,8 @@ import org.prebid.server.auction.PrivacyEnforcementService;
 import org.prebid.server.auction.StoredRequestProcessor;
 import org.prebid.server.auction.TimeoutResolver;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageClock;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.MetricName;
@@ -65,6 +67,7 @@ public class AuctionRequestFactory {
      * Creates {@link AuctionContext} based on {@link RoutingContext}.
      */
     public Future<AuctionContext> fromRequest(RoutingContext routingContext, long startTime) {
+        final AuctionStageClock stageClock = AuctionStageClock.start();
         final List<String> errors = new ArrayList<>();
         final String body;
         try {
@@ -74,6 +77,7 @@ public class AuctionRequestFactory {
         }
 
         return parseBidRequest(body, routingContext, errors)
+                .map(bidRequest -> stageClock.mark(AuctionStage.request_parsing, bidRequest))
                 .compose(bidRequest -> ortb2RequestFactory.fetchAccountAndCreateAuctionContext(
                         routingContext,
                         bidRequest,
@@ -81,18 +85,29 @@ public class AuctionRequestFactory {
                         true,
                         startTime,
                         errors))
+                .map(auctionContext -> stageClock.mark(AuctionStage.account_fetch, auctionContext))
 
                 .compose(auctionContext -> updateBidRequest(auctionContext)
                         .map(auctionContext::with))
+                .map(auctionContext -> stageClock.mark(AuctionStage.stored_request_merge, auctionContext))
 
                 .compose(auctionContext -> privacyEnforcementService.contextFromBidRequest(auctionContext)
                         .map(auctionContext::with))
 
-                .map(auctionContext -> auctionContext.with(
-                        ortb2RequestFactory.enrichBidRequestWithAccountAndPrivacyData(
-                                auctionContext.getBidRequest(),
-                                auctionContext.getAccount(),
-                                auctionContext.getPrivacyContext())));
+                .map(auctionContext -> enrichAuctionContext(auctionContext, stageClock));
+    }
+
+    private AuctionContext enrichAuctionContext(AuctionContext auctionContext, AuctionStageClock stageClock) {
+        final BidRequest bidRequest = ortb2RequestFactory.enrichBidRequestWithAccountAndPrivacyData(
+                auctionContext.getBidRequest(),
+                auctionContext.getAccount(),
+                auctionContext.getPrivacyContext());
+        stageClock.mark(AuctionStage.privacy_resolution);
+
+        return auctionContext.toBuilder()
+                .bidRequest(bidRequest)
+                .stageClock(stageClock)
+                .build();
     }
 
     private String extractAndValidateBody(RoutingContext context) {
@@ -151,6 +151,16 @@ public class BidderCatalog {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Returns cookie family names configured for all bidders, including disabled ones.
+     */
+    public Set<String> cookieFamilyNames() {
+        return bidderDepsMap.values().stream()
+                .map(BidderInstanceDeps::getCookieFamilyName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
     /**
      * Returns an {@link Usersyncer} registered by the given name or null if there is none.
      * <p>
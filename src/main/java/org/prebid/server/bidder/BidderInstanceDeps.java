@@ -40,6 +40,12 @@ public class BidderInstanceDeps {
      */
     Usersyncer usersyncer;
 
+    /**
+     * Cookie family name configured for bidder. Unlike {@link #usersyncer} it is present even if bidder is disabled,
+     * so UIDs of such bidder are still recognized in 'uids' cookie.
+     */
+    String cookieFamilyName;
+
     /**
      * Bidder implementation is used in auction handling.
      */
@@ -19,18 +19,18 @@ import org.prebid.server.bidder.model.HttpRequest;
 import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
 import org.prebid.server.execution.Timeout;
+import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.vertx.http.HttpClient;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -49,14 +49,17 @@ public class HttpBidderRequester {
     private final HttpClient httpClient;
     private final BidderRequestCompletionTrackerFactory completionTrackerFactory;
     private final BidderErrorNotifier bidderErrorNotifier;
+    private final HttpInteractionLogger httpInteractionLogger;
 
     public HttpBidderRequester(HttpClient httpClient,
                                BidderRequestCompletionTrackerFactory completionTrackerFactory,
-                               BidderErrorNotifier bidderErrorNotifier) {
+                               BidderErrorNotifier bidderErrorNotifier,
+                               HttpInteractionLogger httpInteractionLogger) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
         this.completionTrackerFactory = completionTrackerFactoryOrFallback(completionTrackerFactory);
         this.bidderErrorNotifier = Objects.requireNonNull(bidderErrorNotifier);
+        this.httpInteractionLogger = Objects.requireNonNull(httpInteractionLogger);
     }
 
     /**
@@ -78,17 +81,19 @@ public class HttpBidderRequester {
         final String bidderName = bidderRequest.getBidder();
 
         // stored response available only for single request interaction for the moment.
-        final Stream<Future<HttpCall<T>>> httpCalls = isStoredResponse(httpRequests, storedResponse, bidderName)
-                ? Stream.of(makeStoredHttpCall(httpRequests.get(0), storedResponse))
-                : httpRequests.stream().map(httpRequest -> doRequest(httpRequest, timeout));
+        final boolean isStoredResponse = isStoredResponse(httpRequests, storedResponse, bidderName);
 
         final BidderRequestCompletionTracker completionTracker = completionTrackerFactory.create(bidRequest);
         final ResultBuilder<T> resultBuilder = new ResultBuilder<>(httpRequests, bidderErrors, completionTracker);
 
-        final List<Future<Void>> httpRequestFutures = httpCalls
-                .map(httpCallFuture -> httpCallFuture
+        // calls are recorded by index of their requests, so requests are never hashed or compared
+        final List<Future<Void>> httpRequestFutures = IntStream.range(0, httpRequests.size())
+                .mapToObj(index -> (isStoredResponse
+                        ? makeStoredHttpCall(httpRequests.get(index), storedResponse)
+                        : doRequest(httpRequests.get(index), timeout))
                         .map(httpCall -> bidderErrorNotifier.processTimeout(httpCall, bidder))
-                        .map(httpCall -> processHttpCall(bidder, bidRequest, resultBuilder, httpCall)))
+                        .map(httpCall -> logHttpCall(bidderName, bidRequest, httpCall))
+                        .map(httpCall -> processHttpCall(bidder, bidRequest, resultBuilder, index, httpCall)))
                 .collect(Collectors.toList());
 
         final CompositeFuture completionFuture = CompositeFuture.any(
@@ -191,12 +196,18 @@ public class HttpBidderRequester {
         return null;
     }
 
+    private <T> HttpCall<T> logHttpCall(String bidderName, BidRequest bidRequest, HttpCall<T> httpCall) {
+        httpInteractionLogger.maybeLogBidderRequest(bidderName, bidRequest, httpCall);
+        return httpCall;
+    }
+
     private <T> Void processHttpCall(Bidder<T> bidder,
                                      BidRequest bidRequest,
                                      ResultBuilder<T> seatBidBuilder,
+                                     int requestIndex,
                                      HttpCall<T> httpCall) {
 
-        seatBidBuilder.addHttpCall(httpCall, makeBids(bidder, httpCall, bidRequest));
+        seatBidBuilder.addHttpCall(requestIndex, httpCall, makeBids(bidder, httpCall, bidRequest));
         return null;
     }
 
@@ -244,20 +255,23 @@ public class HttpBidderRequester {
         final List<BidderError> previousErrors;
         final BidderRequestCompletionTracker completionTracker;
 
-        final Map<HttpRequest<T>, HttpCall<T>> httpCallsRecorded = new HashMap<>();
+        // slot per request, empty slot means the call has not finished yet
+        final HttpCall<T>[] httpCallsRecorded;
         final List<BidderBid> bidsRecorded = new ArrayList<>();
         final List<BidderError> errorsRecorded = new ArrayList<>();
 
+        @SuppressWarnings("unchecked")
         ResultBuilder(List<HttpRequest<T>> httpRequests,
                       List<BidderError> previousErrors,
                       BidderRequestCompletionTracker completionTracker) {
             this.httpRequests = httpRequests;
             this.previousErrors = previousErrors;
             this.completionTracker = completionTracker;
+            this.httpCallsRecorded = (HttpCall<T>[]) new HttpCall<?>[httpRequests.size()];
         }
 
-        void addHttpCall(HttpCall<T> httpCall, Result<List<BidderBid>> bidsResult) {
-            httpCallsRecorded.put(httpCall.getRequest(), httpCall);
+        void addHttpCall(int requestIndex, HttpCall<T> httpCall, Result<List<BidderBid>> bidsResult) {
+            httpCallsRecorded[requestIndex] = httpCall;
 
             final List<BidderBid> bids = bidsResult != null ? bidsResult.getValue() : null;
             if (bids != null) {
@@ -272,11 +286,11 @@ public class HttpBidderRequester {
         }
 
         BidderSeatBid toBidderSeatBid(boolean debugEnabled) {
-            final List<HttpCall<T>> httpCalls = new ArrayList<>(httpCallsRecorded.values());
-            httpRequests.stream()
-                    .filter(httpRequest -> !httpCallsRecorded.containsKey(httpRequest))
-                    .map(httpRequest -> HttpCall.success(httpRequest, null, null))
-                    .forEach(httpCalls::add);
+            final List<HttpCall<T>> httpCalls = new ArrayList<>(httpCallsRecorded.length);
+            for (int i = 0; i < httpCallsRecorded.length; i++) {
+                final HttpCall<T> httpCall = httpCallsRecorded[i];
+                httpCalls.add(httpCall != null ? httpCall : HttpCall.success(httpRequests.get(i), null, null));
+            }
 
             // Capture debugging info from the requests
             final List<ExtHttpCall> extHttpCalls = debugEnabled
@@ -0,0 +1,206 @@
+package org.prebid.server.bidder;
+
+import lombok.Value;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.privacy.model.Privacy;
+import org.prebid.server.proto.response.UsersyncInfo;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Precompiled form of {@link Usersyncer.UsersyncMethod} urls.
+ * <p>
+ * Usersync url and redirect url (already enriched with format parameter) are split once into literal segments and
+ * privacy macro slots, literals are URL-encoded in advance the same way {@link UsersyncInfoAssembler} encodes
+ * redirect url, so rendering is a single pass over the parts.
+ * <p>
+ * Produces exactly the same result as {@link UsersyncInfoAssembler}, falls back to it for templates or privacy values
+ * which could be treated differently by its sequential macro replacement.
+ */
+public class UsersyncInfoTemplate {
+
+    private static final String MACRO_START = "{{";
+
+    private final Usersyncer.UsersyncMethod usersyncMethod;
+    private final List<Part> parts;
+    private final int literalsLength;
+
+    private UsersyncInfoTemplate(Usersyncer.UsersyncMethod usersyncMethod, List<Part> parts) {
+        this.usersyncMethod = usersyncMethod;
+        this.parts = parts;
+        this.literalsLength = parts != null
+                ? parts.stream().map(Part::getLiteral).filter(Objects::nonNull).mapToInt(String::length).sum()
+                : 0;
+    }
+
+    public static UsersyncInfoTemplate compile(Usersyncer.UsersyncMethod usersyncMethod) {
+        final String usersyncUrl = usersyncMethod.getUsersyncUrl();
+        final String redirectUrl = UsersyncUtil.enrichUsersyncUrlWithFormat(
+                StringUtils.stripToEmpty(usersyncMethod.getRedirectUrl()), usersyncMethod.getType());
+
+        final List<Part> usersyncUrlParts = usersyncUrl != null ? split(usersyncUrl) : null;
+        final List<Part> redirectUrlParts = split(redirectUrl);
+        if (usersyncUrlParts == null || redirectUrlParts == null) {
+            return new UsersyncInfoTemplate(usersyncMethod, null);
+        }
+
+        final List<Part> parts = new ArrayList<>();
+        for (Part part : usersyncUrlParts) {
+            parts.add(part.getLiteral() != null ? part : Part.slot(part.getMacro(), true));
+        }
+        parts.addAll(encodeRedirectUrlParts(redirectUrlParts));
+
+        return new UsersyncInfoTemplate(usersyncMethod, Collections.unmodifiableList(parts));
+    }
+
+    /**
+     * Splits url into literals and macros, returns null if url contains something looking like unknown macro.
+     */
+    private static List<Part> split(String url) {
+        final List<Part> parts = new ArrayList<>();
+
+        int literalStart = 0;
+        int macroStart = url.indexOf(MACRO_START);
+        while (macroStart != -1) {
+            final Macro macro = Macro.at(url, macroStart);
+            if (macro == null) {
+                return null;
+            }
+            if (macroStart > literalStart) {
+                parts.add(Part.literal(url.substring(literalStart, macroStart)));
+            }
+            parts.add(Part.slot(macro, false));
+
+            literalStart = macroStart + macro.placeholder.length();
+            macroStart = url.indexOf(MACRO_START, literalStart);
+        }
+        if (literalStart < url.length()) {
+            parts.add(Part.literal(url.substring(literalStart)));
+        }
+
+        return parts;
+    }
+
+    /**
+     * Mirrors {@link UsersyncInfoAssembler#assemble()}: whole redirect url is encoded, except the query string after
+     * the last '?' if url has more than one of them. Privacy values never contain '?' here, so position of the last
+     * '?' is known at compile time.
+     */
+    private static List<Part> encodeRedirectUrlParts(List<Part> redirectUrlParts) {
+        int questionMarks = 0;
+        int lastQuestionMarkPart = -1;
+        for (int i = 0; i < redirectUrlParts.size(); i++) {
+            final String literal = redirectUrlParts.get(i).getLiteral();
+            final int count = literal != null ? StringUtils.countMatches(literal, '?') : 0;
+            if (count > 0) {
+                questionMarks += count;
+                lastQuestionMarkPart = i;
+            }
+        }
+
+        final List<Part> result = new ArrayList<>(redirectUrlParts.size());
+        for (int i = 0; i < redirectUrlParts.size(); i++) {
+            final Part part = redirectUrlParts.get(i);
+            final boolean encode = questionMarks <= 1 || i < lastQuestionMarkPart;
+
+            if (part.getLiteral() == null) {
+                result.add(Part.slot(part.getMacro(), encode));
+            } else if (questionMarks > 1 && i == lastQuestionMarkPart) {
+                final String literal = part.getLiteral();
+                final int questionMarkIndex = literal.lastIndexOf('?');
+                result.add(Part.literal(HttpUtil.encodeUrl(literal.substring(0, questionMarkIndex))
+                        + literal.substring(questionMarkIndex)));
+            } else {
+                result.add(Part.literal(encode ? HttpUtil.encodeUrl(part.getLiteral()) : part.getLiteral()));
+            }
+        }
+        return result;
+    }
+
+    public UsersyncInfo render(Privacy privacy) {
+        final String gdpr = ObjectUtils.defaultIfNull(privacy.getGdpr(), "");
+        final String consent = ObjectUtils.defaultIfNull(privacy.getConsentString(), "");
+        final String ccpa = ObjectUtils.defaultIfNull(privacy.getCcpa().getUsPrivacy(), "");
+
+        if (parts == null || !isSafeValue(gdpr) || !isSafeValue(consent) || !isSafeValue(ccpa)) {
+            return UsersyncInfoAssembler.from(usersyncMethod).withPrivacy(privacy).assemble();
+        }
+
+        final String[] rawValues = {gdpr, consent, ccpa};
+        final String[] encodedValues = new String[Macro.values().length];
+
+        final StringBuilder url = new StringBuilder(literalsLength + 64);
+        for (Part part : parts) {
+            final String literal = part.getLiteral();
+            if (literal != null) {
+                url.append(literal);
+                continue;
+            }
+
+            final int index = part.getMacro().ordinal();
+            if (part.isEncode()) {
+                if (encodedValues[index] == null) {
+                    encodedValues[index] = HttpUtil.encodeUrl(rawValues[index]);
+                }
+                url.append(encodedValues[index]);
+            } else {
+                url.append(rawValues[index]);
+            }
+        }
+
+        return UsersyncInfo.of(url.toString(), usersyncMethod.getType(), usersyncMethod.isSupportCORS());
+    }
+
+    /**
+     * Values with '?' could change the way redirect url is encoded and values with '{' could form a macro with
+     * following text, such values are handled by {@link UsersyncInfoAssembler}.
+     */
+    private static boolean isSafeValue(String value) {
+        return value.indexOf('?') == -1 && value.indexOf('{') == -1;
+    }
+
+    private enum Macro {
+
+        GDPR(UsersyncInfo.GDPR_PLACEHOLDER),
+        GDPR_CONSENT(UsersyncInfo.GDPR_CONSENT_PLACEHOLDER),
+        US_PRIVACY(UsersyncInfo.US_PRIVACY_PLACEHOLDER);
+
+        private final String placeholder;
+
+        Macro(String placeholder) {
+            this.placeholder = placeholder;
+        }
+
+        static Macro at(String url, int index) {
+            for (Macro macro : values()) {
+                if (url.startsWith(macro.placeholder, index)) {
+                    return macro;
+                }
+            }
+            return null;
+        }
+    }
+
+    @Value
+    private static class Part {
+
+        String literal;
+
+        Macro macro;
+
+        boolean encode;
+
+        static Part literal(String literal) {
+            return new Part(literal, null, false);
+        }
+
+        static Part slot(Macro macro, boolean encode) {
+            return new Part(null, macro, encode);
+        }
+    }
+}
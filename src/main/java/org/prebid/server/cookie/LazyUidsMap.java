@@ -0,0 +1,292 @@
+package org.prebid.server.cookie;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.ZonedDateTime;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Read-only map of UIDs backed by the decoded 'uids' cookie JSON.
+ * <p>
+ * Cookie is scanned once to build an index of family names and byte ranges of their values, {@link UidWithExpiry}
+ * is bound only when family is requested. Entries which were not replaced keep their original JSON when the map is
+ * serialized back to cookie.
+ * <p>
+ * Entry failing to bind is marked as malformed and is not visible through the map from then on, but index itself
+ * never changes on reads: {@link #size()} and serialized cookie do not depend on which entries were looked up
+ * before. Malformed entries are written back to cookie as is, like any other untouched entry.
+ * <p>
+ * Belongs to a single request and is not thread-safe.
+ */
+@JsonSerialize(using = LazyUidsMap.LazyUidsMapSerializer.class)
+class LazyUidsMap extends AbstractMap<String, UidWithExpiry> {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyUidsMap.class);
+
+    private static final String AUDIENCE_NETWORK = "audienceNetwork";
+
+    private static final TypeReference<Map<String, String>> LEGACY_UIDS_TYPE =
+            new TypeReference<Map<String, String>>() {
+            };
+
+    private final byte[] json;
+    private final ObjectMapper mapper;
+    private final Map<String, Entry> entries;
+
+    private LazyUidsMap(byte[] json, ObjectMapper mapper, Map<String, Entry> entries) {
+        this.json = json;
+        this.mapper = mapper;
+        this.entries = entries;
+    }
+
+    /**
+     * Parses decoded cookie into {@link Uids} with lazily bound 'tempUIDs' map.
+     * <p>
+     * Empty and 'audienceNetwork' sentinel UIDs are skipped while indexing. If 'tempUIDs' has no entries at all
+     * regular empty map is used, so legacy UIDs could take place of them.
+     */
+    static Uids parseUids(byte[] json, ObjectMapper mapper) throws IOException {
+        final Uids.UidsBuilder uidsBuilder = Uids.builder();
+
+        try (JsonParser parser = mapper.getFactory().createParser(json)) {
+            expectToken(parser.nextToken(), JsonToken.START_OBJECT);
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.getCurrentName();
+                final JsonToken valueToken = parser.nextToken();
+                if (valueToken == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+
+                switch (fieldName) {
+                    case "uids":
+                        uidsBuilder.uidsLegacy(mapper.readValue(parser, LEGACY_UIDS_TYPE));
+                        break;
+                    case "tempUIDs":
+                        expectToken(valueToken, JsonToken.START_OBJECT);
+                        uidsBuilder.uids(parseTempUids(parser, json, mapper));
+                        break;
+                    case "optout":
+                        uidsBuilder.optout(mapper.readValue(parser, Boolean.class));
+                        break;
+                    case "bday":
+                        uidsBuilder.bday(parseBday(parser, mapper));
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        }
+
+        return uidsBuilder.build();
+    }
+
+    private static ZonedDateTime parseBday(JsonParser parser, ObjectMapper mapper) throws IOException {
+        try {
+            return mapper.readValue(parser, ZonedDateTime.class);
+        } catch (DateTimeException e) {
+            // root level values are not wrapped by Jackson into JsonMappingException
+            throw new IOException(e);
+        }
+    }
+
+    private static Map<String, UidWithExpiry> parseTempUids(JsonParser parser, byte[] json, ObjectMapper mapper)
+            throws IOException {
+
+        final Map<String, Entry> entries = new LinkedHashMap<>();
+        final boolean hasEntries = indexEntries(parser, entries);
+        return hasEntries ? new LazyUidsMap(json, mapper, entries) : Collections.emptyMap();
+    }
+
+    /**
+     * Fills entries with byte ranges of valid UIDs and returns true if 'tempUIDs' object had any entry.
+     */
+    private static boolean indexEntries(JsonParser parser, Map<String, Entry> entries) throws IOException {
+        boolean hasEntries = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            hasEntries = true;
+            final String familyName = parser.getCurrentName();
+            expectToken(parser.nextToken(), JsonToken.START_OBJECT);
+            final int start = (int) parser.getTokenLocation().getByteOffset();
+
+            boolean valid = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final boolean isUidField = "uid".equals(parser.getCurrentName());
+                final JsonToken valueToken = parser.nextToken();
+                if (isUidField) {
+                    valid = isValidUid(parser, valueToken, familyName);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (valid) {
+                final int end = (int) parser.getCurrentLocation().getByteOffset();
+                entries.put(familyName, Entry.raw(start, end - start));
+            }
+        }
+
+        return hasEntries;
+    }
+
+    private static boolean isValidUid(JsonParser parser, JsonToken token, String familyName) throws IOException {
+        if (!token.isScalarValue() || token == JsonToken.VALUE_NULL || parser.getTextLength() == 0) {
+            return false;
+        }
+        // avoid reading UID text unless it is needed for sentinel check
+        return !AUDIENCE_NETWORK.equals(familyName) || !UidsCookie.isFacebookSentinel(familyName, parser.getText());
+    }
+
+    private static void expectToken(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException(String.format("Expected %s but was %s", expected, actual));
+        }
+    }
+
+    /**
+     * Returns a copy of this map with given UID replaced, other entries stay lazy.
+     */
+    LazyUidsMap with(String familyName, UidWithExpiry uid) {
+        final Map<String, Entry> copy = new LinkedHashMap<>(entries);
+        copy.put(familyName, Entry.bound(uid));
+        return new LazyUidsMap(json, mapper, copy);
+    }
+
+    /**
+     * Returns a copy of this map without given UID, other entries stay lazy.
+     */
+    LazyUidsMap without(String familyName) {
+        final Map<String, Entry> copy = new LinkedHashMap<>(entries);
+        copy.remove(familyName);
+        return new LazyUidsMap(json, mapper, copy);
+    }
+
+    @Override
+    public UidWithExpiry get(Object familyName) {
+        final Entry entry = entries.get(familyName);
+        return entry != null ? bindOrNull((String) familyName, entry) : null;
+    }
+
+    /**
+     * Returns true if any UID matches given predicate. Entries are bound one by one until the first match, so
+     * checks like "has any live UID" do not bind the whole cookie.
+     */
+    boolean anyMatch(Predicate<UidWithExpiry> predicate) {
+        for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+            final UidWithExpiry uid = bindOrNull(mapEntry.getKey(), mapEntry.getValue());
+            if (uid != null && predicate.test(uid)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean containsKey(Object familyName) {
+        return get(familyName) != null;
+    }
+
+    /**
+     * Binds all entries, malformed ones are skipped.
+     */
+    @Override
+    public Set<Map.Entry<String, UidWithExpiry>> entrySet() {
+        final Map<String, UidWithExpiry> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+            final UidWithExpiry uid = bindOrNull(mapEntry.getKey(), mapEntry.getValue());
+            if (uid != null) {
+                result.put(mapEntry.getKey(), uid);
+            }
+        }
+        return Collections.unmodifiableMap(result).entrySet();
+    }
+
+    /**
+     * Malformed entry invalidates only itself, not the whole cookie.
+     */
+    private UidWithExpiry bindOrNull(String familyName, Entry entry) {
+        if (entry.uid == null && !entry.malformed) {
+            try {
+                entry.uid = mapper.readValue(json, entry.offset, entry.length, UidWithExpiry.class);
+            } catch (IOException e) {
+                logger.debug("Could not parse uid for family {0}", e, familyName);
+                entry.malformed = true;
+            }
+        }
+        return entry.uid;
+    }
+
+    /**
+     * Either a byte range in cookie JSON or a UID set after parsing. Range is shared between copies of the map,
+     * binding it is idempotent and its failure is remembered.
+     */
+    private static class Entry {
+
+        private final int offset;
+
+        private final int length;
+
+        private UidWithExpiry uid;
+
+        private boolean malformed;
+
+        private Entry(int offset, int length, UidWithExpiry uid) {
+            this.offset = offset;
+            this.length = length;
+            this.uid = uid;
+        }
+
+        static Entry raw(int offset, int length) {
+            return new Entry(offset, length, null);
+        }
+
+        static Entry bound(UidWithExpiry uid) {
+            return new Entry(-1, 0, uid);
+        }
+
+        boolean isRaw() {
+            return offset >= 0;
+        }
+    }
+
+    static class LazyUidsMapSerializer extends JsonSerializer<LazyUidsMap> {
+
+        @Override
+        public void serialize(LazyUidsMap value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+
+            generator.writeStartObject();
+            for (Map.Entry<String, Entry> mapEntry : value.entries.entrySet()) {
+                final Entry entry = mapEntry.getValue();
+                if (entry.isRaw()) {
+                    generator.writeFieldName(mapEntry.getKey());
+                    generator.writeRawValue(new String(value.json, entry.offset, entry.length,
+                            StandardCharsets.UTF_8));
+                } else {
+                    provider.defaultSerializeField(mapEntry.getKey(), entry.uid, generator);
+                }
+            }
+            generator.writeEndObject();
+        }
+    }
+}
@@ -55,7 +55,10 @@ public class UidsCookie {
      * Returns true if any UID value is 'live'.
      */
     public boolean hasLiveUids() {
-        return uids.getUids().values().stream().anyMatch(UidsCookie::isLive);
+        final Map<String, UidWithExpiry> uidsMap = uids.getUids();
+        return uidsMap instanceof LazyUidsMap
+                ? ((LazyUidsMap) uidsMap).anyMatch(UidsCookie::isLive)
+                : uidsMap.values().stream().anyMatch(UidsCookie::isLive);
     }
 
     /**
@@ -71,18 +74,38 @@ public class UidsCookie {
      * to avoid mutation of the current {@link UidsCookie} object.
      */
     public UidsCookie deleteUid(String familyName) {
-        final Map<String, UidWithExpiry> uidsMap = new HashMap<>(uids.getUids());
-        uidsMap.remove(familyName);
+        final Map<String, UidWithExpiry> originalUidsMap = uids.getUids();
+        final Map<String, UidWithExpiry> uidsMap;
+        if (originalUidsMap instanceof LazyUidsMap) {
+            uidsMap = ((LazyUidsMap) originalUidsMap).without(familyName);
+        } else {
+            uidsMap = new HashMap<>(originalUidsMap);
+            uidsMap.remove(familyName);
+        }
         return new UidsCookie(uids.toBuilder().uids(uidsMap).build(), mapper);
     }
 
+    /**
+     * Performs deletion of UIDs under family ids unknown to this server and returns newly constructed
+     * {@link UidsCookie} to avoid mutation of the current {@link UidsCookie} object.
+     */
+    public UidsCookie deleteOpaqueUids() {
+        return new UidsCookie(uids.toBuilder().opaqueUids(null).build(), mapper);
+    }
+
     /**
      * Performs updates of UID value by family name and returns newly constructed {@link UidsCookie}
      * to avoid mutation of the current {@link UidsCookie}.
      */
     public UidsCookie updateUid(String familyName, String uid) {
-        final Map<String, UidWithExpiry> uidsMap = new HashMap<>(uids.getUids());
-        uidsMap.put(familyName, UidWithExpiry.live(uid));
+        final Map<String, UidWithExpiry> originalUidsMap = uids.getUids();
+        final Map<String, UidWithExpiry> uidsMap;
+        if (originalUidsMap instanceof LazyUidsMap) {
+            uidsMap = ((LazyUidsMap) originalUidsMap).with(familyName, UidWithExpiry.live(uid));
+        } else {
+            uidsMap = new HashMap<>(originalUidsMap);
+            uidsMap.put(familyName, UidWithExpiry.live(uid));
+        }
         return new UidsCookie(uids.toBuilder().uids(uidsMap).build(), mapper);
     }
 
@@ -94,7 +117,7 @@ public class UidsCookie {
         final Uids.UidsBuilder uidsBuilder = uids.toBuilder();
         uidsBuilder.optout(optout);
         if (optout) {
-            uidsBuilder.uids(Collections.emptyMap());
+            uidsBuilder.uids(Collections.emptyMap()).opaqueUids(null);
         }
         return new UidsCookie(uidsBuilder.build(), mapper);
     }
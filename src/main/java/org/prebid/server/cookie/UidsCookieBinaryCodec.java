@@ -0,0 +1,232 @@
+package org.prebid.server.cookie;
+
+import org.prebid.server.cookie.model.OpaqueUid;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact binary representation of {@link Uids} for 'uids' cookie.
+ * <p>
+ * Layout (version 1), all numbers are unsigned varints:
+ * <pre>
+ * version byte (0x01) | flags byte | [bday epoch seconds] | entries count | entry...
+ * entry: family id | [family name length | family name] | expires epoch seconds + 1 (0 if absent)
+ *        | uid length | uid
+ * </pre>
+ * Family ids come from the registry of cookie family names known to this server. Id is derived from the family name
+ * itself rather than its position, so it is stable when bidders are added or removed. Id 0 means family name follows
+ * inline, which is used for families unknown to the registry and families whose ids collide. Entries with ids
+ * unknown to the registry (written by server with different set of bidders) are decoded as {@link OpaqueUid}s and
+ * written back as is, so they are not lost when cookie is updated.
+ * <p>
+ * JSON cookie always starts with '{', so the first byte tells formats apart.
+ */
+public class UidsCookieBinaryCodec {
+
+    static final byte VERSION_1 = 0x01;
+
+    private static final int FLAG_OPTOUT = 0x01;
+    private static final int FLAG_BDAY = 0x02;
+
+    private static final int INLINE_FAMILY_ID = 0;
+    private static final int FAMILY_ID_MASK = 0xFFFFF;
+
+    private final Map<String, Integer> idsByFamily;
+    private final Map<Integer, String> familiesById;
+
+    public UidsCookieBinaryCodec(Collection<String> cookieFamilyNames) {
+        final Map<Integer, String> families = new HashMap<>();
+        final Set<Integer> collisions = new HashSet<>();
+        for (String familyName : new HashSet<>(cookieFamilyNames)) {
+            final int id = familyId(familyName);
+            if (families.putIfAbsent(id, familyName) != null) {
+                collisions.add(id);
+            }
+        }
+        families.keySet().removeAll(collisions);
+
+        familiesById = families;
+        idsByFamily = new HashMap<>();
+        families.forEach((id, familyName) -> idsByFamily.put(familyName, id));
+    }
+
+    /**
+     * Returns true if given decoded cookie value is in binary format.
+     */
+    public static boolean isBinary(byte[] value) {
+        return value.length > 0 && value[0] == VERSION_1;
+    }
+
+    public byte[] encode(Uids uids) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(128);
+        output.write(VERSION_1);
+
+        final ZonedDateTime bday = uids.getBday();
+        output.write((Boolean.TRUE.equals(uids.getOptout()) ? FLAG_OPTOUT : 0) | (bday != null ? FLAG_BDAY : 0));
+        if (bday != null) {
+            writeVarint(output, Math.max(bday.toEpochSecond(), 0));
+        }
+
+        final Map<String, UidWithExpiry> uidsMap = uids.getUids() != null ? uids.getUids() : Collections.emptyMap();
+        final List<OpaqueUid> opaqueUids = uids.getOpaqueUids() != null
+                ? uids.getOpaqueUids()
+                : Collections.emptyList();
+
+        writeVarint(output, uidsMap.size() + opaqueUids.size());
+        for (Map.Entry<String, UidWithExpiry> entry : uidsMap.entrySet()) {
+            final String familyName = entry.getKey();
+            final Integer id = idsByFamily.get(familyName);
+            if (id != null) {
+                writeVarint(output, id);
+            } else {
+                writeVarint(output, INLINE_FAMILY_ID);
+                writeString(output, familyName);
+            }
+
+            final UidWithExpiry uid = entry.getValue();
+            writeUid(output, uid.getUid(), uid.getExpires());
+        }
+        for (OpaqueUid opaqueUid : opaqueUids) {
+            writeVarint(output, opaqueUid.getFamilyId());
+            writeUid(output, opaqueUid.getUid(), opaqueUid.getExpires());
+        }
+
+        return output.toByteArray();
+    }
+
+    /**
+     * Decodes binary cookie value, throws {@link IllegalArgumentException} if it is malformed.
+     */
+    public Uids decode(byte[] value) {
+        final Reader reader = new Reader(value);
+        if (reader.readByte() != VERSION_1) {
+            throw new IllegalArgumentException("Unsupported uids cookie version");
+        }
+
+        final Uids.UidsBuilder uidsBuilder = Uids.builder();
+
+        final int flags = reader.readByte();
+        if ((flags & FLAG_OPTOUT) != 0) {
+            uidsBuilder.optout(true);
+        }
+        if ((flags & FLAG_BDAY) != 0) {
+            uidsBuilder.bday(toZonedDateTime(reader.readVarint()));
+        }
+
+        final long count = reader.readVarint();
+        final Map<String, UidWithExpiry> uids = new HashMap<>();
+        List<OpaqueUid> opaqueUids = null;
+        for (long i = 0; i < count; i++) {
+            final long id = reader.readVarint();
+            if (id > FAMILY_ID_MASK + 1) {
+                throw new IllegalArgumentException("Malformed family id in uids cookie");
+            }
+            final String familyName = id == INLINE_FAMILY_ID ? reader.readString() : familiesById.get((int) id);
+            final long expires = reader.readVarint();
+            final String uid = reader.readString();
+            final ZonedDateTime expiresDateTime = expires > 0 ? toZonedDateTime(expires - 1) : null;
+
+            if (familyName != null) {
+                uids.put(familyName, new UidWithExpiry(uid, expiresDateTime));
+            } else {
+                if (opaqueUids == null) {
+                    opaqueUids = new ArrayList<>();
+                }
+                opaqueUids.add(OpaqueUid.of((int) id, uid, expiresDateTime));
+            }
+        }
+
+        return uidsBuilder.uids(uids).opaqueUids(opaqueUids).build();
+    }
+
+    /**
+     * Spreads {@link String#hashCode()}, which is the same on every JVM, over the id range. Id 0 is reserved.
+     */
+    private static int familyId(String familyName) {
+        int hash = familyName.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return (hash & FAMILY_ID_MASK) + 1;
+    }
+
+    private static ZonedDateTime toZonedDateTime(long epochSecond) {
+        return ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneOffset.UTC);
+    }
+
+    private static void writeUid(ByteArrayOutputStream output, String uid, ZonedDateTime expires) {
+        writeVarint(output, expires != null ? Math.max(expires.toEpochSecond(), 0) + 1 : 0);
+        writeString(output, uid != null ? uid : "");
+    }
+
+    private static void writeString(ByteArrayOutputStream output, String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(output, bytes.length);
+        output.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream output, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            output.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        output.write((int) remaining);
+    }
+
+    private static class Reader {
+
+        private static final int MAX_VARINT_BYTES = 10;
+
+        private final byte[] value;
+
+        private int position;
+
+        Reader(byte[] value) {
+            this.value = value;
+        }
+
+        int readByte() {
+            if (position >= value.length) {
+                throw new IllegalArgumentException("Unexpected end of uids cookie");
+            }
+            return value[position++] & 0xFF;
+        }
+
+        long readVarint() {
+            long result = 0;
+            for (int i = 0; i < MAX_VARINT_BYTES; i++) {
+                final int current = readByte();
+                result |= (long) (current & 0x7F) << (7 * i);
+                if ((current & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in uids cookie");
+        }
+
+        String readString() {
+            final long length = readVarint();
+            if (length > value.length - position) {
+                throw new IllegalArgumentException("Unexpected end of uids cookie");
+            }
+            final String result = new String(value, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package org.prebid.server.cookie;
+
+/**
+ * Describes formats 'uids' cookie could be written in, see {@link UidsCookieBinaryCodec} for binary one.
+ */
+public enum UidsCookieFormat {
+
+    json, binary
+}
@@ -1,6 +1,5 @@
 package org.prebid.server.cookie;
 
-import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -9,10 +8,10 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.cookie.model.UidWithExpiry;
 import org.prebid.server.cookie.proto.Uids;
-import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.util.HttpUtil;
 
+import java.io.IOException;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.ZonedDateTime;
@@ -39,6 +38,8 @@ public class UidsCookieService {
     private final String hostCookieDomain;
     private final long ttlSeconds;
     private final int maxCookieSizeBytes;
+    private final UidsCookieFormat format;
+    private final UidsCookieBinaryCodec binaryCodec;
     private final JacksonMapper mapper;
 
     public UidsCookieService(String optOutCookieName,
@@ -48,6 +49,8 @@ public class UidsCookieService {
                              String hostCookieDomain,
                              int ttlDays,
                              int maxCookieSizeBytes,
+                             UidsCookieFormat format,
+                             UidsCookieBinaryCodec binaryCodec,
                              JacksonMapper mapper) {
 
         if (maxCookieSizeBytes != 0 && maxCookieSizeBytes < MIN_COOKIE_SIZE_BYTES) {
@@ -62,6 +65,8 @@ public class UidsCookieService {
         this.hostCookieDomain = hostCookieDomain;
         this.ttlSeconds = Duration.ofDays(ttlDays).getSeconds();
         this.maxCookieSizeBytes = maxCookieSizeBytes;
+        this.format = Objects.requireNonNull(format);
+        this.binaryCodec = Objects.requireNonNull(binaryCodec);
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -104,20 +109,25 @@ public class UidsCookieService {
         } else {
             optout = parsedUids != null ? parsedUids.getOptout() : null;
             uidsMap = enrichAndSanitizeUids(parsedUids, cookies);
+            uidsBuilder.opaqueUids(parsedUids != null ? parsedUids.getOpaqueUids() : null);
         }
 
         return new UidsCookie(uidsBuilder.uids(uidsMap).optout(optout).build(), mapper);
     }
 
     /**
-     * Parses cookies {@link Map} and composes {@link Uids} model.
+     * Parses cookies {@link Map} and composes {@link Uids} model. Both JSON and binary cookie formats are supported
+     * regardless of configured one.
      */
     public Uids parseUids(Map<String, String> cookies) {
         if (cookies.containsKey(COOKIE_NAME)) {
             final String cookieValue = cookies.get(COOKIE_NAME);
             try {
-                return mapper.decodeValue(Buffer.buffer(Base64.getUrlDecoder().decode(cookieValue)), Uids.class);
-            } catch (IllegalArgumentException | DecodeException e) {
+                final byte[] decodedValue = Base64.getUrlDecoder().decode(cookieValue);
+                return UidsCookieBinaryCodec.isBinary(decodedValue)
+                        ? binaryCodec.decode(decodedValue)
+                        : LazyUidsMap.parseUids(decodedValue, mapper.mapper());
+            } catch (IllegalArgumentException | IOException e) {
                 logger.debug("Could not decode or parse {0} cookie value {1}", e, COOKIE_NAME, cookieValue);
             }
         }
@@ -125,20 +135,28 @@ public class UidsCookieService {
     }
 
     /**
-     * Creates a {@link Cookie} with 'uids' as a name and encoded JSON string representing supplied {@link UidsCookie}
+     * Creates a {@link Cookie} with 'uids' as a name and supplied {@link UidsCookie} encoded in configured format
      * as a value.
      */
     public Cookie toCookie(UidsCookie uidsCookie) {
         UidsCookie modifiedUids = uidsCookie;
-        byte[] cookieBytes = uidsCookie.toJson().getBytes();
+        byte[] cookieBytes = encode(uidsCookie);
 
         while (maxCookieSizeBytes > 0 && cookieBytes.length > maxCookieSizeBytes) {
-            final String familyName = modifiedUids.getCookieUids().getUids().entrySet().stream()
-                    .reduce(UidsCookieService::getClosestExpiration)
-                    .map(Map.Entry::getKey)
-                    .orElse(null);
-            modifiedUids = modifiedUids.deleteUid(familyName);
-            cookieBytes = modifiedUids.toJson().getBytes();
+            // UIDs of families unknown to this server go first
+            if (modifiedUids.getCookieUids().getOpaqueUids() != null) {
+                modifiedUids = modifiedUids.deleteOpaqueUids();
+            } else {
+                final String familyName = modifiedUids.getCookieUids().getUids().entrySet().stream()
+                        .reduce(UidsCookieService::getClosestExpiration)
+                        .map(Map.Entry::getKey)
+                        .orElse(null);
+                if (familyName == null) {
+                    break;
+                }
+                modifiedUids = modifiedUids.deleteUid(familyName);
+            }
+            cookieBytes = encode(modifiedUids);
         }
 
         final Cookie cookie = Cookie
@@ -153,6 +171,12 @@ public class UidsCookieService {
         return cookie;
     }
 
+    private byte[] encode(UidsCookie uidsCookie) {
+        return format == UidsCookieFormat.binary
+                ? binaryCodec.encode(uidsCookie.getCookieUids())
+                : uidsCookie.toJson().getBytes();
+    }
+
     /**
      * Returns the Uid with the closest expiration date, e.i. the one that will expire sooner.
      */
@@ -193,6 +217,10 @@ public class UidsCookieService {
      */
     private Map<String, UidWithExpiry> enrichAndSanitizeUids(Uids uids, Map<String, String> cookies) {
         final Map<String, UidWithExpiry> originalUidsMap = uids != null ? uids.getUids() : null;
+        if (originalUidsMap instanceof LazyUidsMap) {
+            return enrichLazyUids((LazyUidsMap) originalUidsMap, cookies);
+        }
+
         final Map<String, UidWithExpiry> workingUidsMap = new HashMap<>(
                 ObjectUtils.defaultIfNull(originalUidsMap, Collections.emptyMap()));
 
@@ -212,6 +240,22 @@ public class UidsCookieService {
         return workingUidsMap;
     }
 
+    /**
+     * Same as {@link #enrichAndSanitizeUids(Uids, Map)} for UIDs which are already sanitized while indexing the cookie,
+     * keeps them unbound.
+     */
+    private Map<String, UidWithExpiry> enrichLazyUids(LazyUidsMap uidsMap, Map<String, String> cookies) {
+        final String hostCookie = parseHostCookie(cookies);
+        if (hostCookie == null || !hostCookieDiffers(hostCookie, uidsMap.get(hostCookieFamily))) {
+            return uidsMap;
+        }
+
+        final UidWithExpiry hostCookieUid = UidWithExpiry.live(hostCookie);
+        return facebookSentinelOrEmpty(hostCookieFamily, hostCookieUid)
+                ? uidsMap.without(hostCookieFamily)
+                : uidsMap.with(hostCookieFamily, hostCookieUid);
+    }
+
     /**
      * Returns true if host cookie value differs from the given UID value.
      */
@@ -220,7 +264,10 @@ public class UidsCookieService {
     }
 
     private static boolean facebookSentinelOrEmpty(Map.Entry<String, UidWithExpiry> entry) {
-        return UidsCookie.isFacebookSentinel(entry.getKey(), entry.getValue().getUid())
-                || StringUtils.isEmpty(entry.getValue().getUid());
+        return facebookSentinelOrEmpty(entry.getKey(), entry.getValue());
+    }
+
+    private static boolean facebookSentinelOrEmpty(String familyName, UidWithExpiry uid) {
+        return UidsCookie.isFacebookSentinel(familyName, uid.getUid()) || StringUtils.isEmpty(uid.getUid());
     }
 }
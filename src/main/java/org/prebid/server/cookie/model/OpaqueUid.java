@@ -0,0 +1,19 @@
+package org.prebid.server.cookie.model;
+
+import lombok.Value;
+
+import java.time.ZonedDateTime;
+
+/**
+ * UID of binary 'uids' cookie stored under family id which is unknown to this server (for example, written by
+ * another server with different set of bidders). It is kept as is, so it could be written back to the cookie.
+ */
+@Value(staticConstructor = "of")
+public class OpaqueUid {
+
+    int familyId;
+
+    String uid;
+
+    ZonedDateTime expires;
+}
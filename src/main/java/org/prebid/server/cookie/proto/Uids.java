@@ -1,11 +1,14 @@
 package org.prebid.server.cookie.proto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Value;
+import org.prebid.server.cookie.model.OpaqueUid;
 import org.prebid.server.cookie.model.UidWithExpiry;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Map;
 
 @Builder(toBuilder = true)
@@ -21,4 +24,10 @@ public class Uids {
     Boolean optout;
 
     ZonedDateTime bday;
+
+    /**
+     * UIDs of binary cookie under family ids unknown to this server, not a part of JSON cookie.
+     */
+    @JsonIgnore
+    List<OpaqueUid> opaqueUids;
 }
@@ -1,5 +1,7 @@
 package org.prebid.server.currency;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -7,7 +9,6 @@ import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
-import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.currency.proto.CurrencyConversionRates;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.JacksonMapper;
@@ -25,8 +26,6 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -40,12 +39,15 @@ public class CurrencyConversionService implements Initializable {
     private static final String DEFAULT_BID_CURRENCY = "USD";
     // This number is chosen because of PriceGranularities default precision value of 2 + 1 for better accuracy
     private static final int DEFAULT_PRICE_PRECISION = 3;
+    private static final int REQUEST_RATE_MATRICES_CACHE_SIZE = 1000;
 
     private final String currencyServerUrl;
     private final ExternalConversionProperties externalConversionProperties;
     private final JacksonMapper mapper;
 
-    private Map<String, Map<String, BigDecimal>> externalCurrencyRates;
+    private final Cache<Map<String, Map<String, BigDecimal>>, CurrencyRateMatrix> requestRateMatrices;
+
+    private volatile CurrencyRateMatrix externalRateMatrix;
     private ZonedDateTime lastUpdated;
 
     public CurrencyConversionService(ExternalConversionProperties externalConversionProperties) {
@@ -58,6 +60,12 @@ public class CurrencyConversionService implements Initializable {
             currencyServerUrl = null;
             mapper = null;
         }
+
+        // request rates map instance is the same for all bids of the auction
+        requestRateMatrices = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(REQUEST_RATE_MATRICES_CACHE_SIZE)
+                .build();
     }
 
     /**
@@ -113,7 +121,7 @@ public class CurrencyConversionService implements Initializable {
     private Void updateCurrencyRates(CurrencyConversionRates currencyConversionRates) {
         final Map<String, Map<String, BigDecimal>> receivedCurrencyRates = currencyConversionRates.getConversions();
         if (receivedCurrencyRates != null) {
-            externalCurrencyRates = receivedCurrencyRates;
+            externalRateMatrix = CurrencyRateMatrix.of(receivedCurrencyRates);
             lastUpdated = now();
         }
 
@@ -127,7 +135,7 @@ public class CurrencyConversionService implements Initializable {
         logger.warn("Error occurred while request to currency service", exception);
 
         if (externalRatesAreStale()) {
-            externalCurrencyRates = null;
+            externalRateMatrix = null;
         }
 
         return null;
@@ -160,7 +168,8 @@ public class CurrencyConversionService implements Initializable {
     }
 
     public Map<String, Map<String, BigDecimal>> getExternalCurrencyRates() {
-        return externalCurrencyRates;
+        final CurrencyRateMatrix rateMatrix = externalRateMatrix;
+        return rateMatrix != null ? rateMatrix.getRates() : null;
     }
 
     /**
@@ -189,27 +198,38 @@ public class CurrencyConversionService implements Initializable {
             return price;
         }
 
-        final Map<String, Map<String, BigDecimal>> firstPriorityRates;
-        final Map<String, Map<String, BigDecimal>> secondPriorityRates;
+        final CurrencyRateMatrix requestRateMatrix = MapUtils.isNotEmpty(requestCurrencyRates)
+                ? requestRateMatrices.get(requestCurrencyRates, CurrencyRateMatrix::of)
+                : null;
+
+        final CurrencyRateMatrix firstPriorityRates;
+        final CurrencyRateMatrix secondPriorityRates;
 
         if (BooleanUtils.isFalse(usepbsrates)) {
-            firstPriorityRates = requestCurrencyRates;
-            secondPriorityRates = externalCurrencyRates;
+            firstPriorityRates = requestRateMatrix;
+            secondPriorityRates = externalRateMatrix;
         } else {
-            firstPriorityRates = externalCurrencyRates;
-            secondPriorityRates = requestCurrencyRates;
+            firstPriorityRates = externalRateMatrix;
+            secondPriorityRates = requestRateMatrix;
         }
 
-        final BigDecimal conversionRate = getConversionRateByPriority(firstPriorityRates, secondPriorityRates,
-                adServerCurrency, effectiveBidCurrency);
+        double multiplier = multiplier(firstPriorityRates, adServerCurrency, effectiveBidCurrency);
+        if (Double.isNaN(multiplier)) {
+            multiplier = multiplier(secondPriorityRates, adServerCurrency, effectiveBidCurrency);
+        }
 
-        if (conversionRate == null) {
+        if (Double.isNaN(multiplier)) {
             throw new PreBidException(
                     String.format("Unable to convert from currency %s to desired ad server currency %s",
                             effectiveBidCurrency, adServerCurrency));
         }
 
-        return price.divide(conversionRate, DEFAULT_PRICE_PRECISION, RoundingMode.HALF_EVEN);
+        return BigDecimal.valueOf(price.doubleValue() * multiplier)
+                .setScale(DEFAULT_PRICE_PRECISION, RoundingMode.HALF_EVEN);
+    }
+
+    private static double multiplier(CurrencyRateMatrix rateMatrix, String adServerCurrency, String bidCurrency) {
+        return rateMatrix != null ? rateMatrix.multiplier(adServerCurrency, bidCurrency) : Double.NaN;
     }
 
     private static Map<String, Map<String, BigDecimal>> currencyRates(BidRequest bidRequest) {
@@ -229,90 +249,6 @@ public class CurrencyConversionService implements Initializable {
         return currency != null ? currency.getUsepbsrates() : null;
     }
 
-    /**
-     * Returns conversion rate from the given currency rates according to priority.
-     */
-    private static BigDecimal getConversionRateByPriority(Map<String, Map<String, BigDecimal>> firstPriorityRates,
-                                                          Map<String, Map<String, BigDecimal>> secondPriorityRates,
-                                                          String adServerCurrency,
-                                                          String effectiveBidCurrency) {
-
-        return ObjectUtils.defaultIfNull(
-                getConversionRate(firstPriorityRates, adServerCurrency, effectiveBidCurrency),
-                getConversionRate(secondPriorityRates, adServerCurrency, effectiveBidCurrency));
-    }
-
-    /**
-     * Looking for rates for adServerCurrency - bidCurrency pair, using such approaches as straight, reverse and
-     * intermediate rates.
-     */
-    private static BigDecimal getConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
-                                                String adServerCurrency, String bidCurrency) {
-        if (MapUtils.isEmpty(currencyConversionRates)) {
-            return null;
-        }
-
-        BigDecimal conversionRate;
-        final Map<String, BigDecimal> serverCurrencyRates = currencyConversionRates.get(adServerCurrency);
-
-        conversionRate = serverCurrencyRates != null ? serverCurrencyRates.get(bidCurrency) : null;
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        final Map<String, BigDecimal> bidCurrencyRates = currencyConversionRates.get(bidCurrency);
-        conversionRate = findReverseConversionRate(bidCurrencyRates, adServerCurrency);
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        return findIntermediateConversionRate(serverCurrencyRates, bidCurrencyRates);
-    }
-
-    /**
-     * Finds reverse conversion rate.
-     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
-     */
-    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> bidCurrencyRates,
-                                                        String adServerCurrency) {
-        final BigDecimal reverseConversionRate = bidCurrencyRates != null
-                ? bidCurrencyRates.get(adServerCurrency)
-                : null;
-
-        return reverseConversionRate != null
-                ? BigDecimal.ONE.divide(reverseConversionRate, reverseConversionRate.precision(),
-                RoundingMode.HALF_EVEN)
-                : null;
-    }
-
-    /**
-     * Finds intermediate conversion rate.
-     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
-     * (1/1.5) * 1.2 conversion rate.
-     */
-    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> adServerCurrencyRates,
-                                                             Map<String, BigDecimal> bidCurrencyRates) {
-        BigDecimal conversionRate = null;
-        if (MapUtils.isNotEmpty(adServerCurrencyRates) && MapUtils.isNotEmpty(bidCurrencyRates)) {
-            final List<String> sharedCurrencies = new ArrayList<>(adServerCurrencyRates.keySet());
-            sharedCurrencies.retainAll(bidCurrencyRates.keySet());
-
-            if (!sharedCurrencies.isEmpty()) {
-                // pick any found shared currency
-                final String sharedCurrency = sharedCurrencies.get(0);
-                final BigDecimal adServerCurrencyRateIntermediate = adServerCurrencyRates.get(sharedCurrency);
-                final BigDecimal bidCurrencyRateIntermediate = bidCurrencyRates.get(sharedCurrency);
-                conversionRate = adServerCurrencyRateIntermediate.divide(bidCurrencyRateIntermediate,
-                        // chose largest precision among intermediate rates
-                        bidCurrencyRateIntermediate.compareTo(adServerCurrencyRateIntermediate) > 0
-                                ? bidCurrencyRateIntermediate.precision()
-                                : adServerCurrencyRateIntermediate.precision(),
-                        RoundingMode.HALF_EVEN);
-            }
-        }
-        return conversionRate;
-    }
-
     private boolean isRatesStale() {
         if (lastUpdated == null) {
             return false;
@@ -0,0 +1,170 @@
+package org.prebid.server.currency;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Immutable dense matrix of conversion multipliers between all currencies mentioned in the given rates.
+ * <p>
+ * Rates are given in the same form as in currency server response and 'ext.prebid.currency.rates': for rates[A][B]
+ * price in currency A equals price in currency B divided by the rate. Pairs missing in rates are resolved once when
+ * matrix is built: first by reverse rate, then through intermediate currency, preferring the path with the least
+ * derived legs. Conversion is then two index lookups and one multiplication.
+ */
+class CurrencyRateMatrix {
+
+    private static final byte DIRECT = 0;
+    private static final byte REVERSE = 1;
+    private static final byte INTERMEDIATE = 2;
+    private static final byte MISSING = Byte.MAX_VALUE;
+
+    private final Map<String, Map<String, BigDecimal>> rates;
+    private final Map<String, Integer> indexes;
+    private final double[][] multipliers;
+
+    private CurrencyRateMatrix(Map<String, Map<String, BigDecimal>> rates,
+                               Map<String, Integer> indexes,
+                               double[][] multipliers) {
+
+        this.rates = rates;
+        this.indexes = indexes;
+        this.multipliers = multipliers;
+    }
+
+    static CurrencyRateMatrix of(Map<String, Map<String, BigDecimal>> rates) {
+        final Map<String, Integer> indexes = indexCurrencies(rates);
+        final int size = indexes.size();
+
+        final double[][] matrix = new double[size][size];
+        final byte[][] kinds = new byte[size][size];
+        for (int i = 0; i < size; i++) {
+            Arrays.fill(matrix[i], Double.NaN);
+            Arrays.fill(kinds[i], MISSING);
+        }
+
+        fillDirectRates(rates, indexes, matrix, kinds);
+        fillReverseRates(matrix, kinds);
+        fillIntermediateRates(matrix, kinds);
+
+        // store multipliers so that conversion does not need division
+        for (double[] row : matrix) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = 1 / row[i];
+            }
+        }
+
+        return new CurrencyRateMatrix(rates, indexes, matrix);
+    }
+
+    private static Map<String, Integer> indexCurrencies(Map<String, Map<String, BigDecimal>> rates) {
+        // sorted to make intermediate currency choice independent of map ordering
+        final TreeSet<String> currencies = new TreeSet<>();
+        rates.forEach((currency, currencyRates) -> {
+            if (currency != null && currencyRates != null) {
+                currencies.add(currency);
+                currencyRates.keySet().stream().filter(Objects::nonNull).forEach(currencies::add);
+            }
+        });
+
+        final Map<String, Integer> indexes = new HashMap<>();
+        for (String currency : currencies) {
+            indexes.put(currency, indexes.size());
+        }
+        return indexes;
+    }
+
+    private static void fillDirectRates(Map<String, Map<String, BigDecimal>> rates,
+                                        Map<String, Integer> indexes,
+                                        double[][] matrix,
+                                        byte[][] kinds) {
+
+        rates.forEach((currency, currencyRates) -> {
+            if (currency == null || currencyRates == null) {
+                return;
+            }
+            final int from = indexes.get(currency);
+            currencyRates.forEach((otherCurrency, rate) -> {
+                if (otherCurrency != null && isValidRate(rate)) {
+                    final int to = indexes.get(otherCurrency);
+                    matrix[from][to] = rate.doubleValue();
+                    kinds[from][to] = DIRECT;
+                }
+            });
+        });
+    }
+
+    private static boolean isValidRate(BigDecimal rate) {
+        return rate != null && rate.signum() > 0;
+    }
+
+    private static void fillReverseRates(double[][] matrix, byte[][] kinds) {
+        for (int from = 0; from < matrix.length; from++) {
+            for (int to = 0; to < matrix.length; to++) {
+                if (kinds[from][to] == DIRECT && kinds[to][from] == MISSING) {
+                    matrix[to][from] = 1 / matrix[from][to];
+                    kinds[to][from] = REVERSE;
+                }
+            }
+        }
+    }
+
+    /**
+     * Rate A to B through currency C is rates[A][C] / rates[B][C]. Only direct and reverse rates are used as legs.
+     */
+    private static void fillIntermediateRates(double[][] matrix, byte[][] kinds) {
+        for (int from = 0; from < matrix.length; from++) {
+            for (int to = 0; to < matrix.length; to++) {
+                if (from == to || kinds[from][to] != MISSING) {
+                    continue;
+                }
+
+                int bestIntermediate = -1;
+                int bestCost = Integer.MAX_VALUE;
+                for (int intermediate = 0; intermediate < matrix.length; intermediate++) {
+                    final byte fromKind = kinds[from][intermediate];
+                    final byte toKind = kinds[to][intermediate];
+                    if (!isLeg(fromKind) || !isLeg(toKind)) {
+                        continue;
+                    }
+
+                    // each reverse leg adds one to the cost, so two direct legs are the best path
+                    final int cost = fromKind + toKind;
+                    if (cost < bestCost) {
+                        bestCost = cost;
+                        bestIntermediate = intermediate;
+                    }
+                }
+
+                if (bestIntermediate != -1) {
+                    matrix[from][to] = matrix[from][bestIntermediate] / matrix[to][bestIntermediate];
+                    kinds[from][to] = INTERMEDIATE;
+                }
+            }
+        }
+    }
+
+    private static boolean isLeg(byte kind) {
+        return kind == DIRECT || kind == REVERSE;
+    }
+
+    /**
+     * Returns rates this matrix was built from.
+     */
+    Map<String, Map<String, BigDecimal>> getRates() {
+        return rates;
+    }
+
+    /**
+     * Returns multiplier converting price in bid currency into ad server currency or {@link Double#NaN} if
+     * these currencies cannot be converted.
+     */
+    double multiplier(String adServerCurrency, String bidCurrency) {
+        final Integer adServerCurrencyIndex = indexes.get(adServerCurrency);
+        final Integer bidCurrencyIndex = adServerCurrencyIndex != null ? indexes.get(bidCurrency) : null;
+        return bidCurrencyIndex != null ? multipliers[adServerCurrencyIndex][bidCurrencyIndex] : Double.NaN;
+    }
+}
@@ -22,6 +22,7 @@ import org.prebid.server.auction.PrivacyEnforcementService;
 import org.prebid.server.auction.model.CookieSyncContext;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.UsersyncInfoAssembler;
+import org.prebid.server.bidder.UsersyncInfoTemplate;
 import org.prebid.server.bidder.UsersyncMethodChooser;
 import org.prebid.server.bidder.UsersyncUtil;
 import org.prebid.server.bidder.Usersyncer;
@@ -60,7 +61,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class CookieSyncHandler implements Handler<RoutingContext> {
 
@@ -83,6 +86,7 @@ public class CookieSyncHandler implements Handler<RoutingContext> {
     private final ApplicationSettings applicationSettings;
     private final BidderCatalog bidderCatalog;
     private final Set<String> activeBidders;
+    private final Map<Usersyncer.UsersyncMethod, UsersyncInfoTemplate> usersyncInfoTemplates;
     private final TcfDefinerService tcfDefinerService;
     private final PrivacyEnforcementService privacyEnforcementService;
     private final Integer gdprHostVendorId;
@@ -115,6 +119,7 @@ public class CookieSyncHandler implements Handler<RoutingContext> {
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
         this.activeBidders = activeBidders(bidderCatalog);
+        this.usersyncInfoTemplates = compileUsersyncInfoTemplates(bidderCatalog);
         this.tcfDefinerService = Objects.requireNonNull(tcfDefinerService);
         this.privacyEnforcementService = Objects.requireNonNull(privacyEnforcementService);
         this.gdprHostVendorId = validateHostVendorId(gdprHostVendorId);
@@ -133,6 +138,21 @@ public class CookieSyncHandler implements Handler<RoutingContext> {
         return bidderCatalog.names().stream().filter(bidderCatalog::isActive).collect(Collectors.toSet());
     }
 
+    private static Map<Usersyncer.UsersyncMethod, UsersyncInfoTemplate> compileUsersyncInfoTemplates(
+            BidderCatalog bidderCatalog) {
+
+        final Map<Usersyncer.UsersyncMethod, UsersyncInfoTemplate> templates = new ConcurrentHashMap<>();
+        for (String bidder : bidderCatalog.names()) {
+            final Usersyncer usersyncer = bidderCatalog.usersyncerByName(bidder);
+            if (usersyncer != null) {
+                Stream.of(usersyncer.getPrimaryMethod(), usersyncer.getSecondaryMethod())
+                        .filter(Objects::nonNull)
+                        .forEach(method -> templates.computeIfAbsent(method, UsersyncInfoTemplate::compile));
+            }
+        }
+        return templates;
+    }
+
     private static Integer validateHostVendorId(Integer gdprHostVendorId) {
         if (gdprHostVendorId == null) {
             logger.warn("gdpr.host-vendor-id not specified. Will skip host company GDPR checks");
@@ -572,12 +592,13 @@ public class CookieSyncHandler implements Handler<RoutingContext> {
                                         String uidFromHostCookieToSet,
                                         Privacy privacy) {
 
-        final UsersyncInfoAssembler usersyncInfoAssembler = UsersyncInfoAssembler.from(usersyncMethod);
+        if (uidFromHostCookieToSet == null) {
+            return usersyncInfoTemplates.computeIfAbsent(usersyncMethod, UsersyncInfoTemplate::compile)
+                    .render(privacy);
+        }
 
-        return (uidFromHostCookieToSet == null
-                ? usersyncInfoAssembler
-                : usersyncInfoAssembler
-                .withUrl(toHostBidderUsersyncUrl(cookieFamilyName, usersyncMethod, uidFromHostCookieToSet)))
+        return UsersyncInfoAssembler.from(usersyncMethod)
+                .withUrl(toHostBidderUsersyncUrl(cookieFamilyName, usersyncMethod, uidFromHostCookieToSet))
                 .withPrivacy(privacy)
                 .assemble();
     }
@@ -16,7 +16,9 @@ public class HttpInteractionLogHandler implements Handler<RoutingContext> {
     private static final String ENDPOINT_PARAMETER = "endpoint";
     private static final String STATUS_CODE_PARAMETER = "statusCode";
     private static final String ACCOUNT_PARAMETER = "account";
+    private static final String BIDDER_PARAMETER = "bidder";
     private static final String LIMIT_PARAMETER = "limit";
+    private static final String SAMPLING_RATE_PARAMETER = "samplingRate";
 
     private final int maxLimit;
     private final HttpInteractionLogger httpInteractionLogger;
@@ -35,7 +37,9 @@ public class HttpInteractionLogHandler implements Handler<RoutingContext> {
                     readEndpoint(parameters),
                     readStatusCode(parameters),
                     readAccount(parameters),
-                    readLimit(parameters)));
+                    readBidder(parameters),
+                    readLimit(parameters),
+                    readSamplingRate(parameters)));
         } catch (InvalidRequestException e) {
             context.response().setStatusCode(HttpResponseStatus.BAD_REQUEST.code()).end(e.getMessage());
             return;
@@ -71,6 +75,10 @@ public class HttpInteractionLogHandler implements Handler<RoutingContext> {
         return parameters.get(ACCOUNT_PARAMETER);
     }
 
+    private String readBidder(MultiMap parameters) {
+        return parameters.get(BIDDER_PARAMETER);
+    }
+
     private int readLimit(MultiMap parameters) {
         final Integer limit = getIntParameter(LIMIT_PARAMETER, parameters);
 
@@ -86,6 +94,27 @@ public class HttpInteractionLogHandler implements Handler<RoutingContext> {
         return limit;
     }
 
+    private double readSamplingRate(MultiMap parameters) {
+        final String value = parameters.get(SAMPLING_RATE_PARAMETER);
+        if (value == null) {
+            return 1.0;
+        }
+
+        final double samplingRate;
+        try {
+            samplingRate = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException(String.format("Invalid '%s' parameter value", SAMPLING_RATE_PARAMETER));
+        }
+
+        if (!(samplingRate > 0 && samplingRate <= 1)) {
+            throw new InvalidRequestException(String.format(
+                    "Parameter '%s' must be greater than 0 and not greater than 1", SAMPLING_RATE_PARAMETER));
+        }
+
+        return samplingRate;
+    }
+
     private Integer getIntParameter(String parameterName, MultiMap parameters) {
         final String value = parameters.get(parameterName);
         try {
@@ -59,6 +59,7 @@ public class SettingsCacheNotificationHandler implements Handler<RoutingContext>
         }
 
         cacheNotificationListener.save(request.getRequests(), request.getImps());
+        cacheNotificationListener.saveResponses(request.getResponses());
         HttpUtil.respondWith(context, HttpResponseStatus.OK, null);
     }
 
@@ -81,6 +82,7 @@ public class SettingsCacheNotificationHandler implements Handler<RoutingContext>
         }
 
         cacheNotificationListener.invalidate(request.getRequests(), request.getImps());
+        cacheNotificationListener.invalidateResponses(request.getResponses());
         HttpUtil.respondWith(context, HttpResponseStatus.OK, null);
     }
 
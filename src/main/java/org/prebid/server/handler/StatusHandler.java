@@ -7,6 +7,7 @@ import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.RoutingContext;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.health.HealthChecker;
+import org.prebid.server.health.WarmupHealthChecker;
 import org.prebid.server.json.JacksonMapper;
 
 import java.util.List;
@@ -40,8 +41,18 @@ public class StatusHandler implements Handler<RoutingContext> {
                     .end();
         } else {
             context.response()
+                    .setStatusCode(isWarmupCompleted()
+                            ? HttpResponseStatus.OK.code()
+                            : HttpResponseStatus.SERVICE_UNAVAILABLE.code())
                     .end(mapper.encode(new TreeMap<>(healthCheckers.stream()
                             .collect(Collectors.toMap(HealthChecker::name, HealthChecker::status)))));
         }
     }
+
+    private boolean isWarmupCompleted() {
+        return healthCheckers.stream()
+                .filter(WarmupHealthChecker.class::isInstance)
+                .map(WarmupHealthChecker.class::cast)
+                .allMatch(WarmupHealthChecker::isCompleted);
+    }
 }
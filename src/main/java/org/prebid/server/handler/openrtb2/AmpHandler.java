@@ -40,6 +40,7 @@ import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.overload.OverloadController;
 import org.prebid.server.privacy.gdpr.model.TcfContext;
 import org.prebid.server.privacy.model.PrivacyContext;
 import org.prebid.server.proto.openrtb.ext.ExtPrebid;
@@ -50,6 +51,7 @@ import org.prebid.server.proto.openrtb.ext.response.ExtBidResponse;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidderError;
 import org.prebid.server.proto.openrtb.ext.response.ExtResponseDebug;
 import org.prebid.server.proto.response.AmpResponse;
+import org.prebid.server.settings.model.Account;
 import org.prebid.server.util.HttpUtil;
 
 import java.time.Clock;
@@ -74,10 +76,12 @@ public class AmpHandler implements Handler<RoutingContext> {
             new TypeReference<ExtBidResponse>() {
             };
     private static final MetricName REQUEST_TYPE_METRIC = MetricName.amp;
+    private static final String ACCOUNT_PARAM = "account";
 
     private final AmpRequestFactory ampRequestFactory;
     private final ExchangeService exchangeService;
     private final AnalyticsReporterDelegator analyticsDelegator;
+    private final OverloadController overloadController;
     private final Metrics metrics;
     private final Clock clock;
     private final BidderCatalog bidderCatalog;
@@ -89,6 +93,7 @@ public class AmpHandler implements Handler<RoutingContext> {
     public AmpHandler(AmpRequestFactory ampRequestFactory,
                       ExchangeService exchangeService,
                       AnalyticsReporterDelegator analyticsDelegator,
+                      OverloadController overloadController,
                       Metrics metrics,
                       Clock clock,
                       BidderCatalog bidderCatalog,
@@ -100,6 +105,7 @@ public class AmpHandler implements Handler<RoutingContext> {
         this.ampRequestFactory = Objects.requireNonNull(ampRequestFactory);
         this.exchangeService = Objects.requireNonNull(exchangeService);
         this.analyticsDelegator = Objects.requireNonNull(analyticsDelegator);
+        this.overloadController = Objects.requireNonNull(overloadController);
         this.metrics = Objects.requireNonNull(metrics);
         this.clock = Objects.requireNonNull(clock);
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
@@ -111,6 +117,12 @@ public class AmpHandler implements Handler<RoutingContext> {
 
     @Override
     public void handle(RoutingContext routingContext) {
+        if (overloadController.shouldReject(REQUEST_TYPE_METRIC, routingContext.request().getParam(ACCOUNT_PARAM))) {
+            respondWithOverloaded(routingContext);
+            return;
+        }
+        overloadController.auctionStarted();
+
         // Prebid Server interprets request.tmax to be the maximum amount of time that a caller is willing to wait
         // for bids. However, tmax may be defined in the Stored Request data.
         // If so, then the trip to the backend might use a significant amount of this time. We can respect timeouts
@@ -277,6 +289,8 @@ public class AmpHandler implements Handler<RoutingContext> {
                               RoutingContext routingContext,
                               long startTime) {
 
+        overloadController.auctionFinished();
+
         final boolean responseSucceeded = responseResult.succeeded();
         final AuctionContext auctionContext = responseSucceeded ? responseResult.result().getMiddle() : null;
 
@@ -385,7 +399,24 @@ public class AmpHandler implements Handler<RoutingContext> {
 
             metrics.updateRequestTimeMetric(clock.millis() - startTime);
             metrics.updateRequestTypeMetric(REQUEST_TYPE_METRIC, metricRequestStatus);
-            analyticsDelegator.processEvent(event, tcfContext);
+            if (!overloadController.shouldDegrade(REQUEST_TYPE_METRIC, accountIdFrom(event.getAuctionContext()))) {
+                analyticsDelegator.processEvent(event, tcfContext);
+            }
+        }
+    }
+
+    private static String accountIdFrom(AuctionContext auctionContext) {
+        final Account account = auctionContext != null ? auctionContext.getAccount() : null;
+        return account != null ? account.getId() : null;
+    }
+
+    private void respondWithOverloaded(RoutingContext context) {
+        metrics.updateRequestTypeMetric(REQUEST_TYPE_METRIC, MetricName.overloaded);
+        if (!context.response().closed()) {
+            context.response()
+                    .putHeader(HttpUtil.RETRY_AFTER_HEADER, String.valueOf(overloadController.getRetryAfterSeconds()))
+                    .setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code())
+                    .end();
         }
     }
 
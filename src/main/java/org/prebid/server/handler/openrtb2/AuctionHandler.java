@@ -22,13 +22,16 @@ import org.prebid.server.exception.BlacklistedAccountException;
 import org.prebid.server.exception.BlacklistedAppException;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.exception.UnauthorizedAccountException;
+import org.prebid.server.health.WarmupRequestMarker;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.overload.OverloadController;
 import org.prebid.server.privacy.gdpr.model.TcfContext;
 import org.prebid.server.privacy.model.PrivacyContext;
+import org.prebid.server.settings.model.Account;
 import org.prebid.server.util.HttpUtil;
 
 import java.time.Clock;
@@ -46,6 +49,8 @@ public class AuctionHandler implements Handler<RoutingContext> {
     private final AuctionRequestFactory auctionRequestFactory;
     private final ExchangeService exchangeService;
     private final AnalyticsReporterDelegator analyticsDelegator;
+    private final OverloadController overloadController;
+    private final WarmupRequestMarker warmupRequestMarker;
     private final Metrics metrics;
     private final Clock clock;
     private final HttpInteractionLogger httpInteractionLogger;
@@ -54,6 +59,8 @@ public class AuctionHandler implements Handler<RoutingContext> {
     public AuctionHandler(AuctionRequestFactory auctionRequestFactory,
                           ExchangeService exchangeService,
                           AnalyticsReporterDelegator analyticsDelegator,
+                          OverloadController overloadController,
+                          WarmupRequestMarker warmupRequestMarker,
                           Metrics metrics,
                           Clock clock,
                           HttpInteractionLogger httpInteractionLogger,
@@ -62,6 +69,8 @@ public class AuctionHandler implements Handler<RoutingContext> {
         this.auctionRequestFactory = Objects.requireNonNull(auctionRequestFactory);
         this.exchangeService = Objects.requireNonNull(exchangeService);
         this.analyticsDelegator = Objects.requireNonNull(analyticsDelegator);
+        this.overloadController = Objects.requireNonNull(overloadController);
+        this.warmupRequestMarker = Objects.requireNonNull(warmupRequestMarker);
         this.metrics = Objects.requireNonNull(metrics);
         this.clock = Objects.requireNonNull(clock);
         this.httpInteractionLogger = Objects.requireNonNull(httpInteractionLogger);
@@ -70,6 +79,13 @@ public class AuctionHandler implements Handler<RoutingContext> {
 
     @Override
     public void handle(RoutingContext routingContext) {
+        // account is not known before the request is parsed, so admission is decided by endpoint priority
+        if (overloadController.shouldReject(MetricName.openrtb2web, null)) {
+            respondWithOverloaded(routingContext);
+            return;
+        }
+        overloadController.auctionStarted();
+
         // Prebid Server interprets request.tmax to be the maximum amount of time that a caller is willing to wait
         // for bids. However, tmax may be defined in the Stored Request data.
         // If so, then the trip to the backend might use a significant amount of this time. We can respect timeouts
@@ -79,16 +95,19 @@ public class AuctionHandler implements Handler<RoutingContext> {
         final AuctionEvent.AuctionEventBuilder auctionEventBuilder = AuctionEvent.builder()
                 .httpContext(HttpContext.from(routingContext));
 
+        // warm-up requests are kept out of request metrics and analytics
+        final boolean isWarmup = warmupRequestMarker.isWarmupRequest(routingContext);
+
         auctionRequestFactory.fromRequest(routingContext, startTime)
 
                 .map(context -> addToEvent(context, auctionEventBuilder::auctionContext, context))
-                .map(context -> updateAppAndNoCookieAndImpsMetrics(context))
+                .map(context -> isWarmup ? context : updateAppAndNoCookieAndImpsMetrics(context))
 
                 .compose(context -> exchangeService.holdAuction(context)
                         .map(bidResponse -> Tuple2.of(bidResponse, context)))
 
                 .map(result -> addToEvent(result.getLeft(), auctionEventBuilder::bidResponse, result))
-                .setHandler(result -> handleResult(result, auctionEventBuilder, routingContext, startTime));
+                .setHandler(result -> handleResult(result, auctionEventBuilder, routingContext, startTime, isWarmup));
     }
 
     private static <T, R> R addToEvent(T field, Consumer<T> consumer, R result) {
@@ -111,7 +130,9 @@ public class AuctionHandler implements Handler<RoutingContext> {
 
     private void handleResult(AsyncResult<Tuple2<BidResponse, AuctionContext>> responseResult,
                               AuctionEvent.AuctionEventBuilder auctionEventBuilder, RoutingContext routingContext,
-                              long startTime) {
+                              long startTime, boolean isWarmup) {
+        overloadController.auctionFinished();
+
         final boolean responseSucceeded = responseResult.succeeded();
         final AuctionContext auctionContext = responseSucceeded ? responseResult.result().getRight() : null;
 
@@ -183,13 +204,14 @@ public class AuctionHandler implements Handler<RoutingContext> {
         final PrivacyContext privacyContext = auctionContext != null ? auctionContext.getPrivacyContext() : null;
         final TcfContext tcfContext = privacyContext != null ? privacyContext.getTcfContext() : TcfContext.empty();
         respondWith(routingContext, status, body, startTime, requestType, metricRequestStatus, auctionEvent,
-                tcfContext);
+                tcfContext, isWarmup);
 
         httpInteractionLogger.maybeLogOpenrtb2Auction(auctionContext, routingContext, status, body);
     }
 
     private void respondWith(RoutingContext context, int status, String body, long startTime, MetricName requestType,
-                             MetricName metricRequestStatus, AuctionEvent event, TcfContext tcfContext) {
+                             MetricName metricRequestStatus, AuctionEvent event, TcfContext tcfContext,
+                             boolean isWarmup) {
         // don't send the response if client has gone
         if (context.response().closed()) {
             logger.warn("The client already closed connection, response will be skipped");
@@ -200,9 +222,30 @@ public class AuctionHandler implements Handler<RoutingContext> {
                     .setStatusCode(status)
                     .end(body);
 
+            if (isWarmup) {
+                return;
+            }
+
             metrics.updateRequestTimeMetric(clock.millis() - startTime);
             metrics.updateRequestTypeMetric(requestType, metricRequestStatus);
-            analyticsDelegator.processEvent(event, tcfContext);
+            if (!overloadController.shouldDegrade(requestType, accountIdFrom(event.getAuctionContext()))) {
+                analyticsDelegator.processEvent(event, tcfContext);
+            }
+        }
+    }
+
+    private static String accountIdFrom(AuctionContext auctionContext) {
+        final Account account = auctionContext != null ? auctionContext.getAccount() : null;
+        return account != null ? account.getId() : null;
+    }
+
+    private void respondWithOverloaded(RoutingContext context) {
+        metrics.updateRequestTypeMetric(MetricName.openrtb2web, MetricName.overloaded);
+        if (!context.response().closed()) {
+            context.response()
+                    .putHeader(HttpUtil.RETRY_AFTER_HEADER, String.valueOf(overloadController.getRetryAfterSeconds()))
+                    .setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code())
+                    .end();
         }
     }
 
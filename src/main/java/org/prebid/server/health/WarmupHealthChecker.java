@@ -0,0 +1,223 @@
+package org.prebid.server.health;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.health.model.Status;
+import org.prebid.server.health.model.StatusResponse;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.Initializable;
+import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Replays a corpus of sample auction requests against the running server on startup so that the auction path
+ * is compiled before real traffic arrives.
+ * <p>
+ * Until all iterations are replayed this checker reports {@link Status#DOWN} and the /status endpoint responds with
+ * 'Service Unavailable' (503). Only samples with stored auction responses for all imps are replayed, so no real
+ * bidder calls are made during warm-up. Replayed requests are marked by {@link WarmupRequestMarker} to be kept out
+ * of request metrics and analytics.
+ */
+public class WarmupHealthChecker implements HealthChecker, Initializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupHealthChecker.class);
+
+    private static final String NAME = "warmup";
+
+    private final String requestsFile;
+    private final String auctionUrl;
+    private final int iterations;
+    private final long timeoutMs;
+    private final FileSystem fileSystem;
+    private final HttpClient httpClient;
+    private final WarmupRequestMarker warmupRequestMarker;
+    private final Metrics metrics;
+    private final Clock clock;
+    private final JacksonMapper mapper;
+
+    private volatile StatusResponse status;
+
+    public WarmupHealthChecker(String requestsFile,
+                               String auctionUrl,
+                               int iterations,
+                               long timeoutMs,
+                               FileSystem fileSystem,
+                               HttpClient httpClient,
+                               WarmupRequestMarker warmupRequestMarker,
+                               Metrics metrics,
+                               Clock clock,
+                               JacksonMapper mapper) {
+
+        this.requestsFile = Objects.requireNonNull(requestsFile);
+        this.auctionUrl = Objects.requireNonNull(auctionUrl);
+        this.iterations = iterations;
+        this.timeoutMs = timeoutMs;
+        this.fileSystem = Objects.requireNonNull(fileSystem);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.warmupRequestMarker = Objects.requireNonNull(warmupRequestMarker);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+        this.mapper = Objects.requireNonNull(mapper);
+
+        status = StatusResponse.of(Status.DOWN.name(), ZonedDateTime.now(clock));
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public StatusResponse status() {
+        return status;
+    }
+
+    /**
+     * Returns true when warm-up is finished (successfully or not) and server can take traffic.
+     */
+    public boolean isCompleted() {
+        return Objects.equals(status.getStatus(), Status.UP.name());
+    }
+
+    @Override
+    public void initialize() {
+        final long startTime = clock.millis();
+
+        final Promise<Buffer> promise = Promise.promise();
+        fileSystem.readFile(requestsFile, promise);
+        promise.future()
+                .map(this::parseRequests)
+                .compose(requests -> replay(requests, iterations, new WarmupStats()))
+                .setHandler(result -> {
+                    if (result.succeeded()) {
+                        final WarmupStats stats = result.result();
+                        final long duration = clock.millis() - startTime;
+                        logger.info("Warm-up completed in {0} ms: {1} requests sent, {2} failed, "
+                                        + "average latency of last iteration is {3} ms",
+                                duration, stats.sent, stats.failed, stats.lastIterationAverage());
+                        metrics.updateWarmupMetrics(duration, stats.lastIterationAverage(), stats.failed);
+                    } else {
+                        logger.warn("Warm-up failed after {0} ms, server will take traffic anyway",
+                                result.cause(), clock.millis() - startTime);
+                    }
+                    status = StatusResponse.of(Status.UP.name(), ZonedDateTime.now(clock));
+                });
+    }
+
+    private List<String> parseRequests(Buffer buffer) {
+        final JsonNode requestsNode;
+        try {
+            requestsNode = mapper.decodeValue(buffer, JsonNode.class);
+        } catch (DecodeException e) {
+            throw new PreBidException(String.format("Cannot parse warm-up requests file %s: %s",
+                    requestsFile, e.getMessage()));
+        }
+        if (!requestsNode.isArray()) {
+            throw new PreBidException(String.format(
+                    "Warm-up requests file %s should contain JSON array of auction requests", requestsFile));
+        }
+
+        final List<String> requests = new ArrayList<>(requestsNode.size());
+        for (JsonNode requestNode : requestsNode) {
+            if (hasStoredAuctionResponses(requestNode)) {
+                requests.add(mapper.encode(requestNode));
+            }
+        }
+
+        final int skipped = requestsNode.size() - requests.size();
+        if (skipped > 0) {
+            logger.warn("{0} warm-up requests are skipped since not all of their imps have "
+                    + "imp[].ext.prebid.storedauctionresponse, which is required to avoid real bidder calls", skipped);
+        }
+        return requests;
+    }
+
+    private static boolean hasStoredAuctionResponses(JsonNode requestNode) {
+        final JsonNode impsNode = requestNode.path("imp");
+        if (!impsNode.isArray() || impsNode.size() == 0) {
+            return false;
+        }
+
+        for (JsonNode impNode : impsNode) {
+            if (!impNode.path("ext").path("prebid").path("storedauctionresponse").isObject()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Future<WarmupStats> replay(List<String> requests, int iterationsLeft, WarmupStats stats) {
+        if (iterationsLeft <= 0 || requests.isEmpty()) {
+            return Future.succeededFuture(stats);
+        }
+
+        stats.startIteration(clock.millis(), requests.size());
+
+        Future<WarmupStats> future = Future.succeededFuture(stats);
+        for (String request : requests) {
+            future = future.compose(ignored -> send(request, stats));
+        }
+        return future
+                .map(ignored -> stats.finishIteration(clock.millis()))
+                .compose(ignored -> replay(requests, iterationsLeft - 1, stats));
+    }
+
+    private Future<WarmupStats> send(String request, WarmupStats stats) {
+        return httpClient.post(auctionUrl, warmupRequestMarker.headers(), request, timeoutMs)
+                .map(HttpClientResponse::getStatusCode)
+                .otherwise(0)
+                .map(statusCode -> stats.registerResponse(statusCode));
+    }
+
+    private static class WarmupStats {
+
+        private long sent;
+
+        private long failed;
+
+        private long iterationStartTime;
+
+        private long iterationRequests;
+
+        private long lastIterationDuration;
+
+        private long lastIterationRequests;
+
+        void startIteration(long startTime, int requests) {
+            iterationStartTime = startTime;
+            iterationRequests = requests;
+        }
+
+        WarmupStats finishIteration(long endTime) {
+            lastIterationDuration = endTime - iterationStartTime;
+            lastIterationRequests = iterationRequests;
+            return this;
+        }
+
+        WarmupStats registerResponse(int statusCode) {
+            sent++;
+            if (statusCode != 200) {
+                failed++;
+            }
+            return this;
+        }
+
+        long lastIterationAverage() {
+            return lastIterationRequests > 0 ? lastIterationDuration / lastIterationRequests : 0;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.prebid.server.health;
+
+import io.vertx.core.MultiMap;
+import io.vertx.ext.web.RoutingContext;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Marks auction requests sent by {@link WarmupHealthChecker}, so handlers can keep them out of metrics and
+ * analytics.
+ * <p>
+ * Marker value is a random token generated per process, so external clients cannot hide their requests by sending
+ * the marker header.
+ */
+public class WarmupRequestMarker {
+
+    public static final String WARMUP_HEADER = "X-Prebid-Warmup";
+
+    private final String token;
+
+    public WarmupRequestMarker() {
+        this(UUID.randomUUID().toString());
+    }
+
+    WarmupRequestMarker(String token) {
+        this.token = Objects.requireNonNull(token);
+    }
+
+    /**
+     * Returns headers to be sent with warm-up request.
+     */
+    public MultiMap headers() {
+        return MultiMap.caseInsensitiveMultiMap().add(WARMUP_HEADER, token);
+    }
+
+    public boolean isWarmupRequest(RoutingContext routingContext) {
+        return token.equals(routingContext.request().getHeader(WARMUP_HEADER));
+    }
+}
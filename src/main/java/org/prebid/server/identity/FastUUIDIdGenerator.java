@@ -0,0 +1,29 @@
+package org.prebid.server.identity;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Returns ID as random (version 4) {@link UUID} string.
+ * <p>
+ * Unlike {@link UUIDIdGenerator} uses per-thread {@link ThreadLocalRandom} instead of shared
+ * {@link java.security.SecureRandom}, so it never blocks or contends between threads.
+ * Generated IDs are not cryptographically strong, so they shouldn't be used as secrets.
+ */
+public class FastUUIDIdGenerator implements IdGenerator {
+
+    @Override
+    public String generateId() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        final long mostSigBits = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L; // version 4
+        final long leastSigBits = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L; // IETF variant
+
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
+    @Override
+    public IdGeneratorType getType() {
+        return IdGeneratorType.fastuuid;
+    }
+}
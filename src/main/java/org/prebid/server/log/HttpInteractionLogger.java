@@ -1,23 +1,84 @@
 package org.prebid.server.log;
 
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Publisher;
+import com.iab.openrtb.request.Site;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.RoutingContext;
 import lombok.Value;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.bidder.model.HttpCall;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.log.model.HttpLogSpec;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.model.Account;
+import org.prebid.server.vertx.Initializable;
 
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
-public class HttpInteractionLogger {
+/**
+ * Logs HTTP interactions matching {@link HttpLogSpec} set through admin endpoint.
+ * <p>
+ * Interactions are not logged on the calling thread: they are put into bounded ring buffer and written by background
+ * thread, one line per interaction. Interactions not fitting into the buffer are dropped and counted in metrics.
+ * <p>
+ * Writer thread is parked while there is nothing to write and woken up by each enqueued interaction. On
+ * {@link #close()} it writes interactions left in the buffer before stopping.
+ */
+public class HttpInteractionLogger implements Initializable {
 
     private static final String HTTP_INTERACTION_LOGGER_NAME = "http-interaction";
     private static final Logger logger = LoggerFactory.getLogger(HTTP_INTERACTION_LOGGER_NAME);
 
+    private static final String WRITER_THREAD_NAME = "http-interaction-log-writer";
+    private static final long WRITER_STOP_TIMEOUT_MS = 5000L;
+
+    private final MpscRingBuffer<Interaction> buffer;
+    private final Metrics metrics;
+
     private final AtomicReference<SpecWithCounter> specWithCounter = new AtomicReference<>();
 
+    private volatile Thread writer;
+    private volatile boolean running = true;
+
+    public HttpInteractionLogger(int bufferSize, Metrics metrics) {
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    @Override
+    public void initialize() {
+        final Thread writer = new Thread(this::writeContinuously, WRITER_THREAD_NAME);
+        writer.setDaemon(true);
+        this.writer = writer;
+        writer.start();
+    }
+
+    /**
+     * Stops writer thread after it writes interactions left in the buffer. Called by Spring on context shutdown.
+     */
+    public void close() {
+        running = false;
+        final Thread writer = this.writer;
+        if (writer == null) {
+            return;
+        }
+
+        LockSupport.unpark(writer);
+        try {
+            writer.join(WRITER_STOP_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public void setSpec(HttpLogSpec spec) {
         specWithCounter.set(SpecWithCounter.of(spec));
     }
@@ -27,15 +88,12 @@ public class HttpInteractionLogger {
                                         int statusCode,
                                         String responseBody) {
 
-        if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.auction, statusCode, auctionContext)) {
-            logger.info(
-                    "Requested URL: \"{0}\", request body: \"{1}\", response status: \"{2}\", response body: \"{3}\"",
-                    routingContext.request().uri(),
-                    routingContext.getBody().toString(),
-                    statusCode,
-                    responseBody);
-
-            incLoggedInteractions();
+        final SpecWithCounter specWithCounter = this.specWithCounter.get();
+        final String accountId = accountIdFrom(auctionContext);
+        if (interactionSatisfiesSpec(specWithCounter, HttpLogSpec.Endpoint.auction, statusCode, accountId)) {
+            // request body buffer is decoded by writer thread
+            enqueue(specWithCounter, Interaction.of(HttpLogSpec.Endpoint.auction.name(), null, accountId,
+                    routingContext.request().uri(), statusCode, routingContext.getBody(), responseBody));
         }
     }
 
@@ -44,47 +102,175 @@ public class HttpInteractionLogger {
                                     int statusCode,
                                     String responseBody) {
 
-        if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.amp, statusCode, auctionContext)) {
-            logger.info(
-                    "Requested URL: \"{0}\", response status: \"{1}\", response body: \"{2}\"",
-                    routingContext.request().uri(),
-                    statusCode,
-                    responseBody);
+        final SpecWithCounter specWithCounter = this.specWithCounter.get();
+        final String accountId = accountIdFrom(auctionContext);
+        if (interactionSatisfiesSpec(specWithCounter, HttpLogSpec.Endpoint.amp, statusCode, accountId)) {
+            enqueue(specWithCounter, Interaction.of(HttpLogSpec.Endpoint.amp.name(), null, accountId,
+                    routingContext.request().uri(), statusCode, null, responseBody));
+        }
+    }
 
-            incLoggedInteractions();
+    /**
+     * Logs HTTP call to a bidder if spec refers to this bidder.
+     * <p>
+     * Account filter is matched against publisher ID of the request sent to bidder.
+     */
+    public <T> void maybeLogBidderRequest(String bidder, BidRequest bidRequest, HttpCall<T> httpCall) {
+        final SpecWithCounter specWithCounter = this.specWithCounter.get();
+        if (specWithCounter == null || !Objects.equals(specWithCounter.getSpec().getBidder(), bidder)) {
+            return;
+        }
+
+        final HttpResponse response = httpCall.getResponse();
+        final Integer statusCode = response != null ? response.getStatusCode() : null;
+        final String accountId = publisherIdFrom(bidRequest);
+        if (callSatisfiesSpec(specWithCounter.getSpec(), statusCode, accountId)) {
+            final HttpRequest<T> request = httpCall.getRequest();
+            enqueue(specWithCounter, Interaction.of("bidder", bidder, accountId, request.getUri(), statusCode,
+                    request.getBody(), response != null ? response.getBody() : null));
         }
     }
 
-    public boolean interactionSatisfiesSpec(HttpLogSpec.Endpoint requestEndpoint,
-                                            int requestStatusCode,
-                                            AuctionContext auctionContext) {
+    private static boolean interactionSatisfiesSpec(SpecWithCounter specWithCounter,
+                                                    HttpLogSpec.Endpoint requestEndpoint,
+                                                    int requestStatusCode,
+                                                    String requestAccountId) {
 
-        final SpecWithCounter specWithCounter = this.specWithCounter.get();
         if (specWithCounter == null) {
             return false;
         }
 
-        final Account requestAccount = auctionContext != null ? auctionContext.getAccount() : null;
-        final String requestAccountId = requestAccount != null ? requestAccount.getId() : null;
-
         final HttpLogSpec spec = specWithCounter.getSpec();
         final HttpLogSpec.Endpoint endpoint = spec.getEndpoint();
+
+        return spec.getBidder() == null
+                && (endpoint == null || endpoint == requestEndpoint)
+                && callSatisfiesSpec(spec, requestStatusCode, requestAccountId);
+    }
+
+    private static boolean callSatisfiesSpec(HttpLogSpec spec, Integer requestStatusCode, String requestAccountId) {
         final Integer statusCode = spec.getStatusCode();
         final String account = spec.getAccount();
 
-        return (endpoint == null || endpoint == requestEndpoint)
-                && (statusCode == null || statusCode == requestStatusCode)
-                && (account == null || account.equals(requestAccountId));
+        return (statusCode == null || statusCode.equals(requestStatusCode))
+                && (account == null || account.equals(requestAccountId))
+                && (spec.getSamplingRate() >= 1.0 || ThreadLocalRandom.current().nextDouble() < spec.getSamplingRate());
     }
 
-    private void incLoggedInteractions() {
-        final SpecWithCounter specWithCounter = this.specWithCounter.get();
-        if (specWithCounter != null
-                && specWithCounter.getLoggedInteractions().incrementAndGet() >= specWithCounter.getSpec().getLimit()) {
-            this.specWithCounter.set(null);
+    private static String accountIdFrom(AuctionContext auctionContext) {
+        final Account account = auctionContext != null ? auctionContext.getAccount() : null;
+        return account != null ? account.getId() : null;
+    }
+
+    private static String publisherIdFrom(BidRequest bidRequest) {
+        final Site site = bidRequest.getSite();
+        final App app = bidRequest.getApp();
+        final Publisher publisher = site != null ? site.getPublisher() : app != null ? app.getPublisher() : null;
+        return publisher != null ? publisher.getId() : null;
+    }
+
+    private void enqueue(SpecWithCounter specWithCounter, Interaction interaction) {
+        if (buffer.offer(interaction)) {
+            incLoggedInteractions(specWithCounter);
+            final Thread writer = this.writer;
+            if (writer != null) {
+                LockSupport.unpark(writer);
+            }
+        } else {
+            metrics.updateHttpInteractionLogDroppedMetric();
+        }
+    }
+
+    /**
+     * Counts interaction against the spec it matched, so spec set in the meantime is neither counted nor reset.
+     */
+    private void incLoggedInteractions(SpecWithCounter specWithCounter) {
+        if (specWithCounter.getLoggedInteractions().incrementAndGet() >= specWithCounter.getSpec().getLimit()) {
+            this.specWithCounter.compareAndSet(specWithCounter, null);
+        }
+    }
+
+    private void writeContinuously() {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            if (drain() == 0) {
+                // unpark issued before parking is not lost, so no interaction is left waiting
+                LockSupport.park(this);
+            }
+        }
+        drain();
+    }
+
+    /**
+     * Writes all buffered interactions, returns how many of them were written.
+     */
+    int drain() {
+        int written = 0;
+        Interaction interaction;
+        while ((interaction = buffer.poll()) != null) {
+            try {
+                logger.info(toLine(interaction));
+            } catch (Exception e) {
+                logger.warn("Failed to write HTTP interaction", e);
+            }
+            written++;
+        }
+        return written;
+    }
+
+    static String toLine(Interaction interaction) {
+        final StringBuilder line = new StringBuilder(256).append("type=").append(interaction.getType());
+        appendField(line, "bidder", interaction.getBidder());
+        appendField(line, "account", interaction.getAccount());
+        appendField(line, "status", interaction.getStatusCode());
+        appendField(line, "uri", interaction.getUri());
+        appendField(line, "request", interaction.getRequestBody());
+        appendField(line, "response", interaction.getResponseBody());
+        return line.toString();
+    }
+
+    private static void appendField(StringBuilder line, String name, Object value) {
+        if (value == null) {
+            return;
+        }
+
+        line.append(' ').append(name).append('=');
+        final String string = value.toString();
+        for (int i = 0; i < string.length(); i++) {
+            final char character = string.charAt(i);
+            switch (character) {
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    line.append("\\r");
+                    break;
+                default:
+                    line.append(character);
+            }
         }
     }
 
+    @Value(staticConstructor = "of")
+    static class Interaction {
+
+        String type;
+
+        String bidder;
+
+        String account;
+
+        String uri;
+
+        Integer statusCode;
+
+        /**
+         * Kept as is to be converted to string by writer thread.
+         */
+        Object requestBody;
+
+        String responseBody;
+    }
+
     @Value(staticConstructor = "of")
     private static class SpecWithCounter {
 
@@ -11,8 +11,18 @@ public class HttpLogSpec {
 
     String account;
 
+    /**
+     * If specified, HTTP calls to this bidder are logged instead of incoming requests.
+     */
+    String bidder;
+
     int limit;
 
+    /**
+     * Fraction of matching interactions to be logged.
+     */
+    double samplingRate;
+
     public enum Endpoint {
         auction, amp
     }
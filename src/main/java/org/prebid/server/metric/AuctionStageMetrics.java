@@ -0,0 +1,21 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Auction stage metrics support.
+ */
+class AuctionStageMetrics extends UpdatableMetrics {
+
+    AuctionStageMetrics(MetricRegistry metricRegistry, CounterType counterType, MetricName requestType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                nameCreator(Objects.requireNonNull(requestType)));
+    }
+
+    private static Function<MetricName, String> nameCreator(MetricName requestType) {
+        return metricName -> String.format("auction_stages.%s.%s", requestType.toString(), metricName.toString());
+    }
+}
@@ -0,0 +1,16 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+
+/**
+ * HTTP interaction logging metrics support.
+ */
+class HttpInteractionLogMetrics extends UpdatableMetrics {
+
+    HttpInteractionLogMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                metricName -> String.format("http_interaction_log.%s", metricName.toString()));
+    }
+}
@@ -35,6 +35,16 @@ public enum MetricName {
     adm_bids_received,
     nurl_bids_received,
 
+    // auction stages
+    request_parsing,
+    account_fetch,
+    stored_request_merge,
+    privacy_resolution,
+    bidder_requests,
+    bidder_responses,
+    prebid_cache,
+    response_creation,
+
     // request types,
     openrtb2web("openrtb2-web"),
     openrtb2app("openrtb2-app"),
@@ -58,6 +68,7 @@ public enum MetricName {
     unknown_error,
     err,
     networkerr,
+    overloaded,
 
     // bids validation
     warn,
@@ -71,6 +82,20 @@ public enum MetricName {
     matches,
     blocked,
 
+    // overload
+    level,
+    event_loop_lag,
+    in_flight_auctions,
+    pending_bidder_requests,
+    degraded,
+
+    // http interaction log
+    dropped,
+
+    // warm-up
+    duration,
+    latency,
+
     // tcf
     userid_removed,
     geo_masked,
@@ -112,6 +137,8 @@ public enum MetricName {
     account,
     initialize,
     update,
+    response_size,
+    changed_entries,
     hit,
     miss;
 
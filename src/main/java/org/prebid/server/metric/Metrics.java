@@ -11,6 +11,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -29,6 +30,7 @@ public class Metrics extends UpdatableMetrics {
     private final Function<Integer, BidderCardinalityMetrics> bidderCardinalityMetricsCreator;
     private final Function<MetricName, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
+    private final Function<MetricName, AuctionStageMetrics> auctionStageMetricsCreator;
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
     // thread-safe
@@ -43,7 +45,11 @@ public class Metrics extends UpdatableMetrics {
     private final CacheMetrics cacheMetrics;
     private final TimeoutNotificationMetrics timeoutNotificationMetrics;
     private final CurrencyRatesMetrics currencyRatesMetrics;
+    private final OverloadMetrics overloadMetrics;
+    private final HttpInteractionLogMetrics httpInteractionLogMetrics;
+    private final WarmupMetrics warmupMetrics;
     private final Map<MetricName, SettingsCacheMetrics> settingsCacheMetrics;
+    private final Map<MetricName, AuctionStageMetrics> auctionStageMetrics;
 
     public Metrics(MetricRegistry metricRegistry, CounterType counterType,
                    AccountMetricsVerbosity accountMetricsVerbosity) {
@@ -58,6 +64,7 @@ public class Metrics extends UpdatableMetrics {
                 metricRegistry, counterType, cardinality);
         circuitBreakerMetricsCreator = type -> new CircuitBreakerMetrics(metricRegistry, counterType, type);
         settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(metricRegistry, counterType, type);
+        auctionStageMetricsCreator = requestType -> new AuctionStageMetrics(metricRegistry, counterType, requestType);
         requestMetrics = new EnumMap<>(MetricName.class);
         accountMetrics = new HashMap<>();
         adapterMetrics = new HashMap<>();
@@ -69,7 +76,11 @@ public class Metrics extends UpdatableMetrics {
         cacheMetrics = new CacheMetrics(metricRegistry, counterType);
         timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType);
         currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
+        overloadMetrics = new OverloadMetrics(metricRegistry, counterType);
+        httpInteractionLogMetrics = new HttpInteractionLogMetrics(metricRegistry, counterType);
+        warmupMetrics = new WarmupMetrics(metricRegistry, counterType);
         settingsCacheMetrics = new HashMap<>();
+        auctionStageMetrics = new EnumMap<>(MetricName.class);
     }
 
     RequestStatusMetrics forRequestType(MetricName requestType) {
@@ -112,10 +123,26 @@ public class Metrics extends UpdatableMetrics {
         return currencyRatesMetrics;
     }
 
+    OverloadMetrics overload() {
+        return overloadMetrics;
+    }
+
+    HttpInteractionLogMetrics httpInteractionLog() {
+        return httpInteractionLogMetrics;
+    }
+
+    WarmupMetrics warmup() {
+        return warmupMetrics;
+    }
+
     SettingsCacheMetrics forSettingsCacheType(MetricName type) {
         return settingsCacheMetrics.computeIfAbsent(type, settingsCacheMetricsCreator);
     }
 
+    AuctionStageMetrics forAuctionStages(MetricName requestType) {
+        return auctionStageMetrics.computeIfAbsent(requestType, auctionStageMetricsCreator);
+    }
+
     public void updateAppAndNoCookieAndImpsRequestedMetrics(boolean isApp, boolean liveUidsPresent, int numImps) {
         if (isApp) {
             incCounter(MetricName.app_requests);
@@ -180,6 +207,10 @@ public class Metrics extends UpdatableMetrics {
         updateTimer(MetricName.request_time, millis);
     }
 
+    public void updateAuctionStageTimeMetric(MetricName requestType, MetricName stage, long nanos) {
+        forAuctionStages(requestType).updateTimer(stage, nanos, TimeUnit.NANOSECONDS);
+    }
+
     public void updateRequestTypeMetric(MetricName requestType, MetricName requestStatus) {
         forRequestType(requestType).incCounter(requestStatus);
     }
@@ -470,10 +501,49 @@ public class Metrics extends UpdatableMetrics {
         currencyRates().createGauge(MetricName.stale, () -> stateSupplier.getAsBoolean() ? 1 : 0);
     }
 
+    public void createOverloadGauges(LongSupplier levelSupplier,
+                                     LongSupplier eventLoopLagSupplier,
+                                     LongSupplier inFlightAuctionsSupplier,
+                                     LongSupplier pendingBidderRequestsSupplier) {
+
+        final OverloadMetrics overloadMetrics = overload();
+        overloadMetrics.createGauge(MetricName.level, levelSupplier);
+        overloadMetrics.createGauge(MetricName.event_loop_lag, eventLoopLagSupplier);
+        overloadMetrics.createGauge(MetricName.in_flight_auctions, inFlightAuctionsSupplier);
+        overloadMetrics.createGauge(MetricName.pending_bidder_requests, pendingBidderRequestsSupplier);
+    }
+
+    public void updateOverloadDegradedMetric(MetricName requestType) {
+        overload().incCounter(MetricName.degraded);
+        forRequestType(requestType).incCounter(MetricName.degraded);
+    }
+
+    public void updateHttpInteractionLogDroppedMetric() {
+        httpInteractionLog().incCounter(MetricName.dropped);
+    }
+
+    public void updateWarmupMetrics(long durationMs, long latencyMs, long failedRequests) {
+        final WarmupMetrics warmupMetrics = warmup();
+        warmupMetrics.createGauge(MetricName.duration, () -> durationMs);
+        warmupMetrics.createGauge(MetricName.latency, () -> latencyMs);
+        warmupMetrics.createGauge(MetricName.failed, () -> failedRequests);
+    }
+
     public void updateSettingsCacheRefreshTime(MetricName cacheType, MetricName refreshType, long timeElapsed) {
         forSettingsCacheType(cacheType).forRefreshType(refreshType).updateTimer(MetricName.db_query_time, timeElapsed);
     }
 
+    public void updateSettingsCacheRefreshChangesMetrics(MetricName cacheType,
+                                                         MetricName refreshType,
+                                                         long responseSize,
+                                                         long changedEntries) {
+
+        final SettingsCacheMetrics.RefreshSettingsCacheMetrics refreshMetrics =
+                forSettingsCacheType(cacheType).forRefreshType(refreshType);
+        refreshMetrics.incCounter(MetricName.response_size, responseSize);
+        refreshMetrics.incCounter(MetricName.changed_entries, changedEntries);
+    }
+
     public void updateSettingsCacheRefreshErrorMetric(MetricName cacheType, MetricName refreshType) {
         forSettingsCacheType(cacheType).forRefreshType(refreshType).incCounter(MetricName.err);
     }
@@ -0,0 +1,16 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+
+/**
+ * Overload protection metrics support.
+ */
+class OverloadMetrics extends UpdatableMetrics {
+
+    OverloadMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                metricName -> String.format("overload.%s", metricName.toString()));
+    }
+}
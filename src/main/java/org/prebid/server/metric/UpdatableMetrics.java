@@ -58,7 +58,14 @@ class UpdatableMetrics {
      * Updates metric's timer with a given value.
      */
     void updateTimer(MetricName metricName, long millis) {
-        metricRegistry.timer(name(metricName)).update(millis, TimeUnit.MILLISECONDS);
+        updateTimer(metricName, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Updates metric's timer with a given duration.
+     */
+    void updateTimer(MetricName metricName, long duration, TimeUnit unit) {
+        metricRegistry.timer(name(metricName)).update(duration, unit);
     }
 
     /**
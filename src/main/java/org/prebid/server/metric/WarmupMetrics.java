@@ -0,0 +1,16 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+
+/**
+ * Startup warm-up metrics support.
+ */
+class WarmupMetrics extends UpdatableMetrics {
+
+    WarmupMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                metricName -> String.format("warmup.%s", metricName.toString()));
+    }
+}
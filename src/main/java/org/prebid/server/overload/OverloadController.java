@@ -0,0 +1,295 @@
+package org.prebid.server.overload;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.spring.config.model.OverloadProperties;
+import org.prebid.server.vertx.Initializable;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Protects the server from overload by admission control and graceful degradation.
+ * <p>
+ * Periodically samples event loop lag, auctions in flight and bidder requests waiting for response and moves
+ * between {@link OverloadLevel}s one level at a time: escalation happens after configured number of consecutive
+ * samples above thresholds of the next level, recovery happens after configured number of consecutive samples below
+ * thresholds multiplied by recovery ratio, so the level does not flap around a single threshold.
+ * <p>
+ * Event loop lag is the highest lag among event loops registered by {@link #monitorCurrentEventLoop()}, so a single
+ * busy event loop is noticed even if others are idle.
+ * <p>
+ * Whether a particular request is degraded or rejected depends on current level and {@link OverloadPriority}
+ * configured for its account or, if account is unknown or has no priority, for its endpoint.
+ */
+public class OverloadController implements Initializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(OverloadController.class);
+
+    private static final String AUCTION_ENDPOINT = "auction";
+    private static final String AMP_ENDPOINT = "amp";
+    private static final String VIDEO_ENDPOINT = "video";
+
+    private final boolean enabled;
+    private final long sampleIntervalMs;
+    private final int activationSamples;
+    private final int recoverySamples;
+    private final double recoveryRatio;
+    private final long retryAfterSeconds;
+    private final OverloadProperties.Thresholds degradeThresholds;
+    private final OverloadProperties.Thresholds rejectThresholds;
+    private final Set<String> lowPriorityBidders;
+    private final Map<String, OverloadPriority> endpointPriorities;
+    private final Map<String, OverloadPriority> accountPriorities;
+    private final Vertx vertx;
+    private final Metrics metrics;
+
+    private final AtomicInteger inFlightAuctions = new AtomicInteger();
+    private final AtomicInteger pendingBidderRequests = new AtomicInteger();
+    private final List<EventLoopLagProbe> eventLoopLagProbes = new CopyOnWriteArrayList<>();
+
+    private volatile OverloadLevel level = OverloadLevel.normal;
+    private volatile long eventLoopLagMs;
+
+    // sampling state, touched only by the sampling timer
+    private int samplesAbove;
+    private int samplesBelow;
+
+    public OverloadController(OverloadProperties properties, Vertx vertx, Metrics metrics) {
+        Objects.requireNonNull(properties);
+
+        enabled = properties.isEnabled();
+        sampleIntervalMs = properties.getSampleIntervalMs();
+        activationSamples = properties.getActivationSamples();
+        recoverySamples = properties.getRecoverySamples();
+        recoveryRatio = properties.getRecoveryRatio();
+        retryAfterSeconds = properties.getRetryAfterSeconds();
+        degradeThresholds = Objects.requireNonNull(properties.getDegrade());
+        rejectThresholds = Objects.requireNonNull(properties.getReject());
+        lowPriorityBidders = new HashSet<>(Objects.requireNonNull(properties.getLowPriorityBidders()));
+        endpointPriorities = Objects.requireNonNull(properties.getEndpointPriorities());
+        accountPriorities = Objects.requireNonNull(properties.getAccountPriorities());
+        this.vertx = Objects.requireNonNull(vertx);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    @Override
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+
+        metrics.createOverloadGauges(() -> level.ordinal(), () -> eventLoopLagMs, inFlightAuctions::get,
+                pendingBidderRequests::get);
+
+        vertx.setPeriodic(sampleIntervalMs, ignored -> sample(maxEventLoopLagMs()));
+    }
+
+    /**
+     * Starts sampling lag of the event loop this method is called on. Expected to be called on the context of each
+     * HTTP server instance.
+     */
+    public void monitorCurrentEventLoop() {
+        if (!enabled) {
+            return;
+        }
+        if (!Context.isOnEventLoopThread()) {
+            throw new IllegalStateException("Event loop lag can be monitored only on event loop thread");
+        }
+
+        final EventLoopLagProbe probe = new EventLoopLagProbe(sampleIntervalMs, System.nanoTime());
+        eventLoopLagProbes.add(probe);
+        vertx.setPeriodic(sampleIntervalMs, ignored -> probe.tick(System.nanoTime()));
+    }
+
+    long maxEventLoopLagMs() {
+        final long nowNanos = System.nanoTime();
+
+        long maxLagMs = 0;
+        for (EventLoopLagProbe probe : eventLoopLagProbes) {
+            maxLagMs = Math.max(maxLagMs, probe.lagMs(nowNanos));
+        }
+        return maxLagMs;
+    }
+
+    /**
+     * Evaluates current signals and moves to another {@link OverloadLevel} if needed.
+     */
+    void sample(long eventLoopLagMs) {
+        this.eventLoopLagMs = eventLoopLagMs;
+
+        final OverloadLevel currentLevel = level;
+        final OverloadLevel targetLevel = levelFor(eventLoopLagMs, 1.0);
+
+        if (targetLevel.compareTo(currentLevel) > 0) {
+            samplesBelow = 0;
+            if (++samplesAbove >= activationSamples) {
+                changeLevel(currentLevel, OverloadLevel.values()[currentLevel.ordinal() + 1]);
+            }
+            return;
+        }
+        samplesAbove = 0;
+
+        if (currentLevel != OverloadLevel.normal
+                && levelFor(eventLoopLagMs, recoveryRatio).compareTo(currentLevel) < 0) {
+            if (++samplesBelow >= recoverySamples) {
+                changeLevel(currentLevel, OverloadLevel.values()[currentLevel.ordinal() - 1]);
+            }
+        } else {
+            samplesBelow = 0;
+        }
+    }
+
+    private OverloadLevel levelFor(long eventLoopLagMs, double ratio) {
+        if (exceeds(rejectThresholds, eventLoopLagMs, ratio)) {
+            return OverloadLevel.rejecting;
+        }
+        if (exceeds(degradeThresholds, eventLoopLagMs, ratio)) {
+            return OverloadLevel.degraded;
+        }
+        return OverloadLevel.normal;
+    }
+
+    private boolean exceeds(OverloadProperties.Thresholds thresholds, long eventLoopLagMs, double ratio) {
+        return eventLoopLagMs >= thresholds.getEventLoopLagMs() * ratio
+                || inFlightAuctions.get() >= thresholds.getInFlightAuctions() * ratio
+                || pendingBidderRequests.get() >= thresholds.getPendingBidderRequests() * ratio;
+    }
+
+    private void changeLevel(OverloadLevel from, OverloadLevel to) {
+        samplesAbove = 0;
+        samplesBelow = 0;
+        level = to;
+
+        logger.warn("Overload level changed from {0} to {1}, event loop lag: {2} ms, auctions in flight: {3}, "
+                        + "pending bidder requests: {4}", from, to, eventLoopLagMs, inFlightAuctions.get(),
+                pendingBidderRequests.get());
+    }
+
+    /**
+     * Returns true if request of given type should be rejected without processing.
+     * <p>
+     * Account may be null if it is not known at the moment of decision.
+     */
+    public boolean shouldReject(MetricName requestType, String accountId) {
+        return severity(requestType, accountId) > OverloadLevel.degraded.ordinal();
+    }
+
+    /**
+     * Returns true if non-essential work should be skipped while processing request of given type.
+     * <p>
+     * Account may be null if it is not known at the moment of decision.
+     */
+    public boolean shouldDegrade(MetricName requestType, String accountId) {
+        return severity(requestType, accountId) >= OverloadLevel.degraded.ordinal();
+    }
+
+    private int severity(MetricName requestType, String accountId) {
+        final OverloadLevel currentLevel = level;
+        if (currentLevel == OverloadLevel.normal) {
+            return OverloadLevel.normal.ordinal();
+        }
+
+        return currentLevel.ordinal() + OverloadPriority.normal.ordinal()
+                - priorityFor(requestType, accountId).ordinal();
+    }
+
+    private OverloadPriority priorityFor(MetricName requestType, String accountId) {
+        final OverloadPriority accountPriority = accountId != null ? accountPriorities.get(accountId) : null;
+        if (accountPriority != null) {
+            return accountPriority;
+        }
+
+        final OverloadPriority endpointPriority = endpointPriorities.get(endpointFrom(requestType));
+        return endpointPriority != null ? endpointPriority : OverloadPriority.normal;
+    }
+
+    private static String endpointFrom(MetricName requestType) {
+        switch (requestType) {
+            case amp:
+                return AMP_ENDPOINT;
+            case video:
+                return VIDEO_ENDPOINT;
+            default:
+                return AUCTION_ENDPOINT;
+        }
+    }
+
+    public boolean isLowPriorityBidder(String bidder) {
+        return lowPriorityBidders.contains(bidder);
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public OverloadLevel getLevel() {
+        return level;
+    }
+
+    public void auctionStarted() {
+        if (enabled) {
+            inFlightAuctions.incrementAndGet();
+        }
+    }
+
+    public void auctionFinished() {
+        if (enabled) {
+            inFlightAuctions.decrementAndGet();
+        }
+    }
+
+    public void bidderRequestStarted() {
+        if (enabled) {
+            pendingBidderRequests.incrementAndGet();
+        }
+    }
+
+    public void bidderRequestFinished() {
+        if (enabled) {
+            pendingBidderRequests.decrementAndGet();
+        }
+    }
+
+    /**
+     * Tracks lag of a single event loop by periodic timer running on it: timer is expected to fire every sample
+     * interval, any delay above it is the time event loop was busy. Time since the last tick is taken into account
+     * too, so event loop which is blocked right now is noticed before its timer fires.
+     */
+    private static class EventLoopLagProbe {
+
+        private final long intervalNanos;
+
+        private volatile long lastTickNanos;
+
+        private volatile long lastLagMs;
+
+        EventLoopLagProbe(long intervalMs, long nowNanos) {
+            intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMs);
+            lastTickNanos = nowNanos;
+        }
+
+        void tick(long nowNanos) {
+            lastLagMs = lagSince(nowNanos);
+            lastTickNanos = nowNanos;
+        }
+
+        long lagMs(long nowNanos) {
+            return Math.max(lastLagMs, lagSince(nowNanos));
+        }
+
+        private long lagSince(long nowNanos) {
+            return Math.max(0, TimeUnit.NANOSECONDS.toMillis(nowNanos - lastTickNanos - intervalNanos));
+        }
+    }
+}
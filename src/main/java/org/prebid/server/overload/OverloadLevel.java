@@ -0,0 +1,23 @@
+package org.prebid.server.overload;
+
+/**
+ * Describes how hard the server is loaded, ordered from the lightest to the heaviest state.
+ */
+public enum OverloadLevel {
+
+    /**
+     * All requests are served as usual.
+     */
+    normal,
+
+    /**
+     * Non-essential work (analytics, debug capture, caching of non-essential formats and low-priority bidders)
+     * is skipped for affected requests.
+     */
+    degraded,
+
+    /**
+     * Affected requests are rejected before any processing.
+     */
+    rejecting
+}
@@ -0,0 +1,14 @@
+package org.prebid.server.overload;
+
+/**
+ * Priority of traffic configured by endpoint or account.
+ * <p>
+ * Low-priority traffic is affected one {@link OverloadLevel} earlier than normal one,
+ * high-priority traffic one level later.
+ */
+public enum OverloadPriority {
+
+    low,
+    normal,
+    high
+}
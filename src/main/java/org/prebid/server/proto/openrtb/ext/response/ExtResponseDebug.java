@@ -23,4 +23,9 @@ public class ExtResponseDebug {
      * Request after resolution of stored requests and debug overrides
      */
     BidRequest resolvedrequest;
+
+    /**
+     * Defines the contract for bidresponse.ext.debug.stagetimesmicros
+     */
+    Map<String, Long> stagetimesmicros;
 }
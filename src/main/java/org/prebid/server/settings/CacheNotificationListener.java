@@ -5,7 +5,19 @@ import java.util.Map;
 
 public interface CacheNotificationListener {
 
-    void save(Map<String, String> requests, Map<String, String> imps);
+    /**
+     * Saves given stored requests and imps, returns number of entries actually added or replaced.
+     */
+    int save(Map<String, String> requests, Map<String, String> imps);
 
-    void invalidate(List<String> requests, List<String> imps);
+    /**
+     * Removes given stored requests and imps, returns number of entries actually removed.
+     */
+    int invalidate(List<String> requests, List<String> imps);
+
+    default void saveResponses(Map<String, String> responses) {
+    }
+
+    default void invalidateResponses(List<String> responses) {
+    }
 }
@@ -108,11 +108,34 @@ public class CachingApplicationSettings implements ApplicationSettings {
     }
 
     /**
-     * Delegates stored response retrieve to original fetcher, as caching is not supported fot stored response.
+     * Retrieves stored responses from cache or delegates it to original fetcher for missed ids.
      */
     @Override
     public Future<StoredResponseDataResult> getStoredResponses(Set<String> responseIds, Timeout timeout) {
-        return delegate.getStoredResponses(responseIds, timeout);
+        final Map<String, String> responseCache = cache.getResponseCache();
+
+        final Map<String, String> idToStoredResponses = new HashMap<>(responseIds.size());
+        final Set<String> missedResponseIds = new HashSet<>();
+        for (String id : responseIds) {
+            final String storedResponse = responseCache.get(id);
+            if (storedResponse != null) {
+                idToStoredResponses.put(id, storedResponse);
+            } else {
+                missedResponseIds.add(id);
+            }
+        }
+
+        if (missedResponseIds.isEmpty()) {
+            return Future.succeededFuture(StoredResponseDataResult.of(idToStoredResponses, Collections.emptyList()));
+        }
+
+        return delegate.getStoredResponses(missedResponseIds, timeout).map(result -> {
+            final Map<String, String> idToStoredResponsesFromDelegate = result.getIdToStoredResponses();
+            idToStoredResponses.putAll(idToStoredResponsesFromDelegate);
+            responseCache.putAll(idToStoredResponsesFromDelegate);
+
+            return StoredResponseDataResult.of(idToStoredResponses, result.getErrors());
+        });
     }
 
     private static <T> Future<T> getFromCacheOrDelegate(Map<String, T> cache,
@@ -1,6 +1,7 @@
 package org.prebid.server.settings;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.settings.model.StoredItem;
@@ -13,12 +14,13 @@ import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Just a simple wrapper over in-memory caches for requests and imps.
+ * Just a simple wrapper over in-memory caches for requests, imps and responses.
  */
 public class SettingsCache implements CacheNotificationListener {
 
     private final Map<String, Set<StoredItem>> requestCache;
     private final Map<String, Set<StoredItem>> impCache;
+    private final Map<String, String> responseCache;
 
     public SettingsCache(int ttl, int size) {
         if (ttl <= 0 || size <= 0) {
@@ -26,6 +28,7 @@ public class SettingsCache implements CacheNotificationListener {
         }
         requestCache = createCache(ttl, size);
         impCache = createCache(ttl, size);
+        responseCache = createCache(ttl, size);
     }
 
     static <T> Map<String, T> createCache(int ttl, int size) {
@@ -44,6 +47,10 @@ public class SettingsCache implements CacheNotificationListener {
         return impCache;
     }
 
+    Map<String, String> getResponseCache() {
+        return responseCache;
+    }
+
     void saveRequestCache(String accountId, String requestId, String requestValue) {
         saveCachedValue(requestCache, accountId, requestId, requestValue);
     }
@@ -60,23 +67,63 @@ public class SettingsCache implements CacheNotificationListener {
     }
 
     /**
-     * Saves given stored requests and imps for NULL account.
+     * Saves given stored requests and imps for NULL account, unchanged items are skipped.
      * <p>
      * TODO: account should be added to all services uses this method
      */
     @Override
-    public void save(Map<String, String> requests, Map<String, String> imps) {
+    public int save(Map<String, String> requests, Map<String, String> imps) {
+        int changed = 0;
         if (MapUtils.isNotEmpty(requests)) {
-            requests.forEach((key, value) -> requestCache.put(key, Collections.singleton(StoredItem.of(null, value))));
+            for (Map.Entry<String, String> entry : requests.entrySet()) {
+                changed += putIfChanged(requestCache, entry.getKey(), entry.getValue()) ? 1 : 0;
+            }
         }
         if (MapUtils.isNotEmpty(imps)) {
-            imps.forEach((key, value) -> impCache.put(key, Collections.singleton(StoredItem.of(null, value))));
+            for (Map.Entry<String, String> entry : imps.entrySet()) {
+                changed += putIfChanged(impCache, entry.getKey(), entry.getValue()) ? 1 : 0;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Keeps already cached entry if its content is the same, so periodic refreshes returning unchanged items
+     * don't churn the cache. Returns true if entry was added or replaced.
+     */
+    private static boolean putIfChanged(Map<String, Set<StoredItem>> cache, String id, String value) {
+        final Set<StoredItem> items = Collections.singleton(StoredItem.of(null, value));
+        if (items.equals(cache.get(id))) {
+            return false;
+        }
+        cache.put(id, items);
+        return true;
+    }
+
+    @Override
+    public int invalidate(List<String> requests, List<String> imps) {
+        return removeAll(requestCache, requests) + removeAll(impCache, imps);
+    }
+
+    private static int removeAll(Map<String, Set<StoredItem>> cache, List<String> ids) {
+        int removed = 0;
+        for (String id : ids) {
+            removed += cache.remove(id) != null ? 1 : 0;
         }
+        return removed;
     }
 
     @Override
-    public void invalidate(List<String> requests, List<String> imps) {
-        requestCache.keySet().removeAll(requests);
-        impCache.keySet().removeAll(imps);
+    public void saveResponses(Map<String, String> responses) {
+        if (MapUtils.isNotEmpty(responses)) {
+            responseCache.putAll(responses);
+        }
+    }
+
+    @Override
+    public void invalidateResponses(List<String> responses) {
+        if (CollectionUtils.isNotEmpty(responses)) {
+            responseCache.keySet().removeAll(responses);
+        }
     }
 }
@@ -12,4 +12,6 @@ public class UpdateSettingsCacheRequest {
     Map<String, String> requests;
 
     Map<String, String> imps;
+
+    Map<String, String> responses;
 }
@@ -10,6 +10,8 @@ import io.vertx.core.logging.LoggerFactory;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.CacheNotificationListener;
 import org.prebid.server.settings.model.StoredDataType;
 import org.prebid.server.settings.proto.response.HttpRefreshResponse;
@@ -18,6 +20,7 @@ import org.prebid.server.vertx.Initializable;
 import org.prebid.server.vertx.http.HttpClient;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -65,9 +68,12 @@ public class HttpPeriodicRefreshService implements Initializable {
     private final String refreshUrl;
     private final long refreshPeriod;
     private final long timeout;
+    private final MetricName cacheType;
     private final CacheNotificationListener cacheNotificationListener;
     private final Vertx vertx;
     private final HttpClient httpClient;
+    private final Metrics metrics;
+    private final Clock clock;
     private final JacksonMapper mapper;
 
     private Instant lastUpdateTime;
@@ -75,17 +81,23 @@ public class HttpPeriodicRefreshService implements Initializable {
     public HttpPeriodicRefreshService(String refreshUrl,
                                       long refreshPeriod,
                                       long timeout,
+                                      MetricName cacheType,
                                       CacheNotificationListener cacheNotificationListener,
                                       Vertx vertx,
                                       HttpClient httpClient,
+                                      Metrics metrics,
+                                      Clock clock,
                                       JacksonMapper mapper) {
 
         this.refreshUrl = HttpUtil.validateUrl(Objects.requireNonNull(refreshUrl));
         this.refreshPeriod = refreshPeriod;
         this.timeout = timeout;
+        this.cacheType = Objects.requireNonNull(cacheType);
         this.cacheNotificationListener = Objects.requireNonNull(cacheNotificationListener);
         this.vertx = Objects.requireNonNull(vertx);
         this.httpClient = Objects.requireNonNull(httpClient);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -98,36 +110,35 @@ public class HttpPeriodicRefreshService implements Initializable {
     }
 
     private void getAll() {
+        final Instant updateTime = Instant.now(clock);
+        final long startTime = clock.millis();
+
         httpClient.get(refreshUrl, timeout)
-                .map(this::processResponse)
-                .map(this::save)
-                .map(ignored -> setLastUpdateTime(Instant.now()))
-                .recover(HttpPeriodicRefreshService::failResponse);
+                .map(response -> handleResponse(response, startTime, MetricName.initialize))
+                .map(ignored -> setLastUpdateTime(updateTime))
+                .recover(exception -> handleFailure(exception, startTime, MetricName.initialize));
     }
 
-    private Void save(HttpRefreshResponse refreshResponse) {
-        final Map<String, String> requests = parseStoredData(refreshResponse.getRequests(), StoredDataType.request);
-        final Map<String, String> imps = parseStoredData(refreshResponse.getImps(), StoredDataType.imp);
-
-        cacheNotificationListener.save(requests, imps);
+    private void refresh() {
+        final Instant updateTime = Instant.now(clock);
+        final long startTime = clock.millis();
 
-        return null;
-    }
+        final String lastModifiedParam = "last-modified=" + lastUpdateTime;
+        final String andOrParam = refreshUrl.contains("?") ? "&" : "?";
+        final String refreshEndpoint = refreshUrl + andOrParam + lastModifiedParam;
 
-    private Void setLastUpdateTime(Instant instant) {
-        lastUpdateTime = instant;
-        return null;
+        httpClient.get(refreshEndpoint, timeout)
+                .map(response -> handleResponse(response, startTime, MetricName.update))
+                .map(ignored -> setLastUpdateTime(updateTime))
+                .recover(exception -> handleFailure(exception, startTime, MetricName.update));
     }
 
     /**
-     * Handles errors occurred while HTTP request or response processing.
+     * Applies all changes from the response to the cache in one pass: deleted items are invalidated, the rest are
+     * saved (cache skips items which are not changed). Only entries actually removed or replaced are counted as
+     * changed.
      */
-    private static Future<Void> failResponse(Throwable exception) {
-        logger.warn("Error occurred while request to http periodic refresh service", exception);
-        return Future.failedFuture(exception);
-    }
-
-    private HttpRefreshResponse processResponse(HttpClientResponse response) {
+    private Void handleResponse(HttpClientResponse response, long startTime, MetricName refreshType) {
         final int statusCode = response.getStatusCode();
         if (statusCode != 200) {
             throw new PreBidException(String.format("HTTP status code %d", statusCode));
@@ -141,76 +152,68 @@ public class HttpPeriodicRefreshService implements Initializable {
             throw new PreBidException(String.format("Cannot parse response: %s", body), e);
         }
 
-        return refreshResponse;
+        final Map<String, String> requests = new HashMap<>();
+        final List<String> invalidatedRequests = new ArrayList<>();
+        collectChanges(refreshResponse.getRequests(), StoredDataType.request, requests, invalidatedRequests);
+
+        final Map<String, String> imps = new HashMap<>();
+        final List<String> invalidatedImps = new ArrayList<>();
+        collectChanges(refreshResponse.getImps(), StoredDataType.imp, imps, invalidatedImps);
+
+        int changedEntries = 0;
+        if (!invalidatedRequests.isEmpty() || !invalidatedImps.isEmpty()) {
+            changedEntries += cacheNotificationListener.invalidate(invalidatedRequests, invalidatedImps);
+        }
+        changedEntries += cacheNotificationListener.save(requests, imps);
+
+        metrics.updateSettingsCacheRefreshTime(cacheType, refreshType, clock.millis() - startTime);
+        metrics.updateSettingsCacheRefreshChangesMetrics(cacheType, refreshType, body.length(), changedEntries);
+
+        return null;
     }
 
-    private Map<String, String> parseStoredData(Map<String, ObjectNode> refreshResponse,
-                                                StoredDataType type) {
-        final Map<String, String> result = new HashMap<>();
+    private void collectChanges(Map<String, ObjectNode> changes,
+                                StoredDataType type,
+                                Map<String, String> storedIdToData,
+                                List<String> invalidatedIds) {
+
+        if (changes == null) {
+            return;
+        }
 
-        for (Map.Entry<String, ObjectNode> entry : refreshResponse.entrySet()) {
+        for (Map.Entry<String, ObjectNode> entry : changes.entrySet()) {
             final String id = entry.getKey();
+            final ObjectNode data = entry.getValue();
+
+            final JsonNode deleted = data.get("deleted");
+            if (deleted != null && deleted.asBoolean()) {
+                invalidatedIds.add(id);
+                continue;
+            }
 
-            final String jsonAsString;
             try {
-                jsonAsString = mapper.mapper().writeValueAsString(entry.getValue());
+                storedIdToData.put(id, mapper.mapper().writeValueAsString(data));
             } catch (JsonProcessingException e) {
                 throw new PreBidException(String.format("Error parsing %s json for id: %s with message: %s", type, id,
                         e.getMessage()));
             }
-            result.put(id, jsonAsString);
         }
-        return result;
     }
 
-    private void refresh() {
-        final Instant updateTime = Instant.now();
-
-        final String lastModifiedParam = "last-modified=" + lastUpdateTime;
-        final String andOrParam = refreshUrl.contains("?") ? "&" : "?";
-        final String refreshEndpoint = refreshUrl + andOrParam + lastModifiedParam;
-
-        httpClient.get(refreshEndpoint, timeout)
-                .map(this::processResponse)
-                .map(this::invalidate)
-                .map(this::save)
-                .map(ignored -> setLastUpdateTime(updateTime))
-                .recover(HttpPeriodicRefreshService::failResponse);
-    }
-
-    private HttpRefreshResponse invalidate(HttpRefreshResponse refreshResponse) {
-        final List<String> invalidatedRequests = getInvalidatedKeys(refreshResponse.getRequests());
-        final List<String> invalidatedImps = getInvalidatedKeys(refreshResponse.getImps());
-
-        if (!invalidatedRequests.isEmpty() || !invalidatedImps.isEmpty()) {
-            cacheNotificationListener.invalidate(invalidatedRequests, invalidatedImps);
-        }
-
-        final Map<String, ObjectNode> requestsToSave = removeFromMap(refreshResponse.getRequests(),
-                invalidatedRequests);
-        final Map<String, ObjectNode> impsToSave = removeFromMap(refreshResponse.getImps(), invalidatedImps);
-
-        return HttpRefreshResponse.of(requestsToSave, impsToSave);
+    private Void setLastUpdateTime(Instant instant) {
+        lastUpdateTime = instant;
+        return null;
     }
 
-    private static List<String> getInvalidatedKeys(Map<String, ObjectNode> changes) {
-        final List<String> result = new ArrayList<>();
+    /**
+     * Handles errors occurred while HTTP request or response processing.
+     */
+    private Future<Void> handleFailure(Throwable exception, long startTime, MetricName refreshType) {
+        logger.warn("Error occurred while request to http periodic refresh service", exception);
 
-        for (Map.Entry<String, ObjectNode> entry : changes.entrySet()) {
-            final ObjectNode jsonNodes = entry.getValue();
-            final JsonNode deleted = jsonNodes.get("deleted");
-            if (deleted != null && deleted.asBoolean()) {
-                result.add(entry.getKey());
-            }
-        }
-        return result;
-    }
+        metrics.updateSettingsCacheRefreshTime(cacheType, refreshType, clock.millis() - startTime);
+        metrics.updateSettingsCacheRefreshErrorMetric(cacheType, refreshType);
 
-    private static Map<String, ObjectNode> removeFromMap(Map<String, ObjectNode> map, List<String> invalidatedKeys) {
-        final Map<String, ObjectNode> result = new HashMap<>(map);
-        for (String key : invalidatedKeys) {
-            result.remove(key);
-        }
-        return result;
+        return Future.failedFuture(exception);
     }
 }
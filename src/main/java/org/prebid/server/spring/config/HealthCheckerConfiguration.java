@@ -1,6 +1,7 @@
 package org.prebid.server.spring.config;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.file.FileSystem;
 import io.vertx.ext.jdbc.JDBCClient;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.geolocation.GeoLocationService;
@@ -8,6 +9,11 @@ import org.prebid.server.health.ApplicationChecker;
 import org.prebid.server.health.DatabaseHealthChecker;
 import org.prebid.server.health.GeoLocationHealthChecker;
 import org.prebid.server.health.HealthChecker;
+import org.prebid.server.health.WarmupHealthChecker;
+import org.prebid.server.health.WarmupRequestMarker;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.http.HttpClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -41,6 +47,23 @@ public class HealthCheckerConfiguration {
         return new GeoLocationHealthChecker(vertx, refreshPeriod, geoLocationService, timeoutFactory, clock);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "warmup", name = "enabled", havingValue = "true")
+    WarmupHealthChecker warmupChecker(@Value("${warmup.requests-file}") String requestsFile,
+                                      @Value("${warmup.iterations}") int iterations,
+                                      @Value("${warmup.timeout-ms}") long timeoutMs,
+                                      @Value("${http.port}") int httpPort,
+                                      FileSystem fileSystem,
+                                      HttpClient httpClient,
+                                      WarmupRequestMarker warmupRequestMarker,
+                                      Metrics metrics,
+                                      Clock clock,
+                                      JacksonMapper mapper) {
+
+        return new WarmupHealthChecker(requestsFile, String.format("http://localhost:%d/openrtb2/auction", httpPort),
+                iterations, timeoutMs, fileSystem, httpClient, warmupRequestMarker, metrics, clock, mapper);
+    }
+
     @Bean
     HealthChecker applicationChecker(@Value("${status-response}") String statusResponse) {
         return new ApplicationChecker(statusResponse);
@@ -5,7 +5,9 @@ import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixListFactory;
 import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.net.JksOptions;
+import org.apache.commons.lang3.BooleanUtils;
 import org.prebid.server.auction.AmpResponsePostProcessor;
 import org.prebid.server.auction.BidResponseCreator;
 import org.prebid.server.auction.BidResponsePostProcessor;
@@ -35,11 +37,16 @@ import org.prebid.server.bidder.BidderRequestCompletionTrackerFactory;
 import org.prebid.server.bidder.HttpBidderRequester;
 import org.prebid.server.cache.CacheService;
 import org.prebid.server.cache.model.CacheTtl;
+import org.prebid.server.cookie.UidsCookieBinaryCodec;
+import org.prebid.server.cookie.UidsCookieFormat;
 import org.prebid.server.cookie.UidsCookieService;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.events.EventsService;
 import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.health.WarmupRequestMarker;
+import org.prebid.server.identity.FastUUIDIdGenerator;
 import org.prebid.server.identity.IdGenerator;
+import org.prebid.server.identity.IdGeneratorType;
 import org.prebid.server.identity.NoneIdGenerator;
 import org.prebid.server.identity.UUIDIdGenerator;
 import org.prebid.server.json.JacksonMapper;
@@ -48,6 +55,7 @@ import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.log.LoggerControlKnob;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.optout.GoogleRecaptchaVerifier;
+import org.prebid.server.overload.OverloadController;
 import org.prebid.server.privacy.PrivacyExtractor;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
 import org.prebid.server.settings.ApplicationSettings;
@@ -55,6 +63,7 @@ import org.prebid.server.settings.model.BidValidationEnforcement;
 import org.prebid.server.spring.config.model.CircuitBreakerProperties;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
+import org.prebid.server.spring.config.model.OverloadProperties;
 import org.prebid.server.util.VersionInfo;
 import org.prebid.server.validation.BidderParamValidator;
 import org.prebid.server.validation.RequestValidator;
@@ -64,6 +73,7 @@ import org.prebid.server.vast.VastModifier;
 import org.prebid.server.vertx.http.BasicHttpClient;
 import org.prebid.server.vertx.http.CircuitBreakerSecuredHttpClient;
 import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.timer.DeadlineScheduler;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -251,19 +261,29 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    IdGenerator bidIdGenerator(@Value("${auction.generate-bid-id}") boolean generateBidId) {
+    IdGenerator bidIdGenerator(@Value("${auction.generate-bid-id}") boolean generateBidId,
+                               @Value("${auction.id-generator-type}") IdGeneratorType idGeneratorType) {
+
         return generateBidId
-                ? new UUIDIdGenerator()
+                ? createIdGenerator(idGeneratorType)
                 : new NoneIdGenerator();
     }
 
     @Bean
-    IdGenerator sourceIdGenerator(@Value("${auction.generate-source-tid}") boolean generateSourceTid) {
+    IdGenerator sourceIdGenerator(@Value("${auction.generate-source-tid}") boolean generateSourceTid,
+                                  @Value("${auction.id-generator-type}") IdGeneratorType idGeneratorType) {
+
         return generateSourceTid
-                ? new UUIDIdGenerator()
+                ? createIdGenerator(idGeneratorType)
                 : new NoneIdGenerator();
     }
 
+    private static IdGenerator createIdGenerator(IdGeneratorType idGeneratorType) {
+        return idGeneratorType == IdGeneratorType.fastuuid
+                ? new FastUUIDIdGenerator()
+                : new UUIDIdGenerator();
+    }
+
     @Bean
     AmpRequestFactory ampRequestFactory(StoredRequestProcessor storedRequestProcessor,
                                         Ortb2RequestFactory ortb2RequestFactory,
@@ -371,8 +391,11 @@ public class ServiceConfiguration {
     @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "false",
             matchIfMissing = true)
-    BasicHttpClient basicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
-        return createBasicHttpClient(vertx, httpClientProperties);
+    BasicHttpClient basicHttpClient(Vertx vertx,
+                                    DeadlineScheduler deadlineScheduler,
+                                    HttpClientProperties httpClientProperties) {
+
+        return createBasicHttpClient(vertx, deadlineScheduler, httpClientProperties);
     }
 
     @Bean
@@ -387,19 +410,23 @@ public class ServiceConfiguration {
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "true")
     CircuitBreakerSecuredHttpClient circuitBreakerSecuredHttpClient(
             Vertx vertx,
+            DeadlineScheduler deadlineScheduler,
             Metrics metrics,
             HttpClientProperties httpClientProperties,
             @Qualifier("httpClientCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
             Clock clock) {
 
-        final HttpClient httpClient = createBasicHttpClient(vertx, httpClientProperties);
+        final HttpClient httpClient = createBasicHttpClient(vertx, deadlineScheduler, httpClientProperties);
 
         return new CircuitBreakerSecuredHttpClient(vertx, httpClient, metrics,
                 circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
                 circuitBreakerProperties.getClosingIntervalMs(), clock);
     }
 
-    private static BasicHttpClient createBasicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
+    private static BasicHttpClient createBasicHttpClient(Vertx vertx,
+                                                         DeadlineScheduler deadlineScheduler,
+                                                         HttpClientProperties httpClientProperties) {
+
         final HttpClientOptions options = new HttpClientOptions()
                 .setMaxPoolSize(httpClientProperties.getMaxPoolSize())
                 .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
@@ -411,6 +438,23 @@ public class ServiceConfiguration {
                 // 3 for twice, and so on
                 .setMaxRedirects(httpClientProperties.getMaxRedirects() + 1);
 
+        final Integer maxWaitQueueSize = httpClientProperties.getMaxWaitQueueSize();
+        if (maxWaitQueueSize != null) {
+            options.setMaxWaitQueueSize(maxWaitQueueSize);
+        }
+
+        if (BooleanUtils.isTrue(httpClientProperties.getHttp2Enabled())) {
+            // falls back to HTTP/1.1 for hosts not supporting HTTP/2 (negotiated with h2c upgrade or ALPN)
+            options
+                    .setProtocolVersion(HttpVersion.HTTP_2)
+                    .setUseAlpn(true);
+
+            final Integer http2MultiplexingLimit = httpClientProperties.getHttp2MultiplexingLimit();
+            if (http2MultiplexingLimit != null) {
+                options.setHttp2MultiplexingLimit(http2MultiplexingLimit);
+            }
+        }
+
         if (httpClientProperties.getSsl()) {
             final JksOptions jksOptions = new JksOptions()
                     .setPath(httpClientProperties.getJksPath())
@@ -421,7 +465,7 @@ public class ServiceConfiguration {
                     .setKeyStoreOptions(jksOptions);
         }
 
-        return new BasicHttpClient(vertx, vertx.createHttpClient(options));
+        return new BasicHttpClient(deadlineScheduler, vertx.createHttpClient(options));
     }
 
     @Bean
@@ -433,6 +477,8 @@ public class ServiceConfiguration {
             @Value("${host-cookie.domain:#{null}}") String hostCookieDomain,
             @Value("${host-cookie.ttl-days}") Integer ttlDays,
             @Value("${host-cookie.max-cookie-size-bytes}") Integer maxCookieSizeBytes,
+            @Value("${host-cookie.format}") UidsCookieFormat format,
+            BidderCatalog bidderCatalog,
             JacksonMapper mapper) {
 
         return new UidsCookieService(
@@ -443,6 +489,8 @@ public class ServiceConfiguration {
                 hostCookieDomain,
                 ttlDays,
                 maxCookieSizeBytes,
+                format,
+                new UidsCookieBinaryCodec(bidderCatalog.cookieFamilyNames()),
                 mapper);
     }
 
@@ -460,9 +508,11 @@ public class ServiceConfiguration {
     HttpBidderRequester httpBidderRequester(
             HttpClient httpClient,
             @Autowired(required = false) BidderRequestCompletionTrackerFactory bidderRequestCompletionTrackerFactory,
-            BidderErrorNotifier bidderErrorNotifier) {
+            BidderErrorNotifier bidderErrorNotifier,
+            HttpInteractionLogger httpInteractionLogger) {
 
-        return new HttpBidderRequester(httpClient, bidderRequestCompletionTrackerFactory, bidderErrorNotifier);
+        return new HttpBidderRequester(httpClient, bidderRequestCompletionTrackerFactory, bidderErrorNotifier,
+                httpInteractionLogger);
     }
 
     @Bean
@@ -493,6 +543,7 @@ public class ServiceConfiguration {
             WinningBidComparator winningBidComparator,
             IdGenerator bidIdGenerator,
             @Value("${settings.targeting.truncate-attr-chars}") int truncateAttrChars,
+            @Value("${auction.debug-stage-times}") boolean debugStageTimes,
             Clock clock,
             JacksonMapper mapper) {
 
@@ -505,6 +556,7 @@ public class ServiceConfiguration {
                 winningBidComparator,
                 bidIdGenerator,
                 truncateAttrChars,
+                debugStageTimes,
                 clock,
                 mapper);
     }
@@ -522,6 +574,7 @@ public class ServiceConfiguration {
             CurrencyConversionService currencyConversionService,
             BidResponseCreator bidResponseCreator,
             BidResponsePostProcessor bidResponsePostProcessor,
+            OverloadController overloadController,
             Metrics metrics,
             Clock clock,
             JacksonMapper mapper) {
@@ -538,16 +591,34 @@ public class ServiceConfiguration {
                 currencyConversionService,
                 bidResponseCreator,
                 bidResponsePostProcessor,
+                overloadController,
                 metrics,
                 clock,
                 mapper);
     }
 
+    @Bean
+    @ConfigurationProperties(prefix = "overload")
+    OverloadProperties overloadProperties() {
+        return new OverloadProperties();
+    }
+
+    @Bean
+    WarmupRequestMarker warmupRequestMarker() {
+        return new WarmupRequestMarker();
+    }
+
+    @Bean
+    OverloadController overloadController(OverloadProperties overloadProperties, Vertx vertx, Metrics metrics) {
+        return new OverloadController(overloadProperties, vertx, metrics);
+    }
+
     @Bean
     StoredRequestProcessor storedRequestProcessor(
             @Value("${auction.stored-requests-timeout-ms}") long defaultTimeoutMs,
             @Value("${default-request.file.path:#{null}}") String defaultBidRequestPath,
             @Value("${settings.generate-storedrequest-bidrequest-id}") boolean generateBidRequestId,
+            @Value("${auction.id-generator-type}") IdGeneratorType idGeneratorType,
             FileSystem fileSystem,
             ApplicationSettings applicationSettings,
             Metrics metrics,
@@ -561,7 +632,7 @@ public class ServiceConfiguration {
                 generateBidRequestId,
                 fileSystem,
                 applicationSettings,
-                new UUIDIdGenerator(),
+                createIdGenerator(idGeneratorType),
                 metrics,
                 timeoutFactory,
                 mapper,
@@ -574,10 +645,12 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    StoredResponseProcessor storedResponseProcessor(ApplicationSettings applicationSettings,
-                                                    JacksonMapper mapper) {
+    StoredResponseProcessor storedResponseProcessor(
+            ApplicationSettings applicationSettings,
+            @Value("${auction.stored-responses-parsed-cache-size}") int storedResponsesParsedCacheSize,
+            JacksonMapper mapper) {
 
-        return new StoredResponseProcessor(applicationSettings, mapper);
+        return new StoredResponseProcessor(applicationSettings, storedResponsesParsedCacheSize, mapper);
     }
 
     @Bean
@@ -605,16 +678,24 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    RequestValidator requestValidator(BidderCatalog bidderCatalog,
-                                      BidderParamValidator bidderParamValidator,
-                                      JacksonMapper mapper) {
+    RequestValidator requestValidator(
+            @Value("${auction.validations.native-request-cache-size}") int nativeRequestCacheSize,
+            BidderCatalog bidderCatalog,
+            BidderParamValidator bidderParamValidator,
+            JacksonMapper mapper) {
 
-        return new RequestValidator(bidderCatalog, bidderParamValidator, mapper);
+        return new RequestValidator(bidderCatalog, bidderParamValidator, nativeRequestCacheSize, mapper);
     }
 
     @Bean
-    BidderParamValidator bidderParamValidator(BidderCatalog bidderCatalog, JacksonMapper mapper) {
-        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", mapper);
+    BidderParamValidator bidderParamValidator(
+            @Value("${auction.validations.bidder-params-cache-size}") int bidderParamsCacheSize,
+            @Value("${auction.validations.load-disabled-bidders-params-schemas}") boolean loadDisabledBiddersSchemas,
+            BidderCatalog bidderCatalog,
+            JacksonMapper mapper) {
+
+        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", bidderParamsCacheSize,
+                loadDisabledBiddersSchemas, mapper);
     }
 
     @Bean
@@ -694,8 +775,11 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    HttpInteractionLogger httpInteractionLogger() {
-        return new HttpInteractionLogger();
+    HttpInteractionLogger httpInteractionLogger(
+            @Value("${logging.http-interaction.buffer-size}") int bufferSize,
+            Metrics metrics) {
+
+        return new HttpInteractionLogger(bufferSize, metrics);
     }
 
     @Bean
@@ -29,6 +29,7 @@ import org.prebid.server.vertx.http.HttpClient;
 import org.prebid.server.vertx.jdbc.BasicJdbcClient;
 import org.prebid.server.vertx.jdbc.CircuitBreakerSecuredJdbcClient;
 import org.prebid.server.vertx.jdbc.JdbcClient;
+import org.prebid.server.vertx.timer.DeadlineScheduler;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -94,10 +95,10 @@ public class SettingsConfiguration {
         @Bean
         @ConditionalOnProperty(prefix = "settings.database.circuit-breaker", name = "enabled", havingValue = "false",
                 matchIfMissing = true)
-        BasicJdbcClient basicJdbcClient(
-                Vertx vertx, JDBCClient vertxJdbcClient, Metrics metrics, Clock clock, ContextRunner contextRunner) {
+        BasicJdbcClient basicJdbcClient(DeadlineScheduler deadlineScheduler, JDBCClient vertxJdbcClient,
+                                        Metrics metrics, Clock clock, ContextRunner contextRunner) {
 
-            return createBasicJdbcClient(vertx, vertxJdbcClient, metrics, clock, contextRunner);
+            return createBasicJdbcClient(deadlineScheduler, vertxJdbcClient, metrics, clock, contextRunner);
         }
 
         @Bean
@@ -110,18 +111,25 @@ public class SettingsConfiguration {
         @Bean
         @ConditionalOnProperty(prefix = "settings.database.circuit-breaker", name = "enabled", havingValue = "true")
         CircuitBreakerSecuredJdbcClient circuitBreakerSecuredJdbcClient(
-                Vertx vertx, JDBCClient vertxJdbcClient, Metrics metrics, Clock clock, ContextRunner contextRunner,
+                Vertx vertx, DeadlineScheduler deadlineScheduler, JDBCClient vertxJdbcClient, Metrics metrics,
+                Clock clock, ContextRunner contextRunner,
                 @Qualifier("databaseCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties) {
 
-            final JdbcClient jdbcClient = createBasicJdbcClient(vertx, vertxJdbcClient, metrics, clock, contextRunner);
+            final JdbcClient jdbcClient = createBasicJdbcClient(
+                    deadlineScheduler, vertxJdbcClient, metrics, clock, contextRunner);
             return new CircuitBreakerSecuredJdbcClient(vertx, jdbcClient, metrics,
                     circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
                     circuitBreakerProperties.getClosingIntervalMs(), clock);
         }
 
-        private static BasicJdbcClient createBasicJdbcClient(
-                Vertx vertx, JDBCClient vertxJdbcClient, Metrics metrics, Clock clock, ContextRunner contextRunner) {
-            final BasicJdbcClient basicJdbcClient = new BasicJdbcClient(vertx, vertxJdbcClient, metrics, clock);
+        private static BasicJdbcClient createBasicJdbcClient(DeadlineScheduler deadlineScheduler,
+                                                             JDBCClient vertxJdbcClient,
+                                                             Metrics metrics,
+                                                             Clock clock,
+                                                             ContextRunner contextRunner) {
+
+            final BasicJdbcClient basicJdbcClient =
+                    new BasicJdbcClient(deadlineScheduler, vertxJdbcClient, metrics, clock);
 
             contextRunner.<Void>runOnServiceContext(promise -> basicJdbcClient.initialize().setHandler(promise));
 
@@ -216,14 +224,20 @@ public class SettingsConfiguration {
         @Autowired
         HttpClient httpClient;
 
+        @Autowired
+        Metrics metrics;
+
+        @Autowired
+        Clock clock;
+
         @Bean
         public HttpPeriodicRefreshService httpPeriodicRefreshService(
                 @Value("${settings.in-memory-cache.http-update.endpoint}") String endpoint,
                 SettingsCache settingsCache,
                 JacksonMapper mapper) {
 
-            return new HttpPeriodicRefreshService(
-                    endpoint, refreshPeriod, timeout, settingsCache, vertx, httpClient, mapper);
+            return new HttpPeriodicRefreshService(endpoint, refreshPeriod, timeout, MetricName.stored_request,
+                    settingsCache, vertx, httpClient, metrics, clock, mapper);
         }
 
         @Bean
@@ -232,8 +246,8 @@ public class SettingsConfiguration {
                 SettingsCache ampSettingsCache,
                 JacksonMapper mapper) {
 
-            return new HttpPeriodicRefreshService(
-                    ampEndpoint, refreshPeriod, timeout, ampSettingsCache, vertx, httpClient, mapper);
+            return new HttpPeriodicRefreshService(ampEndpoint, refreshPeriod, timeout, MetricName.amp_stored_request,
+                    ampSettingsCache, vertx, httpClient, metrics, clock, mapper);
         }
     }
 
@@ -2,12 +2,16 @@ package org.prebid.server.spring.config;
 
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
+import io.vertx.core.dns.AddressResolverOptions;
 import io.vertx.core.file.FileSystem;
 import io.vertx.ext.dropwizard.DropwizardMetricsOptions;
 import io.vertx.ext.dropwizard.Match;
 import io.vertx.ext.dropwizard.MatchType;
 import io.vertx.ext.web.handler.BodyHandler;
 import org.prebid.server.vertx.ContextRunner;
+import org.prebid.server.vertx.timer.DeadlineScheduler;
+import org.prebid.server.vertx.timer.TimerWheelDeadlineScheduler;
+import org.prebid.server.vertx.timer.VertxDeadlineScheduler;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,7 +21,10 @@ public class VertxConfiguration {
 
     @Bean
     Vertx vertx(@Value("${vertx.worker-pool-size}") int workerPoolSize,
-                @Value("${vertx.enable-per-client-endpoint-metrics}") boolean enablePerClientEndpointMetrics) {
+                @Value("${vertx.enable-per-client-endpoint-metrics}") boolean enablePerClientEndpointMetrics,
+                @Value("${vertx.dns.cache-min-ttl-seconds}") int dnsCacheMinTtlSeconds,
+                @Value("${vertx.dns.cache-negative-ttl-seconds}") int dnsCacheNegativeTtlSeconds,
+                @Value("${vertx.dns.query-timeout-ms}") long dnsQueryTimeoutMs) {
         final DropwizardMetricsOptions metricsOptions = new DropwizardMetricsOptions()
                 .setEnabled(true)
                 .setRegistryName(MetricsConfiguration.METRIC_REGISTRY_NAME);
@@ -25,9 +32,17 @@ public class VertxConfiguration {
             metricsOptions.addMonitoredHttpClientEndpoint(new Match().setValue(".*").setType(MatchType.REGEX));
         }
 
+        // host names are resolved asynchronously and cached by their TTL, min TTL prevents re-resolving of
+        // hosts having very short TTL on each outgoing request
+        final AddressResolverOptions addressResolverOptions = new AddressResolverOptions()
+                .setCacheMinTimeToLive(dnsCacheMinTtlSeconds)
+                .setCacheNegativeTimeToLive(dnsCacheNegativeTtlSeconds)
+                .setQueryTimeout(dnsQueryTimeoutMs);
+
         final VertxOptions vertxOptions = new VertxOptions()
                 .setWorkerPoolSize(workerPoolSize)
-                .setMetricsOptions(metricsOptions);
+                .setMetricsOptions(metricsOptions)
+                .setAddressResolverOptions(addressResolverOptions);
 
         return Vertx.vertx(vertxOptions);
     }
@@ -42,6 +57,17 @@ public class VertxConfiguration {
         return BodyHandler.create(uploadsDir);
     }
 
+    @Bean
+    DeadlineScheduler deadlineScheduler(Vertx vertx,
+                                        @Value("${vertx.timer-wheel.enabled}") boolean timerWheelEnabled,
+                                        @Value("${vertx.timer-wheel.tick-ms}") long timerWheelTickMs,
+                                        @Value("${vertx.timer-wheel.wheel-size}") int timerWheelSize) {
+
+        return timerWheelEnabled
+                ? new TimerWheelDeadlineScheduler(vertx, timerWheelTickMs, timerWheelSize)
+                : new VertxDeadlineScheduler(vertx);
+    }
+
     @Bean
     ContextRunner contextRunner(Vertx vertx, @Value("${vertx.init-timeout-ms}") long initTimeoutMs) {
         return new ContextRunner(vertx, initTimeoutMs);
@@ -42,10 +42,12 @@ import org.prebid.server.handler.openrtb2.AmpHandler;
 import org.prebid.server.handler.openrtb2.VideoHandler;
 import org.prebid.server.health.HealthChecker;
 import org.prebid.server.health.PeriodicHealthChecker;
+import org.prebid.server.health.WarmupRequestMarker;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.optout.GoogleRecaptchaVerifier;
+import org.prebid.server.overload.OverloadController;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
 import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.util.HttpUtil;
@@ -92,21 +94,40 @@ public class WebConfiguration {
     @Qualifier("router")
     private Router router;
 
+    @Autowired
+    private OverloadController overloadController;
+
     @Value("${http.port}")
     private int httpPort;
 
     @PostConstruct
     public void startHttpServer() {
-        logger.info("Starting {0} instances of Http Server to serve requests on port {1,number,#}", httpServerNum,
+        final int instances = resolveHttpServerInstances(httpServerNum);
+
+        logger.info("Starting {0} instances of Http Server to serve requests on port {1,number,#}", instances,
                 httpPort);
 
-        contextRunner.<HttpServer>runOnNewContext(httpServerNum, promise ->
-                vertx.createHttpServer(httpServerOptions)
-                        .exceptionHandler(exceptionHandler)
-                        .requestHandler(router)
-                        .listen(httpPort, promise));
+        contextRunner.<HttpServer>runOnNewContext(instances, promise -> {
+            overloadController.monitorCurrentEventLoop();
+
+            vertx.createHttpServer(httpServerOptions)
+                    .exceptionHandler(exceptionHandler)
+                    .requestHandler(router)
+                    .listen(httpPort, promise);
+        });
+
+        logger.info("Successfully started {0} instances of Http Server", instances);
+    }
 
-        logger.info("Successfully started {0} instances of Http Server", httpServerNum);
+    /**
+     * Returns number of available processors if configured number of instances is not positive, so each server
+     * instance (and its per-context services like HTTP client) runs on its own event loop and core.
+     * <p>
+     * Note that per-context services multiply with instances: each one has its own connection pool and circuit
+     * breakers.
+     */
+    static int resolveHttpServerInstances(int httpServerNum) {
+        return httpServerNum > 0 ? httpServerNum : Runtime.getRuntime().availableProcessors();
     }
 
     @Bean
@@ -210,6 +231,8 @@ public class WebConfiguration {
             ExchangeService exchangeService,
             AuctionRequestFactory auctionRequestFactory,
             AnalyticsReporterDelegator analyticsReporter,
+            OverloadController overloadController,
+            WarmupRequestMarker warmupRequestMarker,
             Metrics metrics,
             Clock clock,
             HttpInteractionLogger httpInteractionLogger,
@@ -219,6 +242,8 @@ public class WebConfiguration {
                 auctionRequestFactory,
                 exchangeService,
                 analyticsReporter,
+                overloadController,
+                warmupRequestMarker,
                 metrics,
                 clock,
                 httpInteractionLogger,
@@ -230,6 +255,7 @@ public class WebConfiguration {
             AmpRequestFactory ampRequestFactory,
             ExchangeService exchangeService,
             AnalyticsReporterDelegator analyticsReporter,
+            OverloadController overloadController,
             Metrics metrics,
             Clock clock,
             BidderCatalog bidderCatalog,
@@ -242,6 +268,7 @@ public class WebConfiguration {
                 ampRequestFactory,
                 exchangeService,
                 analyticsReporter,
+                overloadController,
                 metrics,
                 clock,
                 bidderCatalog,
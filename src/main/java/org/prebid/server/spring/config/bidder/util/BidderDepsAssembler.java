@@ -110,10 +110,16 @@ public class BidderDepsAssembler<CFG extends BidderConfigurationProperties> {
                 .deprecatedNames(configProperties.getDeprecatedNames())
                 .bidderInfo(bidderInfo)
                 .usersyncer(usersyncer(configProperties))
+                .cookieFamilyName(cookieFamilyName(configProperties))
                 .bidder(bidder(configProperties))
                 .build();
     }
 
+    private static String cookieFamilyName(BidderConfigurationProperties configProperties) {
+        final UsersyncConfigurationProperties usersync = configProperties.getUsersync();
+        return usersync != null ? usersync.getCookieFamilyName() : null;
+    }
+
     private Usersyncer usersyncer(CFG configProperties) {
         return configProperties.getEnabled() ? usersyncerCreator.apply(configProperties.getUsersync()) : null;
     }
@@ -15,6 +15,12 @@ public class HttpClientProperties {
     @Min(1)
     private Integer maxPoolSize;
 
+    private Integer maxWaitQueueSize;
+
+    private Boolean http2Enabled;
+
+    private Integer http2MultiplexingLimit;
+
     private Integer idleTimeoutMs;
 
     private Integer poolCleanerPeriodMs;
@@ -0,0 +1,76 @@
+package org.prebid.server.spring.config.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.prebid.server.overload.OverloadPriority;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class OverloadProperties {
+
+    private boolean enabled;
+
+    @NotNull
+    @Min(1)
+    private Long sampleIntervalMs;
+
+    @NotNull
+    @Min(1)
+    private Integer activationSamples;
+
+    @NotNull
+    @Min(1)
+    private Integer recoverySamples;
+
+    @NotNull
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private Double recoveryRatio;
+
+    @NotNull
+    @Min(0)
+    private Long retryAfterSeconds;
+
+    @NotNull
+    @Valid
+    private Thresholds degrade;
+
+    @NotNull
+    @Valid
+    private Thresholds reject;
+
+    private List<String> lowPriorityBidders = new ArrayList<>();
+
+    private Map<String, OverloadPriority> endpointPriorities = new HashMap<>();
+
+    private Map<String, OverloadPriority> accountPriorities = new HashMap<>();
+
+    @Data
+    @NoArgsConstructor
+    public static class Thresholds {
+
+        @NotNull
+        @Min(1)
+        private Long eventLoopLagMs;
+
+        @NotNull
+        @Min(1)
+        private Integer inFlightAuctions;
+
+        @NotNull
+        @Min(1)
+        private Integer pendingBidderRequests;
+    }
+}
@@ -1,10 +1,12 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaException;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.ValidationMessage;
+import lombok.Value;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.BidderCatalog;
@@ -13,6 +15,7 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -29,18 +32,62 @@ public class BidderParamValidator {
     private static final String JSON_FILE_EXT = ".json";
     private static final String FILE_SEP = "/";
 
+    private static final ThreadLocal<JsonNodeDigest> DIGEST = ThreadLocal.withInitial(JsonNodeDigest::create);
+
     private final Map<String, JsonSchema> bidderSchemas;
     private final String schemas;
+    private final Map<ValidationKey, Set<String>> validationResults;
 
-    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas, String schemas) {
+    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas, String schemas, int cacheSize) {
         this.bidderSchemas = bidderSchemas;
         this.schemas = schemas;
+        this.validationResults = cacheSize > 0 ? createCache(cacheSize) : null;
     }
 
     /**
-     * Validates the {@link JsonNode} input parameter against bidder's JSON-schema
+     * Validates the {@link JsonNode} input parameter against bidder's JSON-schema.
+     * <p>
+     * Results are memoized per bidder and 128-bit digest of parameters (if cache is enabled), since the same bidder
+     * params (e.g. from stored imps) usually come in many requests. Keeping digest instead of parameters themselves
+     * makes size of cache entries independent of size of parameters. Parameters tree is fed to the digest directly
+     * (see {@link JsonNodeDigest}), without serializing it to JSON on each call.
+     * <p>
+     * Bidders which schema was not loaded (disabled ones, if configured so) are not validated, since request to such
+     * bidder fails anyway.
      */
     public Set<String> validate(String bidder, JsonNode jsonNode) {
+        if (!bidderSchemas.containsKey(bidder)) {
+            return Collections.emptySet();
+        }
+
+        if (validationResults == null) {
+            return validateBySchema(bidder, jsonNode);
+        }
+
+        final ValidationKey key = validationKey(bidder, jsonNode);
+        if (key == null) {
+            return validateBySchema(bidder, jsonNode);
+        }
+
+        final Set<String> cachedMessages = validationResults.get(key);
+        if (cachedMessages != null) {
+            return cachedMessages;
+        }
+
+        final Set<String> messages = Collections.unmodifiableSet(validateBySchema(bidder, jsonNode));
+        validationResults.put(key, messages);
+        return messages;
+    }
+
+    /**
+     * Returns key of validation result or null if params cannot be digested.
+     */
+    private static ValidationKey validationKey(String bidder, JsonNode jsonNode) {
+        final JsonNodeDigest digest = DIGEST.get();
+        return digest.digest(jsonNode) ? ValidationKey.of(bidder, digest.getHigh(), digest.getLow()) : null;
+    }
+
+    private Set<String> validateBySchema(String bidder, JsonNode jsonNode) {
         return bidderSchemas.get(bidder).validate(jsonNode).stream()
                 .map(ValidationMessage::getMessage)
                 .collect(Collectors.toSet());
@@ -78,16 +125,42 @@ public class BidderParamValidator {
     public static BidderParamValidator create(
             BidderCatalog bidderCatalog, String schemaDirectory, JacksonMapper mapper) {
 
+        return create(bidderCatalog, schemaDirectory, 0, true, mapper);
+    }
+
+    /**
+     * Constructs an instance of {@link BidderParamValidator} same as {@link #create(BidderCatalog, String,
+     * JacksonMapper)} but additionally caches up to cacheSize validation results. Zero cache size disables caching.
+     * <p>
+     * If loadDisabledBiddersSchemas is false, schemas of disabled bidders are neither loaded nor exposed via
+     * {@link #schemas()}, saving startup time and memory on deployments with only a few bidders enabled.
+     */
+    public static BidderParamValidator create(BidderCatalog bidderCatalog,
+                                              String schemaDirectory,
+                                              int cacheSize,
+                                              boolean loadDisabledBiddersSchemas,
+                                              JacksonMapper mapper) {
+
         Objects.requireNonNull(bidderCatalog);
         Objects.requireNonNull(schemaDirectory);
         Objects.requireNonNull(mapper);
 
         final Map<String, JsonNode> bidderRawSchemas = new LinkedHashMap<>();
 
-        bidderCatalog.names().forEach(bidder -> bidderRawSchemas.put(
-                bidder, createSchemaNode(schemaDirectory, maybeResolveAlias(bidderCatalog, bidder), mapper)));
+        bidderCatalog.names().stream()
+                .filter(bidder -> loadDisabledBiddersSchemas || bidderCatalog.isActive(bidder))
+                .forEach(bidder -> bidderRawSchemas.put(
+                        bidder, createSchemaNode(schemaDirectory, maybeResolveAlias(bidderCatalog, bidder), mapper)));
 
-        return new BidderParamValidator(toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper));
+        return new BidderParamValidator(toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper),
+                cacheSize);
+    }
+
+    private static Map<ValidationKey, Set<String>> createCache(int cacheSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .<ValidationKey, Set<String>>build()
+                .asMap();
     }
 
     private static Map<String, JsonSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
@@ -145,4 +218,14 @@ public class BidderParamValidator {
         }
         return result;
     }
+
+    @Value(staticConstructor = "of")
+    private static class ValidationKey {
+
+        String bidder;
+
+        long paramsDigestHigh;
+
+        long paramsDigestLow;
+    }
 }
@@ -0,0 +1,246 @@
+package org.prebid.server.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.security.SecureRandom;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Computes 128-bit digest of {@link JsonNode} tree by feeding its nodes to the hash function directly, without
+ * serializing the tree to JSON first.
+ * <p>
+ * Encoding of each node starts with its type and, for containers and strings, its size, so different trees are
+ * encoded differently. Numbers of different types (e.g. 1 and 1.0) are encoded differently too, since schema may
+ * tell them apart. Trees with binary or POJO nodes are not digested.
+ * <p>
+ * Encoded tree is hashed by SipHash-2-4 with 128-bit output, keyed by random key chosen on startup. Unlike plain
+ * non-cryptographic hashes, collisions of keyed SipHash cannot be crafted without knowing the key, so nobody can
+ * make params of one request share validation result with params of another. It is also several times cheaper than
+ * MD5 for typical params.
+ * <p>
+ * Keeps state between calls and is not thread-safe, meant to be kept per thread.
+ */
+final class JsonNodeDigest {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final long KEY0 = RANDOM.nextLong();
+    private static final long KEY1 = RANDOM.nextLong();
+
+    private static final byte TAG_OBJECT = 1;
+    private static final byte TAG_ARRAY = 2;
+    private static final byte TAG_STRING = 3;
+    private static final byte TAG_NUMBER = 4;
+    private static final byte TAG_BOOLEAN = 5;
+    private static final byte TAG_NULL = 6;
+
+    // ASCII chars take single byte, others are prefixed by marker which never clashes with ASCII
+    private static final char ASCII_LIMIT = 0x80;
+    private static final byte WIDE_CHAR_MARKER = (byte) 0x80;
+
+    private final long key0;
+    private final long key1;
+
+    private long v0;
+    private long v1;
+    private long v2;
+    private long v3;
+    // bytes not yet fed to the hash, little-endian, and number of all bytes written
+    private long tail;
+    private int length;
+
+    private long high;
+    private long low;
+
+    private JsonNodeDigest(long key0, long key1) {
+        this.key0 = key0;
+        this.key1 = key1;
+    }
+
+    static JsonNodeDigest create() {
+        return new JsonNodeDigest(KEY0, KEY1);
+    }
+
+    /**
+     * Creates digest with the given key, so that results are reproducible.
+     */
+    static JsonNodeDigest create(long key0, long key1) {
+        return new JsonNodeDigest(key0, key1);
+    }
+
+    /**
+     * Digests the given tree and returns true, so that result could be read by {@link #getHigh()} and
+     * {@link #getLow()}, or returns false if tree cannot be digested.
+     */
+    boolean digest(JsonNode node) {
+        reset();
+        if (!write(node)) {
+            return false;
+        }
+
+        finish();
+        return true;
+    }
+
+    long getHigh() {
+        return high;
+    }
+
+    long getLow() {
+        return low;
+    }
+
+    private boolean write(JsonNode node) {
+        switch (node.getNodeType()) {
+            case OBJECT:
+                writeByte(TAG_OBJECT);
+                writeVarLong(node.size());
+                final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    final Map.Entry<String, JsonNode> field = fields.next();
+                    writeString(field.getKey());
+                    if (!write(field.getValue())) {
+                        return false;
+                    }
+                }
+                return true;
+            case ARRAY:
+                writeByte(TAG_ARRAY);
+                writeVarLong(node.size());
+                for (JsonNode element : node) {
+                    if (!write(element)) {
+                        return false;
+                    }
+                }
+                return true;
+            case STRING:
+                writeByte(TAG_STRING);
+                writeString(node.textValue());
+                return true;
+            case NUMBER:
+                writeNumber(node);
+                return true;
+            case BOOLEAN:
+                writeByte(TAG_BOOLEAN);
+                writeByte(node.booleanValue() ? (byte) 1 : (byte) 0);
+                return true;
+            case NULL:
+                writeByte(TAG_NULL);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void writeNumber(JsonNode node) {
+        final JsonParser.NumberType numberType = node.numberType();
+        writeByte(TAG_NUMBER);
+        writeByte((byte) numberType.ordinal());
+        switch (numberType) {
+            case INT:
+            case LONG:
+                final long value = node.longValue();
+                // zigzag encoding keeps small negative numbers short
+                writeVarLong(value << 1 ^ value >> 63);
+                break;
+            case FLOAT:
+            case DOUBLE:
+                writeLong(Double.doubleToRawLongBits(node.doubleValue()));
+                break;
+            default:
+                writeString(node.asText());
+        }
+    }
+
+    private void writeString(String string) {
+        final int stringLength = string.length();
+        writeVarLong(stringLength);
+        for (int i = 0; i < stringLength; i++) {
+            final char character = string.charAt(i);
+            if (character < ASCII_LIMIT) {
+                writeByte((byte) character);
+            } else {
+                writeByte(WIDE_CHAR_MARKER);
+                writeByte((byte) (character >>> 8));
+                writeByte((byte) character);
+            }
+        }
+    }
+
+    private void writeVarLong(long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            writeByte((byte) (remaining & 0x7F | 0x80));
+            remaining >>>= 7;
+        }
+        writeByte((byte) remaining);
+    }
+
+    private void writeLong(long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            writeByte((byte) (value >>> shift));
+        }
+    }
+
+    private void writeByte(byte value) {
+        final int shift = (length & 7) << 3;
+        tail |= (value & 0xFFL) << shift;
+        length++;
+        if (shift == 56) {
+            compress(tail);
+            tail = 0;
+        }
+    }
+
+    private void reset() {
+        v0 = key0 ^ 0x736f6d6570736575L;
+        v1 = key1 ^ 0x646f72616e646f6dL ^ 0xee;
+        v2 = key0 ^ 0x6c7967656e657261L;
+        v3 = key1 ^ 0x7465646279746573L;
+        tail = 0;
+        length = 0;
+    }
+
+    private void compress(long word) {
+        v3 ^= word;
+        round();
+        round();
+        v0 ^= word;
+    }
+
+    private void finish() {
+        compress(tail | (long) length << 56);
+
+        v2 ^= 0xee;
+        round();
+        round();
+        round();
+        round();
+        high = v0 ^ v1 ^ v2 ^ v3;
+
+        v1 ^= 0xdd;
+        round();
+        round();
+        round();
+        round();
+        low = v0 ^ v1 ^ v2 ^ v3;
+    }
+
+    private void round() {
+        v0 += v1;
+        v1 = Long.rotateLeft(v1, 13);
+        v1 ^= v0;
+        v0 = Long.rotateLeft(v0, 32);
+        v2 += v3;
+        v3 = Long.rotateLeft(v3, 16);
+        v3 ^= v2;
+        v0 += v3;
+        v3 = Long.rotateLeft(v3, 21);
+        v3 ^= v0;
+        v2 += v1;
+        v1 = Long.rotateLeft(v1, 17);
+        v1 ^= v2;
+        v2 = Long.rotateLeft(v2, 32);
+    }
+}
@@ -3,6 +3,7 @@ package org.prebid.server.validation;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.Asset;
 import com.iab.openrtb.request.Audio;
 import com.iab.openrtb.request.Banner;
@@ -95,6 +96,7 @@ public class RequestValidator {
     private final BidderCatalog bidderCatalog;
     private final BidderParamValidator bidderParamValidator;
     private final JacksonMapper mapper;
+    private final Map<String, String> validNativeRequests;
 
     /**
      * Constructs a RequestValidator that will use the BidderParamValidator passed in order to validate all critical
@@ -104,9 +106,26 @@ public class RequestValidator {
                             BidderParamValidator bidderParamValidator,
                             JacksonMapper mapper) {
 
+        this(bidderCatalog, bidderParamValidator, 0, mapper);
+    }
+
+    /**
+     * Constructs a RequestValidator same as {@link #RequestValidator(BidderCatalog, BidderParamValidator,
+     * JacksonMapper)} but additionally remembers up to nativeRequestCacheSize successfully validated
+     * imp[].native.request values, so the same native request is not parsed and encoded again.
+     * Zero cache size disables caching.
+     */
+    public RequestValidator(BidderCatalog bidderCatalog,
+                            BidderParamValidator bidderParamValidator,
+                            int nativeRequestCacheSize,
+                            JacksonMapper mapper) {
+
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
         this.bidderParamValidator = Objects.requireNonNull(bidderParamValidator);
         this.mapper = Objects.requireNonNull(mapper);
+        this.validNativeRequests = nativeRequestCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(nativeRequestCacheSize).<String, String>build().asMap()
+                : null;
     }
 
     /**
@@ -615,15 +634,30 @@ public class RequestValidator {
             return;
         }
 
-        final Request nativeRequest = parseNativeRequest(xNative.getRequest(), impIndex);
+        final String rawNativeRequest = xNative.getRequest();
+        final String cachedEncodedRequest = validNativeRequests != null && rawNativeRequest != null
+                ? validNativeRequests.get(rawNativeRequest)
+                : null;
+        if (cachedEncodedRequest != null) {
+            xNative.setRequest(cachedEncodedRequest);
+            return;
+        }
+
+        final Request nativeRequest = parseNativeRequest(rawNativeRequest, impIndex);
 
         validateNativeContextTypes(nativeRequest.getContext(), nativeRequest.getContextsubtype(), impIndex);
         validateNativePlacementType(nativeRequest.getPlcmttype(), impIndex);
         final List<Asset> updatedAssets = validateAndGetUpdatedNativeAssets(nativeRequest.getAssets(), impIndex);
         validateNativeEventTrackers(nativeRequest.getEventtrackers(), impIndex);
 
+        final String encodedRequest = toEncodedRequest(nativeRequest, updatedAssets);
+        if (validNativeRequests != null) {
+            // validation result doesn't depend on anything but the native request itself
+            validNativeRequests.put(rawNativeRequest, encodedRequest);
+        }
+
         // modifier was added to reduce memory consumption on updating bidRequest.imp[i].native.request object
-        xNative.setRequest(toEncodedRequest(nativeRequest, updatedAssets));
+        xNative.setRequest(encodedRequest);
     }
 
     private Request parseNativeRequest(String rawStringNativeRequest, int impIndex) throws ValidationException {
@@ -13,6 +13,12 @@ import java.util.Set;
 
 public class VastModifier {
 
+    private static final String IMPRESSION_OPEN_TAG = "<Impression>";
+    private static final String IMPRESSION_CLOSE_TAG = "</Impression>";
+    private static final String IMPRESSION_SELF_CLOSING_TAG = "<Impression/>";
+    private static final String CDATA_OPEN = "<![CDATA[";
+    private static final String CDATA_CLOSE = "]]>";
+
     private final BidderCatalog bidderCatalog;
     private final EventsService eventsService;
 
@@ -77,23 +83,47 @@ public class VastModifier {
                 : bidAdm;
     }
 
-    private String appendTrackingUrlToVastXml(String vastXml, String vastUrlTracking) {
-        final String closeTag = "</Impression>";
-        final int closeTagIndex = vastXml.indexOf(closeTag);
+    private static String appendTrackingUrlToVastXml(String vastXml, String vastUrlTracking) {
+        final int closeTagIndex = vastXml.indexOf(IMPRESSION_CLOSE_TAG);
 
-        // no impression tag - pass it as it is
+        // no impression tag - try self-closing one, otherwise pass it as it is
         if (closeTagIndex == -1) {
-            return vastXml;
+            final int selfClosingTagIndex = vastXml.indexOf(IMPRESSION_SELF_CLOSING_TAG);
+            return selfClosingTagIndex == -1
+                    ? vastXml
+                    : insertImpression(vastXml, selfClosingTagIndex,
+                    selfClosingTagIndex + IMPRESSION_SELF_CLOSING_TAG.length(), vastUrlTracking);
         }
 
-        final String impressionUrl = "<![CDATA[" + vastUrlTracking + "]]>";
-        final String openTag = "<Impression>";
-
         // empty impression tag - just insert the link
-        if (closeTagIndex - vastXml.indexOf(openTag) == openTag.length()) {
-            return vastXml.replaceFirst(openTag, openTag + impressionUrl);
+        final int openTagIndex = vastXml.indexOf(IMPRESSION_OPEN_TAG);
+        if (closeTagIndex - openTagIndex == IMPRESSION_OPEN_TAG.length()) {
+            return insertImpression(vastXml, openTagIndex, closeTagIndex + IMPRESSION_CLOSE_TAG.length(),
+                    vastUrlTracking);
         }
 
-        return vastXml.replaceFirst(closeTag, closeTag + openTag + impressionUrl + closeTag);
+        final int insertIndex = closeTagIndex + IMPRESSION_CLOSE_TAG.length();
+        return insertImpression(vastXml, insertIndex, insertIndex, vastUrlTracking);
+    }
+
+    /**
+     * Replaces the part of VAST XML between given indexes with impression tag containing tracking URL.
+     * <p>
+     * Uses single pre-sized buffer and plain string copying, so tracking URL is never treated as regex replacement.
+     */
+    private static String insertImpression(String vastXml, int fromIndex, int toIndex, String vastUrlTracking) {
+        final int length = vastXml.length() - (toIndex - fromIndex) + IMPRESSION_OPEN_TAG.length()
+                + CDATA_OPEN.length() + vastUrlTracking.length() + CDATA_CLOSE.length()
+                + IMPRESSION_CLOSE_TAG.length();
+
+        return new StringBuilder(length)
+                .append(vastXml, 0, fromIndex)
+                .append(IMPRESSION_OPEN_TAG)
+                .append(CDATA_OPEN)
+                .append(vastUrlTracking)
+                .append(CDATA_CLOSE)
+                .append(IMPRESSION_CLOSE_TAG)
+                .append(vastXml, toIndex, vastXml.length())
+                .toString();
     }
 }
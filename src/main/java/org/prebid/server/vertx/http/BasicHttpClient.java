@@ -7,6 +7,9 @@ import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpMethod;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
+import org.prebid.server.vertx.timer.DeadlineScheduler;
+import org.prebid.server.vertx.timer.DeadlineScheduler.Deadline;
+import org.prebid.server.vertx.timer.VertxDeadlineScheduler;
 
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
@@ -16,11 +19,15 @@ import java.util.concurrent.TimeoutException;
  */
 public class BasicHttpClient implements HttpClient {
 
-    private final Vertx vertx;
+    private final DeadlineScheduler deadlineScheduler;
     private final io.vertx.core.http.HttpClient httpClient;
 
     public BasicHttpClient(Vertx vertx, io.vertx.core.http.HttpClient httpClient) {
-        this.vertx = Objects.requireNonNull(vertx);
+        this(new VertxDeadlineScheduler(vertx), httpClient);
+    }
+
+    public BasicHttpClient(DeadlineScheduler deadlineScheduler, io.vertx.core.http.HttpClient httpClient) {
+        this.deadlineScheduler = Objects.requireNonNull(deadlineScheduler);
         this.httpClient = Objects.requireNonNull(httpClient);
     }
 
@@ -36,12 +43,13 @@ public class BasicHttpClient implements HttpClient {
 
             // Vert.x HttpClientRequest timeout doesn't aware of case when a part of the response body is received,
             // but remaining part is delayed. So, overall request/response timeout is involved to fix it.
-            final long timerId = vertx.setTimer(timeoutMs, id -> handleTimeout(promise, timeoutMs, httpClientRequest));
+            final Deadline deadline = deadlineScheduler.schedule(timeoutMs,
+                    () -> handleTimeout(promise, timeoutMs, httpClientRequest));
 
             httpClientRequest
                     .setFollowRedirects(true)
-                    .handler(response -> handleResponse(response, promise, timerId))
-                    .exceptionHandler(exception -> failResponse(exception, promise, timerId));
+                    .handler(response -> handleResponse(response, promise, deadline))
+                    .exceptionHandler(exception -> failResponse(exception, promise, deadline));
 
             if (headers != null) {
                 httpClientRequest.headers().addAll(headers);
@@ -71,21 +79,21 @@ public class BasicHttpClient implements HttpClient {
     }
 
     private void handleResponse(io.vertx.core.http.HttpClientResponse response,
-                                Promise<HttpClientResponse> promise, long timerId) {
+                                Promise<HttpClientResponse> promise, Deadline deadline) {
         response
-                .bodyHandler(buffer -> successResponse(buffer.toString(), response, promise, timerId))
-                .exceptionHandler(exception -> failResponse(exception, promise, timerId));
+                .bodyHandler(buffer -> successResponse(buffer.toString(), response, promise, deadline))
+                .exceptionHandler(exception -> failResponse(exception, promise, deadline));
     }
 
     private void successResponse(String body, io.vertx.core.http.HttpClientResponse response,
-                                 Promise<HttpClientResponse> promise, long timerId) {
-        vertx.cancelTimer(timerId);
+                                 Promise<HttpClientResponse> promise, Deadline deadline) {
+        deadline.cancel();
 
         promise.tryComplete(HttpClientResponse.of(response.statusCode(), response.headers(), body));
     }
 
-    private void failResponse(Throwable exception, Promise<HttpClientResponse> promise, long timerId) {
-        vertx.cancelTimer(timerId);
+    private void failResponse(Throwable exception, Promise<HttpClientResponse> promise, Deadline deadline) {
+        deadline.cancel();
 
         failResponse(exception, promise);
     }
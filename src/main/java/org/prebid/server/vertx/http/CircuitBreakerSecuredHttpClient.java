@@ -30,9 +30,12 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
     private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
     private static final int LOG_PERIOD_SECONDS = 5;
     private static final long IDLE_EXPIRE_DAYS = 3;
+    private static final int ORIGIN_NAMES_CACHE_SIZE = 1000;
+    private static final String SCHEME_SEPARATOR = "://";
 
     private final Function<String, CircuitBreaker> circuitBreakerCreator;
     private final Map<String, CircuitBreaker> circuitBreakerByName;
+    private final Map<String, String> nameByOrigin;
 
     private final HttpClient httpClient;
 
@@ -55,6 +58,11 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                 .build()
                 .asMap();
 
+        nameByOrigin = Caffeine.newBuilder()
+                .maximumSize(ORIGIN_NAMES_CACHE_SIZE)
+                .<String, String>build()
+                .asMap();
+
         metrics.createHttpClientCircuitBreakerNumberGauge(circuitBreakerByName::size);
 
         logger.info("Initialized HTTP client with Circuit Breaker");
@@ -116,7 +124,36 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
         logger.warn("Http client request to {0} becomes succeeded, circuit closed.", name);
     }
 
-    private static String nameFrom(String urlAsString) {
+    /**
+     * Returns circuit breaker name for the given URL.
+     * <p>
+     * Name depends only on scheme and authority parts of URL, so the full URL parsing is performed once per each
+     * distinct origin rather than on every request.
+     */
+    private String nameFrom(String urlAsString) {
+        final String origin = originFrom(urlAsString);
+        return origin != null
+                ? nameByOrigin.computeIfAbsent(origin, CircuitBreakerSecuredHttpClient::nameFromUrl)
+                : nameFromUrl(urlAsString);
+    }
+
+    private static String originFrom(String url) {
+        final int schemeEnd = url.indexOf(SCHEME_SEPARATOR);
+        if (schemeEnd == -1) {
+            return null;
+        }
+
+        final int authorityStart = schemeEnd + SCHEME_SEPARATOR.length();
+        for (int i = authorityStart; i < url.length(); i++) {
+            final char c = url.charAt(i);
+            if (c == '/' || c == '?' || c == '#') {
+                return url.substring(0, i);
+            }
+        }
+        return url;
+    }
+
+    private static String nameFromUrl(String urlAsString) {
         final URL url = parseUrl(urlAsString);
         return url.getProtocol() + "://" + url.getHost() + (url.getPort() != -1 ? ":" + url.getPort() : "");
     }
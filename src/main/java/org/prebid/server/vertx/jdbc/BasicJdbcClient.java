@@ -12,6 +12,9 @@ import io.vertx.ext.sql.ResultSet;
 import io.vertx.ext.sql.SQLConnection;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.timer.DeadlineScheduler;
+import org.prebid.server.vertx.timer.DeadlineScheduler.Deadline;
+import org.prebid.server.vertx.timer.VertxDeadlineScheduler;
 
 import java.time.Clock;
 import java.util.List;
@@ -26,13 +29,17 @@ public class BasicJdbcClient implements JdbcClient {
 
     private static final Logger logger = LoggerFactory.getLogger(BasicJdbcClient.class);
 
-    private final Vertx vertx;
+    private final DeadlineScheduler deadlineScheduler;
     private final JDBCClient jdbcClient;
     private final Metrics metrics;
     private final Clock clock;
 
     public BasicJdbcClient(Vertx vertx, JDBCClient jdbcClient, Metrics metrics, Clock clock) {
-        this.vertx = Objects.requireNonNull(vertx);
+        this(new VertxDeadlineScheduler(vertx), jdbcClient, metrics, clock);
+    }
+
+    public BasicJdbcClient(DeadlineScheduler deadlineScheduler, JDBCClient jdbcClient, Metrics metrics, Clock clock) {
+        this.deadlineScheduler = Objects.requireNonNull(deadlineScheduler);
         this.jdbcClient = Objects.requireNonNull(jdbcClient);
         this.metrics = Objects.requireNonNull(metrics);
         this.clock = Objects.requireNonNull(clock);
@@ -64,14 +71,15 @@ public class BasicJdbcClient implements JdbcClient {
 
         // timeout implementation is inspired by this answer:
         // https://groups.google.com/d/msg/vertx/eSf3AQagGGU/K7pztnjLc_EJ
-        final long timerId = vertx.setTimer(remainingTimeout, id -> timedOutResult(queryResultPromise, startTime));
+        final Deadline deadline = deadlineScheduler.schedule(remainingTimeout,
+                () -> timedOutResult(queryResultPromise, startTime));
 
         final Promise<SQLConnection> connectionPromise = Promise.promise();
         jdbcClient.getConnection(connectionPromise);
         connectionPromise.future()
                 .recover(BasicJdbcClient::logConnectionError)
                 .compose(connection -> makeQuery(connection, query, params))
-                .setHandler(result -> handleResult(result, queryResultPromise, timerId, startTime));
+                .setHandler(result -> handleResult(result, queryResultPromise, deadline, startTime));
 
         return queryResultPromise.future().map(mapper);
     }
@@ -109,9 +117,9 @@ public class BasicJdbcClient implements JdbcClient {
      * Propagates responded {@link ResultSet} (or failure) to result {@link Promise}.
      */
     private void handleResult(
-            AsyncResult<ResultSet> result, Promise<ResultSet> queryResultPromise, long timerId, long startTime) {
+            AsyncResult<ResultSet> result, Promise<ResultSet> queryResultPromise, Deadline deadline, long startTime) {
 
-        vertx.cancelTimer(timerId);
+        deadline.cancel();
 
         // check is to avoid harmless exception if timeout exceeds before successful result becomes ready
         if (!queryResultPromise.future().isComplete()) {
@@ -0,0 +1,20 @@
+package org.prebid.server.vertx.timer;
+
+/**
+ * Schedules deadlines of outgoing requests: short one-shot timers which are cancelled in most cases because request
+ * completes in time.
+ * <p>
+ * Handler is run on the event loop thread of the caller.
+ */
+public interface DeadlineScheduler {
+
+    Deadline schedule(long delayMs, Runnable handler);
+
+    interface Deadline {
+
+        /**
+         * Prevents handler from being run, has no effect if it was already run.
+         */
+        void cancel();
+    }
+}
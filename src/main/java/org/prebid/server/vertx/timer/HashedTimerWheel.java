@@ -0,0 +1,166 @@
+package org.prebid.server.vertx.timer;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashed timer wheel: deadlines are put into a ring of buckets by their expiration tick, so scheduling and
+ * cancellation are O(1) and each tick only looks at one bucket. Deadlines further than one turn of the wheel stay in
+ * their bucket until the tick they expire at.
+ * <p>
+ * Not thread-safe, must be used from a single thread. Time is passed explicitly to make it testable.
+ */
+class HashedTimerWheel {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedTimerWheel.class);
+
+    private final long tickNanos;
+    private final long startNanos;
+    private final Entry[] buckets;
+    private final int mask;
+
+    private long currentTick;
+    private int size;
+
+    HashedTimerWheel(long tickMs, int wheelSize, long nowNanos) {
+        if (tickMs <= 0) {
+            throw new IllegalArgumentException("Tick duration should be positive");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size should be a power of two");
+        }
+
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMs);
+        this.startNanos = nowNanos;
+        this.buckets = new Entry[wheelSize];
+        this.mask = wheelSize - 1;
+    }
+
+    /**
+     * Schedules handler to be run by {@link #advance(long)} not earlier than given delay.
+     */
+    Entry schedule(long delayMs, Runnable handler, long nowNanos) {
+        final long deadlineNanos = nowNanos - startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(delayMs, 0));
+        // round up to not expire earlier than requested
+        final long deadlineTick = Math.max((deadlineNanos + tickNanos - 1) / tickNanos, currentTick + 1);
+
+        final Entry entry = new Entry(deadlineTick, handler);
+        link(entry);
+        return entry;
+    }
+
+    /**
+     * Runs handlers of all deadlines expired by the given time.
+     */
+    void advance(long nowNanos) {
+        final long targetTick = (nowNanos - startNanos) / tickNanos;
+        if (targetTick - currentTick > buckets.length) {
+            // every bucket is visited once within the last turn, older deadlines are expired there as well
+            currentTick = targetTick - buckets.length;
+        }
+
+        List<Entry> expired = null;
+        while (currentTick < targetTick) {
+            currentTick++;
+            expired = collectExpired(buckets[(int) (currentTick & mask)], expired);
+        }
+
+        if (expired != null) {
+            expired.forEach(HashedTimerWheel::run);
+        }
+    }
+
+    private List<Entry> collectExpired(Entry head, List<Entry> expired) {
+        List<Entry> result = expired;
+        Entry entry = head;
+        while (entry != null) {
+            final Entry next = entry.next;
+            if (entry.deadlineTick <= currentTick) {
+                unlink(entry);
+                if (result == null) {
+                    result = new ArrayList<>();
+                }
+                result.add(entry);
+            }
+            entry = next;
+        }
+        return result;
+    }
+
+    private static void run(Entry entry) {
+        final Runnable handler = entry.handler;
+        if (handler != null) {
+            entry.handler = null;
+            try {
+                handler.run();
+            } catch (Exception e) {
+                logger.error("Deadline handler failed", e);
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void link(Entry entry) {
+        final int index = (int) (entry.deadlineTick & mask);
+        final Entry head = buckets[index];
+        entry.next = head;
+        if (head != null) {
+            head.prev = entry;
+        }
+        buckets[index] = entry;
+        entry.linked = true;
+        size++;
+    }
+
+    private void unlink(Entry entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            buckets[(int) (entry.deadlineTick & mask)] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+        entry.linked = false;
+        size--;
+    }
+
+    class Entry implements DeadlineScheduler.Deadline {
+
+        private final long deadlineTick;
+
+        private Runnable handler;
+
+        private Entry prev;
+
+        private Entry next;
+
+        private boolean linked;
+
+        Entry(long deadlineTick, Runnable handler) {
+            this.deadlineTick = deadlineTick;
+            this.handler = handler;
+        }
+
+        @Override
+        public void cancel() {
+            handler = null;
+            if (linked) {
+                unlink(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.prebid.server.vertx.timer;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import java.util.Objects;
+
+/**
+ * {@link DeadlineScheduler} keeping deadlines in a {@link HashedTimerWheel} per event loop thread.
+ * <p>
+ * Instead of a Vert.x timer per deadline each event loop has one periodic timer ticking the wheel, which is running
+ * only while there are pending deadlines. Deadlines scheduled outside of event loop threads fall back to Vert.x
+ * timers.
+ */
+public class TimerWheelDeadlineScheduler implements DeadlineScheduler {
+
+    private final Vertx vertx;
+    private final long tickMs;
+    private final int wheelSize;
+    private final DeadlineScheduler fallbackScheduler;
+
+    private final ThreadLocal<WheelDriver> wheelDrivers = new ThreadLocal<>();
+
+    public TimerWheelDeadlineScheduler(Vertx vertx, long tickMs, int wheelSize) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.fallbackScheduler = new VertxDeadlineScheduler(vertx);
+    }
+
+    @Override
+    public Deadline schedule(long delayMs, Runnable handler) {
+        if (!Context.isOnEventLoopThread()) {
+            return fallbackScheduler.schedule(delayMs, handler);
+        }
+
+        WheelDriver wheelDriver = wheelDrivers.get();
+        if (wheelDriver == null) {
+            wheelDriver = new WheelDriver(new HashedTimerWheel(tickMs, wheelSize, System.nanoTime()));
+            wheelDrivers.set(wheelDriver);
+        }
+        return wheelDriver.schedule(delayMs, handler);
+    }
+
+    /**
+     * Ticks the wheel of a single event loop with a periodic timer set on the context of this event loop.
+     */
+    private class WheelDriver {
+
+        private final HashedTimerWheel wheel;
+
+        private long timerId = -1;
+
+        WheelDriver(HashedTimerWheel wheel) {
+            this.wheel = wheel;
+        }
+
+        Deadline schedule(long delayMs, Runnable handler) {
+            final Deadline deadline = wheel.schedule(delayMs, handler, System.nanoTime());
+            if (timerId == -1) {
+                timerId = vertx.setPeriodic(tickMs, ignored -> tick());
+            }
+            return deadline;
+        }
+
+        private void tick() {
+            wheel.advance(System.nanoTime());
+            if (wheel.isEmpty()) {
+                vertx.cancelTimer(timerId);
+                timerId = -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.prebid.server.vertx.timer;
+
+import io.vertx.core.Vertx;
+
+import java.util.Objects;
+
+/**
+ * {@link DeadlineScheduler} backed by Vert.x timers.
+ */
+public class VertxDeadlineScheduler implements DeadlineScheduler {
+
+    private final Vertx vertx;
+
+    public VertxDeadlineScheduler(Vertx vertx) {
+        this.vertx = Objects.requireNonNull(vertx);
+    }
+
+    @Override
+    public Deadline schedule(long delayMs, Runnable handler) {
+        final long timerId = vertx.setTimer(delayMs, ignored -> handler.run());
+        return () -> vertx.cancelTimer(timerId);
+    }
+}
@@ -27,6 +27,8 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageClock;
 import org.prebid.server.auction.model.BidInfo;
 import org.prebid.server.auction.model.BidRequestCacheInfo;
 import org.prebid.server.auction.model.BidderResponse;
@@ -168,6 +170,7 @@ public class BidResponseCreatorTest extends VertxTest {
                 winningBidComparator,
                 idGenerator,
                 0,
+                true,
                 clock,
                 jacksonMapper);
 
@@ -1079,6 +1082,7 @@ public class BidResponseCreatorTest extends VertxTest {
                 winningBidComparator,
                 idGenerator,
                 20,
+                true,
                 clock,
                 jacksonMapper);
 
@@ -2137,6 +2141,34 @@ public class BidResponseCreatorTest extends VertxTest {
                         ExtBidResponsePrebid.of(1000L))));
     }
 
+    @Test
+    public void shouldPopulateResponseDebugExtensionWithStageTimesIfStagesAreTimed() throws JsonProcessingException {
+        // given
+        final AuctionStageClock stageClock = AuctionStageClock.start();
+        stageClock.mark(AuctionStage.request_parsing);
+        stageClock.mark(AuctionStage.bidder_responses);
+
+        final AuctionContext auctionContext = givenAuctionContext(
+                givenBidRequest(givenImp()),
+                builder -> builder.debugWarnings(emptyList()).stageClock(stageClock));
+        givenCacheServiceResult(emptyMap());
+
+        final BidRequestCacheInfo cacheInfo = BidRequestCacheInfo.builder().doCaching(true).build();
+
+        final Bid bid = Bid.builder().id("bidId1").impid(IMP_ID).price(BigDecimal.valueOf(5.67)).build();
+        final List<BidderResponse> bidderResponses = singletonList(BidderResponse.of("bidder1",
+                givenSeatBid(BidderBid.of(bid, banner, null)), 100));
+
+        // when
+        final BidResponse bidResponse =
+                bidResponseCreator.create(bidderResponses, auctionContext, cacheInfo, MULTI_BIDS, true).result();
+
+        // then
+        final ExtBidResponse responseExt = mapper.treeToValue(bidResponse.getExt(), ExtBidResponse.class);
+        assertThat(responseExt.getDebug().getStagetimesmicros()).containsOnlyKeys(
+                "request_parsing", "bidder_responses", "response_creation", "prebid_cache");
+    }
+
     @Test
     public void shouldPopulateResponseDebugExtensionAndWarningsIfDebugIsEnabled() throws JsonProcessingException {
         // given
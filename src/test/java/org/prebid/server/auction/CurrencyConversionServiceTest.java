@@ -199,6 +199,21 @@ public class CurrencyConversionServiceTest extends VertxTest {
         assertThat(price.compareTo(BigDecimal.valueOf(2.460))).isEqualTo(0);
     }
 
+    @Test
+    public void convertCurrencyShouldReturnConvertedByIntermediateMultiplierWithReverseRatePrice() {
+        // given
+        final Map<String, Map<String, BigDecimal>> requestConversionRates = new HashMap<>();
+        requestConversionRates.put(USD, singletonMap(EUR, BigDecimal.valueOf(0.8)));
+        requestConversionRates.put(EUR, singletonMap(GBP, BigDecimal.valueOf(0.9)));
+
+        // when
+        final BigDecimal price = currencyService.convertCurrency(BigDecimal.ONE,
+                givenBidRequestWithCurrencies(requestConversionRates, false), USD, GBP);
+
+        // then
+        assertThat(price.compareTo(BigDecimal.valueOf(1.389))).isEqualTo(0);
+    }
+
     @Test
     public void convertCurrencyShouldUseLatestRatesIfRequestRatesIsNull() {
         // when
@@ -206,7 +221,7 @@ public class CurrencyConversionServiceTest extends VertxTest {
                 BigDecimal.ONE, givenBidRequestWithCurrencies(null, false), EUR, GBP);
 
         // then
-        assertThat(price.compareTo(BigDecimal.valueOf(1.149))).isEqualTo(0);
+        assertThat(price.compareTo(BigDecimal.valueOf(1.150))).isEqualTo(0);
     }
 
     @Test
@@ -220,7 +235,7 @@ public class CurrencyConversionServiceTest extends VertxTest {
                 givenBidRequestWithCurrencies(requestConversionRates, true), EUR, GBP);
 
         // then
-        assertThat(price.compareTo(BigDecimal.valueOf(1.149))).isEqualTo(0);
+        assertThat(price.compareTo(BigDecimal.valueOf(1.150))).isEqualTo(0);
     }
 
     @Test
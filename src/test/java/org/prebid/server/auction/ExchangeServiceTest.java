@@ -36,6 +36,7 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStageClock;
 import org.prebid.server.auction.model.BidRequestCacheInfo;
 import org.prebid.server.auction.model.BidderPrivacyResult;
 import org.prebid.server.auction.model.BidderRequest;
@@ -57,6 +58,7 @@ import org.prebid.server.execution.Timeout;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.overload.OverloadController;
 import org.prebid.server.proto.openrtb.ext.ExtPrebid;
 import org.prebid.server.proto.openrtb.ext.request.BidAdjustmentMediaType;
 import org.prebid.server.proto.openrtb.ext.request.ExtApp;
@@ -122,6 +124,7 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -133,6 +136,7 @@ import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -166,6 +170,8 @@ public class ExchangeServiceTest extends VertxTest {
     @Spy
     private BidResponsePostProcessor.NoOpBidResponsePostProcessor bidResponsePostProcessor;
     @Mock
+    private OverloadController overloadController;
+    @Mock
     private Metrics metrics;
     @Mock
     private UidsCookie uidsCookie;
@@ -232,6 +238,7 @@ public class ExchangeServiceTest extends VertxTest {
                 currencyService,
                 bidResponseCreator,
                 bidResponsePostProcessor,
+                overloadController,
                 metrics,
                 clock,
                 jacksonMapper);
@@ -252,6 +259,7 @@ public class ExchangeServiceTest extends VertxTest {
                         currencyService,
                         bidResponseCreator,
                         bidResponsePostProcessor,
+                        overloadController,
                         metrics,
                         clock,
                         jacksonMapper));
@@ -1312,6 +1320,40 @@ public class ExchangeServiceTest extends VertxTest {
                         mapper.createObjectNode().put("data", "data").put("otherField", "value"));
     }
 
+    @Test
+    public void shouldPassImpExtPrebidWithoutBidderParamsToEachBidderAsSeparateCopy() {
+        // given
+        givenBidder("bidder1", mock(Bidder.class), givenEmptySeatBid());
+        givenBidder("bidder2", mock(Bidder.class), givenEmptySeatBid());
+
+        final ObjectNode impExt = mapper.createObjectNode()
+                .set("prebid", mapper.createObjectNode()
+                        .<ObjectNode>set("storedrequest", mapper.createObjectNode().put("id", "storedRequestId"))
+                        .set("bidder", mapper.createObjectNode()
+                                .put("bidder1", 1)
+                                .put("bidder2", 2)));
+        final BidRequest bidRequest = givenBidRequest(
+                singletonList(Imp.builder().id("impId").ext(impExt).build()),
+                identity());
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpBidderRequester, times(2)).requestBids(any(), bidderRequestCaptor.capture(), any(), anyBoolean());
+        final List<JsonNode> impExtPrebids = bidderRequestCaptor.getAllValues().stream()
+                .map(BidderRequest::getBidRequest)
+                .flatMap(request -> request.getImp().stream())
+                .map(imp -> imp.getExt().get("prebid"))
+                .collect(Collectors.toList());
+
+        final ObjectNode expectedImpExtPrebid = mapper.createObjectNode()
+                .set("storedrequest", mapper.createObjectNode().put("id", "storedRequestId"));
+        assertThat(impExtPrebids).containsOnly(expectedImpExtPrebid, expectedImpExtPrebid);
+        assertThat(impExtPrebids.get(0)).isNotSameAs(impExtPrebids.get(1));
+    }
+
     @Test
     public void shouldPassImpExtFieldsToEachImpression() {
         // given
@@ -2087,6 +2129,7 @@ public class ExchangeServiceTest extends VertxTest {
                 currencyService,
                 bidResponseCreator,
                 bidResponsePostProcessor,
+                overloadController,
                 metrics,
                 clock,
                 jacksonMapper);
@@ -2453,6 +2496,104 @@ public class ExchangeServiceTest extends VertxTest {
         verify(metrics).updateAdapterBidMetrics(eq("someBidder"), eq("accountId"), eq(10000L), eq(false), eq("banner"));
     }
 
+    @Test
+    public void shouldUpdateAuctionStageMetricsIfStagesAreTimed() {
+        // given
+        given(httpBidderRequester.requestBids(any(), any(), any(), anyBoolean()))
+                .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
+                        givenBid(Bid.builder().price(TEN).build())))));
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)));
+        final AuctionContext auctionContext = givenRequestContext(bidRequest).toBuilder()
+                .stageClock(AuctionStageClock.start())
+                .build();
+
+        // when
+        exchangeService.holdAuction(auctionContext);
+
+        // then
+        verify(metrics).updateAuctionStageTimeMetric(eq(MetricName.openrtb2web), eq(MetricName.bidder_requests),
+                anyLong());
+        verify(metrics).updateAuctionStageTimeMetric(eq(MetricName.openrtb2web), eq(MetricName.bidder_responses),
+                anyLong());
+    }
+
+    @Test
+    public void shouldNotUpdateAuctionStageMetricsIfStagesAreNotTimed() {
+        // given
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(metrics, never()).updateAuctionStageTimeMetric(any(), any(), anyLong());
+    }
+
+    @Test
+    public void shouldSkipDebugBidsCachingAndLowPriorityBiddersIfDegraded() {
+        // given
+        given(overloadController.shouldDegrade(any(), any())).willReturn(true);
+        given(overloadController.isLowPriorityBidder("bidder2")).willReturn(true);
+
+        givenBidder("bidder1", mock(Bidder.class), givenEmptySeatBid());
+        givenBidder("bidder2", mock(Bidder.class), givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(doubleMap("bidder1", 1, "bidder2", 2)),
+                builder -> builder.test(1).ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .targeting(givenTargeting(true))
+                        .cache(ExtRequestPrebidCache.of(ExtRequestPrebidCacheBids.of(53, true),
+                                ExtRequestPrebidCacheVastxml.of(34, true), null))
+                        .build())));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        final BidRequestCacheInfo expectedCacheInfo = BidRequestCacheInfo.builder()
+                .doCaching(true)
+                .shouldCacheVideoBids(true)
+                .cacheVideoBidsTtl(34)
+                .returnCreativeVideoBids(true)
+                .build();
+        verify(bidResponseCreator).create(anyList(), any(), eq(expectedCacheInfo), any(), eq(false));
+        verify(httpBidderRequester).requestBids(any(), argThat(request -> request.getBidder().equals("bidder1")),
+                any(), eq(false));
+        verifyNoMoreInteractions(httpBidderRequester);
+        verify(metrics).updateOverloadDegradedMetric(MetricName.openrtb2web);
+        verify(overloadController).bidderRequestStarted();
+        verify(overloadController).bidderRequestFinished();
+    }
+
+    @Test
+    public void shouldKeepBidsCachingForAmpRequestIfDegraded() {
+        // given
+        given(overloadController.shouldDegrade(any(), any())).willReturn(true);
+
+        givenBidder(givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 1)),
+                builder -> builder.ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .targeting(givenTargeting(true))
+                        .cache(ExtRequestPrebidCache.of(ExtRequestPrebidCacheBids.of(53, true), null, null))
+                        .build())));
+        final AuctionContext auctionContext = givenRequestContext(bidRequest).toBuilder()
+                .requestTypeMetric(MetricName.amp)
+                .build();
+
+        // when
+        exchangeService.holdAuction(auctionContext);
+
+        // then
+        final BidRequestCacheInfo expectedCacheInfo = BidRequestCacheInfo.builder()
+                .doCaching(true)
+                .shouldCacheBids(true)
+                .cacheBidsTtl(53)
+                .returnCreativeBids(true)
+                .build();
+        verify(bidResponseCreator).create(anyList(), any(), eq(expectedCacheInfo), any(), eq(false));
+    }
+
     @Test
     public void shouldCallUpdateCookieMetricsWithExpectedValue() {
         // given
@@ -1,9 +1,19 @@
 package org.prebid.server.auction;
 
+import inet.ipaddr.AddressStringException;
+import inet.ipaddr.IPAddress;
+import inet.ipaddr.IPAddressString;
+import inet.ipaddr.IPAddressStringParameters;
+import org.apache.http.conn.util.InetAddressUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.prebid.server.auction.model.IpAddress;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -12,11 +22,17 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 
 public class IpAddressHelperTest {
 
+    private static final List<String> LOCAL_NETWORKS = asList("::1/128", "fc00::/7", "fe80::/10", "2001:db8::/32");
+
+    private static final int[] SPECIAL_IPV4_FIRST_OCTETS = {0, 10, 127, 169, 172, 192, 224, 239, 240, 255};
+
+    private static final int[] SPECIAL_IPV6_FIRST_GROUPS = {0, 0x2001, 0xfc00, 0xfdff, 0xfe80, 0xfec0, 0xff00, 0xffff};
+
     private IpAddressHelper ipAddressHelper;
 
     @Before
     public void setUp() {
-        ipAddressHelper = new IpAddressHelper(64, 56, asList("::1/128", "fc00::/7", "fe80::/10"));
+        ipAddressHelper = new IpAddressHelper(64, 56, LOCAL_NETWORKS);
     }
 
     @Test
@@ -138,4 +154,160 @@ public class IpAddressHelperTest {
         assertThat(ipAddressHelper.toIpAddress("2001:1db8:85a3:a5b7:0000:8a2e:0370:7334"))
                 .isEqualTo(IpAddress.of("2001:1db8:85a3:a5b7::", IpAddress.IP.v6));
     }
+
+    @Test
+    public void toIpAddressShouldReturnNullIfIpIsInConfiguredLocalNetwork() {
+        assertThat(ipAddressHelper.toIpAddress("2001:db8::1")).isNull();
+        assertThat(ipAddressHelper.toIpAddress("2001:db9::1"))
+                .isEqualTo(IpAddress.of("2001:db9::", IpAddress.IP.v6));
+    }
+
+    @Test
+    public void toIpAddressShouldFallBackToLibraryForUncommonNotations() {
+        assertThat(ipAddressHelper.toIpAddress("010.2.3.4")).isEqualTo(IpAddress.of("010.2.3.4", IpAddress.IP.v4));
+        assertThat(ipAddressHelper.toIpAddress("::ffff:1.2.3.4"))
+                .isEqualTo(IpAddress.of("::", IpAddress.IP.v6));
+        assertThat(ipAddressHelper.toIpAddress("1:2:3:4:5:6:7:8:9")).isNull();
+    }
+
+    @Test
+    public void toIpAddressShouldReturnSameIpInstanceIfMaskingDoesNotChangeIt() {
+        // given
+        final String ip = "2001:1db8:85a3:a5b7::";
+
+        // when and then
+        assertThat(ipAddressHelper.toIpAddress(ip).getIp()).isSameAs(ip);
+    }
+
+    @Test
+    public void maskIpv4ShouldReturnSameIpInstanceIfLastOctetIsZero() {
+        // given
+        final String ip = "192.168.34.0";
+
+        // when and then
+        assertThat(ipAddressHelper.maskIpv4(ip)).isSameAs(ip);
+    }
+
+    @Test
+    public void shouldProduceSameResultsAsIpAddressLibraryForRandomIpv4Addresses() {
+        // given
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            final String ip = randomIpv4(random);
+
+            // when and then
+            assertThat(ipAddressHelper.toIpAddress(ip)).as(ip).isEqualTo(toIpAddressByLibrary(ip));
+            assertThat(ipAddressHelper.maskIpv4(ip)).as(ip).isEqualTo(maskIpv4ByLibrary(ip));
+            assertThat(ipAddressHelper.anonymizeIpv6(ip)).as(ip).isEqualTo(anonymizeIpv6ByLibrary(ip));
+        }
+    }
+
+    @Test
+    public void shouldProduceSameResultsAsIpAddressLibraryForRandomIpv6Addresses() {
+        // given
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            final String ip = randomIpv6(random);
+
+            // when and then
+            assertThat(ipAddressHelper.toIpAddress(ip)).as(ip).isEqualTo(toIpAddressByLibrary(ip));
+            assertThat(ipAddressHelper.anonymizeIpv6(ip)).as(ip).isEqualTo(anonymizeIpv6ByLibrary(ip));
+        }
+    }
+
+    private static String randomIpv4(Random random) {
+        final StringBuilder ip = new StringBuilder();
+        for (int octet = 0; octet < 4; octet++) {
+            if (octet > 0) {
+                ip.append('.');
+            }
+
+            final int value = octet == 0 && random.nextBoolean()
+                    ? SPECIAL_IPV4_FIRST_OCTETS[random.nextInt(SPECIAL_IPV4_FIRST_OCTETS.length)]
+                    : random.nextInt(random.nextInt(20) == 0 ? 300 : 256);
+            // leading zeros and invalid characters are occasionally added to cover fallback
+            if (random.nextInt(50) == 0) {
+                ip.append('0');
+            }
+            ip.append(value);
+            if (random.nextInt(500) == 0) {
+                ip.append('x');
+            }
+        }
+        return ip.toString();
+    }
+
+    private static String randomIpv6(Random random) {
+        final int[] groups = new int[8];
+        for (int i = 0; i < 8; i++) {
+            groups[i] = random.nextInt(3) == 0 ? 0 : random.nextInt(random.nextBoolean() ? 0x10 : 0x10000);
+        }
+        if (random.nextBoolean()) {
+            groups[0] = SPECIAL_IPV6_FIRST_GROUPS[random.nextInt(SPECIAL_IPV6_FIRST_GROUPS.length)];
+            if (random.nextBoolean()) {
+                groups[1] = 0xdb8;
+            }
+        }
+
+        final List<String> texts = Arrays.stream(groups)
+                .mapToObj(group -> random.nextInt(10) == 0 ? String.format("%04x", group) : Integer.toHexString(group))
+                .map(group -> random.nextInt(10) == 0 ? group.toUpperCase() : group)
+                .collect(Collectors.toList());
+
+        // random run of groups, regardless of their values, is compressed to cover invalid inputs too
+        final String ip;
+        if (random.nextBoolean()) {
+            final int from = random.nextInt(8);
+            final int to = from + random.nextInt(8 - from) + 1;
+            ip = String.join(":", texts.subList(0, from)) + "::" + String.join(":", texts.subList(to, 8));
+        } else {
+            ip = String.join(":", texts);
+        }
+
+        return random.nextInt(100) == 0 ? ip + "/64" : ip;
+    }
+
+    private static IpAddress toIpAddressByLibrary(String ip) {
+        final IPAddressStringParameters options = IPAddressString.DEFAULT_VALIDATION_OPTIONS.toBuilder()
+                .allowSingleSegment(false)
+                .allowEmpty(false)
+                .toParams();
+        final IPAddress address;
+        try {
+            address = new IPAddressString(ip, options).toAddress();
+        } catch (AddressStringException e) {
+            return null;
+        }
+
+        final boolean isPublic = !address.isLocal() && !address.isLoopback() && !address.isMulticast()
+                && !address.isMax() && LOCAL_NETWORKS.stream()
+                .map(network -> new IPAddressString(network).getAddress())
+                .noneMatch(network -> network.contains(address));
+        if (!isPublic) {
+            return null;
+        }
+
+        return address.isIPv4()
+                ? IpAddress.of(ip, IpAddress.IP.v4)
+                : IpAddress.of(address.mask(new IPAddressString("::/64").getAddress().getNetworkMask())
+                .toCanonicalString(), IpAddress.IP.v6);
+    }
+
+    private static String anonymizeIpv6ByLibrary(String ip) {
+        final IPAddressString ipAddressString = new IPAddressString(ip);
+        try {
+            return ipAddressString.isIPv6()
+                    ? ipAddressString.toAddress().mask(new IPAddressString("::/56").getAddress().getNetworkMask())
+                    .toCanonicalString()
+                    : null;
+        } catch (AddressStringException e) {
+            return null;
+        }
+    }
+
+    private static String maskIpv4ByLibrary(String ip) {
+        return InetAddressUtils.isIPv4Address(ip) ? ip.substring(0, ip.lastIndexOf('.')) + ".0" : ip;
+    }
 }
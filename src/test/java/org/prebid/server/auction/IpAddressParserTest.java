@@ -0,0 +1,89 @@
+package org.prebid.server.auction;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IpAddressParserTest {
+
+    @Test
+    public void parseIpv4ShouldReturnAddressAsUnsignedValue() {
+        assertThat(IpAddressParser.parseIpv4("0.0.0.0")).isZero();
+        assertThat(IpAddressParser.parseIpv4("1.2.3.4")).isEqualTo(0x01020304L);
+        assertThat(IpAddressParser.parseIpv4("255.255.255.255")).isEqualTo(0xffffffffL);
+    }
+
+    @Test
+    public void parseIpv4ShouldNotParseUncommonOrInvalidNotations() {
+        assertThat(IpAddressParser.parseIpv4(null)).isEqualTo(IpAddressParser.NOT_PARSED);
+        assertThat(IpAddressParser.parseIpv4("010.2.3.4")).isEqualTo(IpAddressParser.NOT_PARSED);
+        assertThat(IpAddressParser.parseIpv4("1.2.3")).isEqualTo(IpAddressParser.NOT_PARSED);
+        assertThat(IpAddressParser.parseIpv4("1.2.3.4.5")).isEqualTo(IpAddressParser.NOT_PARSED);
+        assertThat(IpAddressParser.parseIpv4("1.2.3.256")).isEqualTo(IpAddressParser.NOT_PARSED);
+        assertThat(IpAddressParser.parseIpv4("1..3.4")).isEqualTo(IpAddressParser.NOT_PARSED);
+        assertThat(IpAddressParser.parseIpv4(" 1.2.3.4")).isEqualTo(IpAddressParser.NOT_PARSED);
+    }
+
+    @Test
+    public void parseIpv6ShouldParseFullAndCompressedNotations() {
+        // given
+        final long[] words = new long[2];
+
+        // when and then
+        assertThat(IpAddressParser.parseIpv6("1:2:3:4:5:6:7:8", words)).isTrue();
+        assertThat(words).containsExactly(0x0001000200030004L, 0x0005000600070008L);
+
+        assertThat(IpAddressParser.parseIpv6("::", words)).isTrue();
+        assertThat(words).containsExactly(0L, 0L);
+
+        assertThat(IpAddressParser.parseIpv6("FE80::1", words)).isTrue();
+        assertThat(words).containsExactly(0xfe80000000000000L, 1L);
+
+        assertThat(IpAddressParser.parseIpv6("1:2:3:4:5::", words)).isTrue();
+        assertThat(words).containsExactly(0x0001000200030004L, 0x0005000000000000L);
+
+        assertThat(IpAddressParser.parseIpv6("::2:3:4:5:6:7:8", words)).isTrue();
+        assertThat(words).containsExactly(0x0000000200030004L, 0x0005000600070008L);
+    }
+
+    @Test
+    public void parseIpv6ShouldNotParseUncommonOrInvalidNotations() {
+        // given
+        final long[] words = new long[2];
+
+        // when and then
+        assertThat(IpAddressParser.parseIpv6(null, words)).isFalse();
+        assertThat(IpAddressParser.parseIpv6("1:2:3:4:5:6:7", words)).isFalse();
+        assertThat(IpAddressParser.parseIpv6("1:2:3:4::5:6:7:8", words)).isFalse();
+        assertThat(IpAddressParser.parseIpv6("1::2::3", words)).isFalse();
+        assertThat(IpAddressParser.parseIpv6("1:::2", words)).isFalse();
+        assertThat(IpAddressParser.parseIpv6(":1::", words)).isFalse();
+        assertThat(IpAddressParser.parseIpv6("12345::", words)).isFalse();
+        assertThat(IpAddressParser.parseIpv6("::ffff:1.2.3.4", words)).isFalse();
+        assertThat(IpAddressParser.parseIpv6("fe80::1%eth0", words)).isFalse();
+        assertThat(IpAddressParser.parseIpv6("ff00::/8", words)).isFalse();
+    }
+
+    @Test
+    public void toCanonicalIpv6ShouldCompressFirstLongestRunOfZeroGroups() {
+        assertThat(IpAddressParser.toCanonicalIpv6(0L, 0L, null)).isEqualTo("::");
+        assertThat(IpAddressParser.toCanonicalIpv6(0L, 1L, null)).isEqualTo("::1");
+        assertThat(IpAddressParser.toCanonicalIpv6(0x0001000000000000L, 0L, null)).isEqualTo("1::");
+        assertThat(IpAddressParser.toCanonicalIpv6(0x0001000000000002L, 0x0000000000000003L, null))
+                .isEqualTo("1:0:0:2::3");
+        assertThat(IpAddressParser.toCanonicalIpv6(0x0001000000000002L, 0x0000000000030004L, null))
+                .isEqualTo("1::2:0:0:3:4");
+        assertThat(IpAddressParser.toCanonicalIpv6(0x0001000000020003L, 0x0004000500060007L, null))
+                .isEqualTo("1:0:2:3:4:5:6:7");
+    }
+
+    @Test
+    public void toCanonicalIpv6ShouldReturnOriginalIfItIsCanonical() {
+        // given
+        final String original = "2001:db8::1";
+
+        // when and then
+        assertThat(IpAddressParser.toCanonicalIpv6(0x20010db800000000L, 1L, original)).isSameAs(original);
+        assertThat(IpAddressParser.toCanonicalIpv6(0x20010db800000000L, 1L, "2001:DB8::1")).isEqualTo(original);
+    }
+}
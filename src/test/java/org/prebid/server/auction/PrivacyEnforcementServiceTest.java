@@ -1335,6 +1335,46 @@ public class PrivacyEnforcementServiceTest extends VertxTest {
         verify(tcfDefinerService).resultForBidderNames(eq(bidderNames), any(), any(), any());
     }
 
+    @Test
+    public void shouldMaskDeviceOnceForBiddersWithSameTcfEnforcementAction() {
+        // given
+        final String bidder1Name = "bidder1";
+        final String bidder2Name = "bidder2";
+
+        final Map<String, PrivacyEnforcementAction> vendorIdToTcfEnforcement = new HashMap<>();
+        vendorIdToTcfEnforcement.put(bidder1Name, restrictDeviceAndUser());
+        vendorIdToTcfEnforcement.put(bidder2Name, restrictDeviceAndUser());
+        given(tcfDefinerService.resultForBidderNames(any(), any(), any(), any()))
+                .willReturn(Future.succeededFuture(TcfResponse.of(true, vendorIdToTcfEnforcement, null)));
+
+        final Map<String, User> bidderToUser = new HashMap<>();
+        bidderToUser.put(bidder1Name, notMaskedUser());
+        bidderToUser.put(bidder2Name, notMaskedUser());
+        final List<String> bidders = asList(bidder1Name, bidder2Name);
+
+        final HashMap<String, Integer> bidderToId = new HashMap<>();
+        bidderToId.put(bidder1Name, 1);
+        bidderToId.put(bidder2Name, 2);
+        final BidRequest bidRequest = givenBidRequest(
+                givenSingleImp(bidderToId),
+                bidRequestBuilder -> bidRequestBuilder
+                        .user(notMaskedUser())
+                        .device(notMaskedDevice()));
+
+        final AuctionContext context = auctionContext(bidRequest, givenPrivacyContext("1", Ccpa.EMPTY, 0));
+
+        // when
+        final List<BidderPrivacyResult> result = privacyEnforcementService
+                .mask(context, bidderToUser, bidders, aliases)
+                .result();
+
+        // then
+        assertThat(result).hasSize(2)
+                .extracting(BidderPrivacyResult::getDevice)
+                .containsOnly(deviceTcfMasked());
+        assertThat(result.get(0).getDevice()).isSameAs(result.get(1).getDevice());
+    }
+
     @Test
     public void shouldIncrementCcpaAndAuctionTcfMetrics() {
         // given
@@ -93,6 +93,72 @@ public class StoredResponseProcessorTest extends VertxTest {
                 emptyMap()));
     }
 
+    @Test
+    public void getStoredResponseResultShouldReuseParsedSeatBidsForSameStoredResponse()
+            throws JsonProcessingException {
+        // given
+        storedResponseProcessor = new StoredResponseProcessor(applicationSettings, 10, jacksonMapper);
+
+        given(applicationSettings.getStoredResponses(any(), any()))
+                .willReturn(Future.succeededFuture(StoredResponseDataResult.of(singletonMap("1",
+                        mapper.writeValueAsString(singletonList(SeatBid.builder().seat("rubicon")
+                                .bid(singletonList(Bid.builder().id("id").build())).build()))),
+                        emptyList())));
+
+        // when
+        storedResponseProcessor.getStoredResponseResult(
+                singletonList(givenImp("impId1", ExtStoredAuctionResponse.of("1"), null)), timeout);
+        final Future<StoredResponseResult> result = storedResponseProcessor.getStoredResponseResult(
+                singletonList(givenImp("impId2", ExtStoredAuctionResponse.of("1"), null)), timeout);
+
+        // then
+        assertThat(result.result().getAuctionStoredResponse()).containsOnly(SeatBid.builder()
+                .seat("rubicon")
+                .bid(singletonList(Bid.builder().id("id").impid("impId2").build()))
+                .build());
+    }
+
+    @Test
+    public void getStoredResponseResultShouldNotShareMutablePartsOfReusedSeatBidsBetweenResults()
+            throws JsonProcessingException {
+        // given
+        storedResponseProcessor = new StoredResponseProcessor(applicationSettings, 10, jacksonMapper);
+
+        given(applicationSettings.getStoredResponses(any(), any()))
+                .willReturn(Future.succeededFuture(StoredResponseDataResult.of(singletonMap("1",
+                        mapper.writeValueAsString(singletonList(SeatBid.builder()
+                                .seat("rubicon")
+                                .bid(singletonList(Bid.builder()
+                                        .id("id")
+                                        .adomain(singletonList("domain.com"))
+                                        .cat(singletonList("IAB1"))
+                                        .attr(singletonList(1))
+                                        .ext(mapper.createObjectNode().put("field", 1))
+                                        .build()))
+                                .ext(mapper.createObjectNode().put("field", 2))
+                                .build()))),
+                        emptyList())));
+
+        // when
+        final SeatBid firstSeatBid = storedResponseProcessor.getStoredResponseResult(
+                singletonList(givenImp("impId", ExtStoredAuctionResponse.of("1"), null)), timeout)
+                .result().getAuctionStoredResponse().get(0);
+        final SeatBid secondSeatBid = storedResponseProcessor.getStoredResponseResult(
+                singletonList(givenImp("impId", ExtStoredAuctionResponse.of("1"), null)), timeout)
+                .result().getAuctionStoredResponse().get(0);
+
+        // then
+        assertThat(secondSeatBid).isEqualTo(firstSeatBid);
+        assertThat(secondSeatBid.getExt()).isNotSameAs(firstSeatBid.getExt());
+
+        final Bid firstBid = firstSeatBid.getBid().get(0);
+        final Bid secondBid = secondSeatBid.getBid().get(0);
+        assertThat(secondBid.getAdomain()).isNotSameAs(firstBid.getAdomain());
+        assertThat(secondBid.getCat()).isNotSameAs(firstBid.getCat());
+        assertThat(secondBid.getAttr()).isNotSameAs(firstBid.getAttr());
+        assertThat(secondBid.getExt()).isNotSameAs(firstBid.getExt());
+    }
+
     @Test
     public void getStoredResponseResultShouldNotChangeImpsAndReturnSeatBidsWhenThereAreNoStoredIds() {
         // given
@@ -0,0 +1,71 @@
+package org.prebid.server.auction.model;
+
+import org.junit.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AuctionStageClockTest {
+
+    @Test
+    public void forEachRecordedShouldPassOnlyMarkedStagesInStageOrder() {
+        // given
+        final AuctionStageClock stageClock = AuctionStageClock.start();
+
+        // when
+        stageClock.mark(AuctionStage.bidder_responses);
+        stageClock.mark(AuctionStage.request_parsing);
+
+        // then
+        final Map<AuctionStage, Long> result = new EnumMap<>(AuctionStage.class);
+        stageClock.forEachRecorded(result::put);
+        assertThat(result).containsOnlyKeys(AuctionStage.request_parsing, AuctionStage.bidder_responses);
+        assertThat(result.values()).allMatch(nanos -> nanos >= 0);
+    }
+
+    @Test
+    public void markShouldAttributeTimeSincePreviousMarkToStage() throws InterruptedException {
+        // given
+        final AuctionStageClock stageClock = AuctionStageClock.start();
+
+        // when
+        stageClock.mark(AuctionStage.request_parsing);
+        Thread.sleep(20L);
+        stageClock.mark(AuctionStage.account_fetch);
+
+        // then
+        final Map<AuctionStage, Long> result = new EnumMap<>(AuctionStage.class);
+        stageClock.forEachRecorded(result::put);
+        assertThat(result.get(AuctionStage.account_fetch)).isGreaterThanOrEqualTo(20_000_000L);
+        assertThat(result.get(AuctionStage.request_parsing)).isLessThan(result.get(AuctionStage.account_fetch));
+    }
+
+    @Test
+    public void markShouldAccumulateDurationOfStageMarkedSeveralTimes() throws InterruptedException {
+        // given
+        final AuctionStageClock stageClock = AuctionStageClock.start();
+
+        // when
+        Thread.sleep(10L);
+        stageClock.mark(AuctionStage.response_creation);
+        stageClock.mark(AuctionStage.prebid_cache);
+        Thread.sleep(10L);
+        stageClock.mark(AuctionStage.response_creation);
+
+        // then
+        final Map<AuctionStage, Long> result = new EnumMap<>(AuctionStage.class);
+        stageClock.forEachRecorded(result::put);
+        assertThat(result.get(AuctionStage.response_creation)).isGreaterThanOrEqualTo(20_000_000L);
+    }
+
+    @Test
+    public void markShouldReturnPassedValue() {
+        // given
+        final AuctionStageClock stageClock = AuctionStageClock.start();
+
+        // when and then
+        assertThat(stageClock.mark(AuctionStage.privacy_resolution, "value")).isEqualTo("value");
+    }
+}
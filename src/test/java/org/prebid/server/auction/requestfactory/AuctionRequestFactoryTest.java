@@ -26,6 +26,7 @@ import org.prebid.server.auction.PrivacyEnforcementService;
 import org.prebid.server.auction.StoredRequestProcessor;
 import org.prebid.server.auction.TimeoutResolver;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.geolocation.model.GeoInfo;
 import org.prebid.server.metric.MetricName;
@@ -40,6 +41,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidDataEidPermis
 import org.prebid.server.settings.model.Account;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -387,7 +389,22 @@ public class AuctionRequestFactoryTest extends VertxTest {
         final AuctionContext result = target.fromRequest(routingContext, 0L).result();
 
         // then
-        assertThat(result).isEqualTo(defaultActionContext);
+        assertThat(result).isEqualToIgnoringGivenFields(defaultActionContext, "stageClock");
+    }
+
+    @Test
+    public void shouldReturnAuctionContextWithTimedRequestStages() {
+        // given
+        givenValidBidRequest();
+
+        // when
+        final AuctionContext result = target.fromRequest(routingContext, 0L).result();
+
+        // then
+        final List<AuctionStage> stages = new ArrayList<>();
+        result.getStageClock().forEachRecorded((stage, nanos) -> stages.add(stage));
+        assertThat(stages).containsExactly(AuctionStage.request_parsing, AuctionStage.account_fetch,
+                AuctionStage.stored_request_merge, AuctionStage.privacy_resolution);
     }
 
     @Test
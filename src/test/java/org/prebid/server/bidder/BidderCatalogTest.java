@@ -7,6 +7,7 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.proto.response.BidderInfo;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -132,6 +133,31 @@ public class BidderCatalogTest {
         assertThat(bidderCatalog.usersyncerByName(BIDDER)).isEqualTo(usersyncer);
     }
 
+    @Test
+    public void cookieFamilyNamesShouldReturnCookieFamilyNamesOfAllBiddersIncludingDisabled() {
+        // given
+        final BidderDeps bidderDeps = BidderDeps.of(asList(
+                BidderInstanceDeps.builder()
+                        .name(BIDDER)
+                        .deprecatedNames(emptyList())
+                        .usersyncer(Usersyncer.of("rubicon", null, null))
+                        .cookieFamilyName("rubicon")
+                        .build(),
+                BidderInstanceDeps.builder()
+                        .name("disabled")
+                        .deprecatedNames(emptyList())
+                        .cookieFamilyName("disabledFamily")
+                        .build(),
+                BidderInstanceDeps.builder()
+                        .name("withoutUsersync")
+                        .deprecatedNames(emptyList())
+                        .build()));
+        bidderCatalog = new BidderCatalog(singletonList(bidderDeps));
+
+        // when and then
+        assertThat(bidderCatalog.cookieFamilyNames()).containsOnly("rubicon", "disabledFamily");
+    }
+
     @Test
     public void usersyncerByNameShouldReturnNullForUnknownBidder() {
         // given
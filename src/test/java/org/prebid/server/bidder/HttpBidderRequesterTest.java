@@ -24,6 +24,7 @@ import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.vertx.http.HttpClient;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
@@ -62,6 +63,8 @@ public class HttpBidderRequesterTest extends VertxTest {
     private HttpClient httpClient;
     @Mock
     private BidderErrorNotifier bidderErrorNotifier;
+    @Mock
+    private HttpInteractionLogger httpInteractionLogger;
 
     private HttpBidderRequester httpBidderRequester;
 
@@ -77,7 +80,7 @@ public class HttpBidderRequesterTest extends VertxTest {
         timeout = timeoutFactory.create(500L);
         expiredTimeout = timeoutFactory.create(clock.instant().minusMillis(1500L).toEpochMilli(), 1000L);
 
-        httpBidderRequester = new HttpBidderRequester(httpClient, null, bidderErrorNotifier);
+        httpBidderRequester = new HttpBidderRequester(httpClient, null, bidderErrorNotifier, httpInteractionLogger);
     }
 
     @Test
@@ -282,6 +285,34 @@ public class HttpBidderRequesterTest extends VertxTest {
         assertThat(bidderSeatBid.getBids()).containsOnlyElementsOf(bids);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldPassHttpCallToInteractionLogger() {
+        // given
+        final HttpRequest<BidRequest> httpRequest = HttpRequest.<BidRequest>builder()
+                .method(HttpMethod.POST)
+                .uri("uri")
+                .body("requestBody")
+                .headers(new CaseInsensitiveHeaders())
+                .build();
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(httpRequest), emptyList()));
+        given(bidder.makeBids(any(), any())).willReturn(Result.empty());
+
+        givenHttpClientReturnsResponse(200, "responseBody");
+
+        final BidRequest bidRequest = BidRequest.builder().build();
+        final BidderRequest bidderRequest = BidderRequest.of("bidder", null, bidRequest);
+
+        // when
+        httpBidderRequester.requestBids(bidder, bidderRequest, timeout, false);
+
+        // then
+        final ArgumentCaptor<HttpCall<BidRequest>> httpCallCaptor = ArgumentCaptor.forClass(HttpCall.class);
+        verify(httpInteractionLogger).maybeLogBidderRequest(eq("bidder"), same(bidRequest), httpCallCaptor.capture());
+        assertThat(httpCallCaptor.getValue().getRequest()).isSameAs(httpRequest);
+        assertThat(httpCallCaptor.getValue().getResponse().getBody()).isEqualTo("responseBody");
+    }
+
     @Test
     public void shouldReturnFullDebugInfoIfDebugEnabled() {
         // given
@@ -320,6 +351,37 @@ public class HttpBidderRequesterTest extends VertxTest {
                         .status(200).build());
     }
 
+    @Test
+    public void shouldReturnDebugInfoForEachRequestInRequestsOrderEvenIfRequestsAreEqual() {
+        // given
+        final HttpRequest<BidRequest> httpRequest = HttpRequest.<BidRequest>builder()
+                .method(HttpMethod.POST)
+                .uri("uri")
+                .body("requestBody")
+                .headers(new CaseInsensitiveHeaders())
+                .build();
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(asList(httpRequest, httpRequest), emptyList()));
+
+        givenHttpClientReturnsResponses(
+                HttpClientResponse.of(200, null, "responseBody1"),
+                HttpClientResponse.of(200, null, "responseBody2"));
+
+        given(bidder.makeBids(any(), any())).willReturn(Result.of(emptyList(), emptyList()));
+
+        final BidderRequest bidderRequest = BidderRequest.of("bidder", null, BidRequest.builder().build());
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                httpBidderRequester.requestBids(bidder, bidderRequest, timeout, true).result();
+
+        // then
+        assertThat(bidderSeatBid.getHttpCalls()).containsExactly(
+                ExtHttpCall.builder().uri("uri").requestbody("requestBody").responsebody("responseBody1")
+                        .status(200).build(),
+                ExtHttpCall.builder().uri("uri").requestbody("requestBody").responsebody("responseBody2")
+                        .status(200).build());
+    }
+
     @Test
     public void shouldReturnPartialDebugInfoIfDebugEnabledAndGlobalTimeoutAlreadyExpired() {
         // given
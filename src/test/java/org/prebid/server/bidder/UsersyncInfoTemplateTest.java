@@ -0,0 +1,77 @@
+package org.prebid.server.bidder;
+
+import org.junit.Test;
+import org.prebid.server.privacy.ccpa.Ccpa;
+import org.prebid.server.privacy.model.Privacy;
+import org.prebid.server.proto.response.UsersyncInfo;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UsersyncInfoTemplateTest {
+
+    private static final List<Usersyncer.UsersyncMethod> USERSYNC_METHODS = asList(
+            redirectMethod("https://cs.admanmedia.com/sync/prebid?gdpr={{gdpr}}&gdpr_consent={{gdpr_consent}}"
+                            + "&us_privacy={{us_privacy}}&redir=",
+                    "http://localhost/setuid?bidder=acuityads&gdpr={{gdpr}}&gdpr_consent={{gdpr_consent}}"
+                            + "&us_privacy={{us_privacy}}&uid=[UID]"),
+            iframeMethod("https://cm.adform.net/cookie?redirect_url=",
+                    "http://localhost/setuid?bidder=adform&gdpr={{gdpr}}&gdpr_consent={{gdpr_consent}}&uid=$UID"),
+            redirectMethod("http://url?redir=%26gdpr%3D{{gdpr}}%26gdpr_consent%3D{{gdpr_consent}}"
+                    + "%26us_privacy={{us_privacy}}", null),
+            redirectMethod("http://url/redirect=", "http://localhost:8000/setuid?gdpr={{gdpr}}?gdpr={{gdpr}}"),
+            redirectMethod("http://url/redirect=", "http://localhost:8000/setuid?uid={{gdpr}}{{us_privacy}}"),
+            iframeMethod("http://url/redirect=", "http://localhost:8000/setuid"),
+            iframeMethod("http://url/{{unknown}}?gdpr={{gdpr}}", "http://localhost/setuid?gdpr={{gdpr}}&uid=$UID"),
+            redirectMethod("http://url/{{{gdpr}}", "http://localhost/setuid?gdpr={{gdpr_{{gdpr}}consent}}"));
+
+    private static final List<Privacy> PRIVACIES = asList(
+            Privacy.of("1", "BONciguONcjGKADACHENAOLS1rAHDAFAAEAASABQAMwAeACEAFw", Ccpa.of("1YNN"), null),
+            Privacy.of("", "", Ccpa.EMPTY, null),
+            Privacy.of(null, null, Ccpa.of(null), null),
+            Privacy.of("0", "consent$1 &=/%", Ccpa.of("1-Y-"), null),
+            Privacy.of("1", "consent?with=question", Ccpa.of("{{gdpr}}"), null));
+
+    @Test
+    public void renderShouldReturnSameUsersyncInfoAsAssembler() {
+        for (Usersyncer.UsersyncMethod usersyncMethod : USERSYNC_METHODS) {
+            final UsersyncInfoTemplate template = UsersyncInfoTemplate.compile(usersyncMethod);
+
+            for (Privacy privacy : PRIVACIES) {
+                // when
+                final UsersyncInfo result = template.render(privacy);
+
+                // then
+                assertThat(result)
+                        .describedAs("Usersync method %s and privacy %s", usersyncMethod, privacy)
+                        .isEqualTo(UsersyncInfoAssembler.from(usersyncMethod).withPrivacy(privacy).assemble());
+            }
+        }
+    }
+
+    @Test
+    public void renderShouldReplaceMacrosAndEncodeRedirectUrl() {
+        // given
+        final UsersyncInfoTemplate template = UsersyncInfoTemplate.compile(redirectMethod(
+                "http://url?gdpr={{gdpr}}&redir=", "http://localhost/setuid?gdpr={{gdpr}}&uid=$UID"));
+
+        // when
+        final UsersyncInfo result = template.render(Privacy.of("1", "consent", Ccpa.EMPTY, null));
+
+        // then
+        assertThat(result).isEqualTo(UsersyncInfo.of(
+                "http://url?gdpr=1&redir=http%3A%2F%2Flocalhost%2Fsetuid%3Fgdpr%3D1%26f%3Di%26uid%3D%24UID",
+                Usersyncer.UsersyncMethod.REDIRECT_TYPE,
+                false));
+    }
+
+    private static Usersyncer.UsersyncMethod redirectMethod(String usersyncUrl, String redirectUrl) {
+        return Usersyncer.UsersyncMethod.of(Usersyncer.UsersyncMethod.REDIRECT_TYPE, usersyncUrl, redirectUrl, false);
+    }
+
+    private static Usersyncer.UsersyncMethod iframeMethod(String usersyncUrl, String redirectUrl) {
+        return Usersyncer.UsersyncMethod.of(Usersyncer.UsersyncMethod.IFRAME_TYPE, usersyncUrl, redirectUrl, true);
+    }
+}
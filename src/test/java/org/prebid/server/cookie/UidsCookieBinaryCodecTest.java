@@ -0,0 +1,170 @@
+package org.prebid.server.cookie;
+
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cookie.model.OpaqueUid;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.entry;
+
+public class UidsCookieBinaryCodecTest extends VertxTest {
+
+    private static final List<String> KNOWN_FAMILIES = asList("adnxs", "rubicon", "openx", "pubmatic", "ix",
+            "sovrn", "triplelift", "sharethrough", "yieldmo", "33across", "audienceNetwork");
+
+    private final UidsCookieBinaryCodec codec = new UidsCookieBinaryCodec(KNOWN_FAMILIES);
+
+    @Test
+    public void decodeShouldReturnSameUidsAsJsonFormatForRandomUids() throws IOException {
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 500; i++) {
+            // given
+            final Uids uids = randomUids(random);
+
+            // when
+            final Uids binaryResult = codec.decode(codec.encode(uids));
+
+            // then
+            final Uids jsonResult = mapper.readValue(mapper.writeValueAsBytes(uids), Uids.class);
+            assertThat(binaryResult).isEqualTo(truncateToSeconds(jsonResult));
+        }
+    }
+
+    @Test
+    public void encodeShouldProduceValueSeveralTimesSmallerThanJson() throws IOException {
+        // given
+        final Map<String, UidWithExpiry> uidsMap = new HashMap<>();
+        for (int i = 0; i < 60; i++) {
+            uidsMap.put(i < KNOWN_FAMILIES.size() ? KNOWN_FAMILIES.get(i) : "family" + i,
+                    UidWithExpiry.live("0123456789abcdef"));
+        }
+        final Uids uids = Uids.builder().uids(uidsMap).bday(ZonedDateTime.now(ZoneOffset.UTC)).build();
+
+        // when
+        final byte[] result = codec.encode(uids);
+
+        // then
+        assertThat(result.length * 2).isLessThan(mapper.writeValueAsBytes(uids).length);
+    }
+
+    @Test
+    public void encodeShouldKeepFamiliesUnknownToRegistryOnRoundTrip() {
+        // given
+        final ZonedDateTime expires = ZonedDateTime.of(2030, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        final Map<String, UidWithExpiry> uidsMap = new HashMap<>();
+        uidsMap.put("rubicon", new UidWithExpiry("rubiconUid", expires));
+        uidsMap.put("adnxs", new UidWithExpiry("adnxsUid", expires));
+        final byte[] value = codec.encode(Uids.builder().uids(uidsMap).build());
+
+        final UidsCookieBinaryCodec rubiconOnlyCodec = new UidsCookieBinaryCodec(singletonList("rubicon"));
+
+        // when
+        final Uids decoded = rubiconOnlyCodec.decode(value);
+        final Uids result = codec.decode(rubiconOnlyCodec.encode(decoded.toBuilder()
+                .uids(singletonMap("rubicon", new UidWithExpiry("updatedUid", expires)))
+                .build()));
+
+        // then
+        assertThat(decoded.getUids()).containsOnlyKeys("rubicon");
+        assertThat(decoded.getOpaqueUids()).extracting(OpaqueUid::getUid).containsOnly("adnxsUid");
+        assertThat(result.getUids()).containsOnly(
+                entry("rubicon", new UidWithExpiry("updatedUid", expires)),
+                entry("adnxs", new UidWithExpiry("adnxsUid", expires)));
+        assertThat(result.getOpaqueUids()).isNull();
+    }
+
+    @Test
+    public void decodeShouldReadFamiliesWrittenByName() {
+        // given
+        final UidsCookieBinaryCodec readerCodec = new UidsCookieBinaryCodec(singletonList("rubicon"));
+        final byte[] value = new UidsCookieBinaryCodec(singletonList("adnxs"))
+                .encode(Uids.builder().uids(singletonMap("rubicon", UidWithExpiry.live("rubiconUid"))).build());
+
+        // when
+        final Uids result = readerCodec.decode(value);
+
+        // then
+        assertThat(result.getUids().get("rubicon").getUid()).isEqualTo("rubiconUid");
+    }
+
+    @Test
+    public void isBinaryShouldTellFormatsApart() {
+        // when and then
+        assertThat(UidsCookieBinaryCodec.isBinary(codec.encode(Uids.builder().build()))).isTrue();
+        assertThat(UidsCookieBinaryCodec.isBinary("{\"tempUIDs\":{}}".getBytes(StandardCharsets.UTF_8))).isFalse();
+        assertThat(UidsCookieBinaryCodec.isBinary(new byte[0])).isFalse();
+    }
+
+    @Test
+    public void decodeShouldFailOnTruncatedValue() {
+        // given
+        final byte[] value = codec.encode(Uids.builder()
+                .uids(singletonMap("rubicon", UidWithExpiry.live("rubiconUid")))
+                .build());
+        final byte[] truncated = new byte[value.length - 3];
+        System.arraycopy(value, 0, truncated, 0, truncated.length);
+
+        // when and then
+        assertThatIllegalArgumentException().isThrownBy(() -> codec.decode(truncated));
+    }
+
+    private static Uids randomUids(Random random) {
+        final Map<String, UidWithExpiry> uidsMap = new HashMap<>();
+        final int size = random.nextInt(20);
+        for (int i = 0; i < size; i++) {
+            final String familyName = random.nextBoolean()
+                    ? KNOWN_FAMILIES.get(random.nextInt(KNOWN_FAMILIES.size()))
+                    : randomString(random, 1 + random.nextInt(12));
+            final ZonedDateTime expires = random.nextInt(10) == 0
+                    ? null
+                    : ZonedDateTime.ofInstant(Instant.ofEpochSecond(random.nextInt(Integer.MAX_VALUE),
+                    random.nextInt(1_000_000_000)), ZoneOffset.UTC);
+            uidsMap.put(familyName, new UidWithExpiry(randomString(random, random.nextInt(40)), expires));
+        }
+
+        return Uids.builder()
+                .uids(uidsMap)
+                .optout(random.nextBoolean() ? Boolean.TRUE : null)
+                .bday(random.nextBoolean() ? ZonedDateTime.now(ZoneOffset.UTC) : null)
+                .build();
+    }
+
+    private static String randomString(Random random, int length) {
+        final StringBuilder result = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            // mostly ASCII with some multi-byte characters
+            final int character = random.nextInt(8) == 0 ? 0x400 + random.nextInt(0x100) : 33 + random.nextInt(94);
+            result.append((char) character);
+        }
+        return result.toString();
+    }
+
+    private static Uids truncateToSeconds(Uids uids) {
+        final Map<String, UidWithExpiry> uidsMap = new HashMap<>();
+        uids.getUids().forEach((familyName, uid) -> uidsMap.put(familyName, new UidWithExpiry(uid.getUid(),
+                uid.getExpires() != null ? uid.getExpires().truncatedTo(ChronoUnit.SECONDS) : null)));
+
+        return uids.toBuilder()
+                .uids(uidsMap)
+                .bday(uids.getBday() != null ? uids.getBday().truncatedTo(ChronoUnit.SECONDS) : null)
+                .build();
+    }
+}
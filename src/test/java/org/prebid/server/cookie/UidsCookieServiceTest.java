@@ -3,6 +3,7 @@ package org.prebid.server.cookie;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.vertx.core.http.Cookie;
 import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -10,6 +11,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
+import org.prebid.server.cookie.model.OpaqueUid;
 import org.prebid.server.cookie.model.UidWithExpiry;
 import org.prebid.server.cookie.proto.Uids;
 
@@ -22,6 +24,7 @@ import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -46,12 +49,16 @@ public class UidsCookieServiceTest extends VertxTest {
     @Mock
     private RoutingContext routingContext;
 
+    private UidsCookieBinaryCodec binaryCodec;
+
     private UidsCookieService uidsCookieService;
 
     @Before
     public void setUp() {
+        binaryCodec = new UidsCookieBinaryCodec(asList(RUBICON, ADNXS));
         uidsCookieService = new UidsCookieService(
-                "trp_optout", "true", null, null, "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, jacksonMapper);
+                "trp_optout", "true", null, null, "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES,
+                UidsCookieFormat.json, binaryCodec, jacksonMapper);
     }
 
     @Test
@@ -189,7 +196,8 @@ public class UidsCookieServiceTest extends VertxTest {
     public void shouldReturnUidsCookieWithOptoutFalseIfOptoutCookieNameNotSpecified() {
         // given
         uidsCookieService = new UidsCookieService(
-                null, "true", null, null, "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, jacksonMapper);
+                null, "true", null, null, "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES,
+                UidsCookieFormat.json, binaryCodec, jacksonMapper);
         given(routingContext.cookieMap()).willReturn(
                 singletonMap(OPT_OUT_COOKIE_NAME, Cookie.cookie("trp_optout", "true")));
 
@@ -204,7 +212,8 @@ public class UidsCookieServiceTest extends VertxTest {
     public void shouldReturnUidsCookieWithOptoutFalseIfOptoutCookieValueNotSpecified() {
         // given
         uidsCookieService = new UidsCookieService(
-                "trp_optout", null, null, null, "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, jacksonMapper);
+                "trp_optout", null, null, null, "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES,
+                UidsCookieFormat.json, binaryCodec, jacksonMapper);
         given(routingContext.cookieMap()).willReturn(
                 singletonMap(OPT_OUT_COOKIE_NAME, Cookie.cookie("trp_optout", "true")));
 
@@ -219,7 +228,8 @@ public class UidsCookieServiceTest extends VertxTest {
     public void shouldReturnRubiconCookieValueFromHostCookieWhenUidValueIsAbsent() {
         // given
         uidsCookieService = new UidsCookieService(
-                "trp_optout", "true", "rubicon", "khaos", "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, jacksonMapper);
+                "trp_optout", "true", "rubicon", "khaos", "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES,
+                UidsCookieFormat.json, binaryCodec, jacksonMapper);
         given(routingContext.cookieMap()).willReturn(singletonMap("khaos", Cookie.cookie("khaos", "abc123")));
 
         // when
@@ -233,7 +243,8 @@ public class UidsCookieServiceTest extends VertxTest {
     public void shouldReturnRubiconCookieValueFromHostCookieWhenUidValueIsPresentButDiffers() {
         // given
         uidsCookieService = new UidsCookieService(
-                "trp_optout", "true", "rubicon", "khaos", "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, jacksonMapper);
+                "trp_optout", "true", "rubicon", "khaos", "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES,
+                UidsCookieFormat.json, binaryCodec, jacksonMapper);
 
         final Map<String, Cookie> cookies = new HashMap<>();
         // this uids cookie value stands for {"uids":{"rubicon":"J5VLCWQP-26-CWFT","adnxs":"12345"}}
@@ -285,7 +296,8 @@ public class UidsCookieServiceTest extends VertxTest {
         // the size of uidsCookie above is 530, therefore it is expected to be modified.
         final int maxCookieSizeBytes = 500;
         uidsCookieService = new UidsCookieService(OPT_OUT_COOKIE_NAME, OPT_OUT_COOKIE_VALUE, null,
-                null, HOST_COOKIE_DOMAIN, 90, maxCookieSizeBytes, jacksonMapper);
+                null, HOST_COOKIE_DOMAIN, 90, maxCookieSizeBytes,
+                UidsCookieFormat.json, binaryCodec, jacksonMapper);
 
         // when
         final Cookie cookie = uidsCookieService.toCookie(uidsCookie);
@@ -362,11 +374,214 @@ public class UidsCookieServiceTest extends VertxTest {
         assertThat(uidsCookie.uidFrom(RUBICON)).isEqualTo("J5VLCWQP-26-CWFT");
     }
 
+    @Test
+    public void toCookieShouldKeepUntouchedUidsFromParsedCookie() throws IOException {
+        // given
+        final ZonedDateTime expires = ZonedDateTime.parse("2030-01-01T10:00:00.123456789Z");
+        final Map<String, UidWithExpiry> uidsWithExpiry = new HashMap<>();
+        uidsWithExpiry.put(RUBICON, new UidWithExpiry("J5VLCWQP-26-CWFT", expires));
+        uidsWithExpiry.put(ADNXS, new UidWithExpiry("12345", expires));
+        final String encodedUids = encodeUids(Uids.builder().uids(uidsWithExpiry).build());
+
+        final UidsCookie uidsCookie = uidsCookieService.parseFromCookies(singletonMap("uids", encodedUids))
+                .updateUid("openx", "openxUid")
+                .deleteUid(ADNXS);
+
+        // when
+        final Cookie cookie = uidsCookieService.toCookie(uidsCookie);
+
+        // then
+        final Map<String, UidWithExpiry> uids = decodeUids(cookie.getValue()).getUids();
+        assertThat(uids).hasSize(2)
+                .containsEntry(RUBICON, new UidWithExpiry("J5VLCWQP-26-CWFT", expires));
+        assertThat(uids.get("openx").getUid()).isEqualTo("openxUid");
+    }
+
+    @Test
+    public void shouldSkipOnlyMalformedUidFromUidsCookie() {
+        // given
+        final String uidsJson = "{\"tempUIDs\":{"
+                + "\"rubicon\":{\"uid\":\"J5VLCWQP-26-CWFT\",\"expires\":\"invalid\"},"
+                + "\"adnxs\":{\"uid\":\"12345\",\"expires\":\"2030-01-01T10:00:00Z\"}}}";
+        final Map<String, String> cookies = singletonMap("uids",
+                Base64.getUrlEncoder().encodeToString(uidsJson.getBytes()));
+
+        // when
+        final UidsCookie uidsCookie = uidsCookieService.parseFromCookies(cookies);
+
+        // then
+        assertThat(uidsCookie.uidFrom(RUBICON)).isNull();
+        assertThat(uidsCookie.uidFrom(ADNXS)).isEqualTo("12345");
+        assertThat(uidsCookie.getCookieUids().getUids()).containsOnlyKeys(ADNXS);
+    }
+
+    @Test
+    public void toCookieShouldNotDependOnLookupsOfMalformedUid() {
+        // given
+        final String uidsJson = "{\"tempUIDs\":{"
+                + "\"rubicon\":{\"uid\":\"J5VLCWQP-26-CWFT\",\"expires\":\"invalid\"},"
+                + "\"adnxs\":{\"uid\":\"12345\",\"expires\":\"2030-01-01T10:00:00Z\"}}}";
+        final Map<String, String> cookies = singletonMap("uids",
+                Base64.getUrlEncoder().encodeToString(uidsJson.getBytes()));
+
+        final UidsCookie lookedUpUidsCookie = uidsCookieService.parseFromCookies(cookies);
+        final UidsCookie untouchedUidsCookie = uidsCookieService.parseFromCookies(cookies);
+
+        // when
+        final String rubiconUid = lookedUpUidsCookie.uidFrom(RUBICON);
+        final Cookie lookedUpCookie = uidsCookieService.toCookie(lookedUpUidsCookie);
+        final Cookie untouchedCookie = uidsCookieService.toCookie(untouchedUidsCookie);
+
+        // then
+        assertThat(rubiconUid).isNull();
+        assertThat(lookedUpUidsCookie.getCookieUids().getUids()).hasSize(1);
+        assertThat(lookedUpCookie.getValue()).isEqualTo(untouchedCookie.getValue());
+        assertThat(new String(Base64.getUrlDecoder().decode(lookedUpCookie.getValue())))
+                .contains("\"rubicon\":{\"uid\":\"J5VLCWQP-26-CWFT\",\"expires\":\"invalid\"}");
+    }
+
+    @Test
+    public void hasLiveUidsShouldSkipMalformedUidsOfParsedCookie() {
+        // given
+        final String expiredUidsJson = "{\"tempUIDs\":{"
+                + "\"rubicon\":{\"uid\":\"J5VLCWQP-26-CWFT\",\"expires\":\"invalid\"},"
+                + "\"adnxs\":{\"uid\":\"12345\",\"expires\":\"2010-01-01T10:00:00Z\"}}}";
+        final String liveUidsJson = "{\"tempUIDs\":{"
+                + "\"rubicon\":{\"uid\":\"J5VLCWQP-26-CWFT\",\"expires\":\"invalid\"},"
+                + "\"adnxs\":{\"uid\":\"12345\",\"expires\":\"2100-01-01T10:00:00Z\"}}}";
+
+        // when
+        final UidsCookie expiredUidsCookie = uidsCookieService.parseFromCookies(singletonMap("uids",
+                Base64.getUrlEncoder().encodeToString(expiredUidsJson.getBytes())));
+        final UidsCookie liveUidsCookie = uidsCookieService.parseFromCookies(singletonMap("uids",
+                Base64.getUrlEncoder().encodeToString(liveUidsJson.getBytes())));
+
+        // then
+        assertThat(expiredUidsCookie.hasLiveUids()).isFalse();
+        assertThat(liveUidsCookie.hasLiveUids()).isTrue();
+    }
+
+    @Test
+    public void shouldRemoveHostCookieFamilyUidIfHostCookieIsFacebookSentinel() throws JsonProcessingException {
+        // given
+        uidsCookieService = new UidsCookieService("trp_optout", "true", "audienceNetwork", "khaos",
+                "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES,
+                UidsCookieFormat.json, binaryCodec, jacksonMapper);
+
+        final Map<String, UidWithExpiry> uidsWithExpiry = new HashMap<>();
+        uidsWithExpiry.put(RUBICON, UidWithExpiry.live("J5VLCWQP-26-CWFT"));
+        uidsWithExpiry.put("audienceNetwork", UidWithExpiry.live("fbUid"));
+        final Map<String, String> cookies = new HashMap<>();
+        cookies.put("uids", encodeUids(Uids.builder().uids(uidsWithExpiry).build()));
+        cookies.put("khaos", "0");
+
+        // when
+        final UidsCookie uidsCookie = uidsCookieService.parseFromCookies(cookies);
+
+        // then
+        assertThat(uidsCookie.uidFrom("audienceNetwork")).isNull();
+        assertThat(uidsCookie.getCookieUids().getUids()).containsOnlyKeys(RUBICON);
+    }
+
+    @Test
+    public void toCookieShouldWriteBinaryFormatIfConfigured() {
+        // given
+        uidsCookieService = new UidsCookieService("trp_optout", "true", null, null, "cookie-domain", 90,
+                MAX_COOKIE_SIZE_BYTES, UidsCookieFormat.binary, binaryCodec, jacksonMapper);
+
+        final UidsCookie uidsCookie = new UidsCookie(Uids.builder().uids(new HashMap<>()).build(), jacksonMapper)
+                .updateUid(RUBICON, "rubiconUid")
+                .updateUid("unknown", "unknownUid");
+
+        // when
+        final Cookie cookie = uidsCookieService.toCookie(uidsCookie);
+
+        // then
+        assertThat(UidsCookieBinaryCodec.isBinary(Base64.getUrlDecoder().decode(cookie.getValue()))).isTrue();
+
+        final UidsCookie parsedUidsCookie = uidsCookieService.parseFromCookies(
+                singletonMap("uids", cookie.getValue()));
+        assertThat(parsedUidsCookie.uidFrom(RUBICON)).isEqualTo("rubiconUid");
+        assertThat(parsedUidsCookie.uidFrom("unknown")).isEqualTo("unknownUid");
+        assertThat(parsedUidsCookie.hasLiveUidFrom(RUBICON)).isTrue();
+    }
+
+    @Test
+    public void toCookieShouldKeepUidsOfFamiliesUnknownToServerInBinaryFormat() {
+        // given
+        final UidsCookieBinaryCodec otherServerCodec = new UidsCookieBinaryCodec(asList(RUBICON, "other"));
+        final Map<String, UidWithExpiry> uidsMap = new HashMap<>();
+        uidsMap.put(RUBICON, UidWithExpiry.live("rubiconUid"));
+        uidsMap.put("other", UidWithExpiry.live("otherUid"));
+        final String cookieValue = Base64.getUrlEncoder().encodeToString(
+                otherServerCodec.encode(Uids.builder().uids(uidsMap).build()));
+
+        uidsCookieService = new UidsCookieService("trp_optout", "true", null, null, "cookie-domain", 90,
+                MAX_COOKIE_SIZE_BYTES, UidsCookieFormat.binary, binaryCodec, jacksonMapper);
+
+        // when
+        final UidsCookie uidsCookie = uidsCookieService.parseFromCookies(singletonMap("uids", cookieValue))
+                .updateUid(ADNXS, "adnxsUid");
+        final Cookie cookie = uidsCookieService.toCookie(uidsCookie);
+
+        // then
+        assertThat(uidsCookie.uidFrom("other")).isNull();
+
+        final Uids result = otherServerCodec.decode(Base64.getUrlDecoder().decode(cookie.getValue()));
+        assertThat(result.getUids()).containsOnlyKeys(RUBICON, "other");
+        assertThat(result.getUids().get("other").getUid()).isEqualTo("otherUid");
+        // written by id known only to this server
+        assertThat(result.getOpaqueUids()).extracting(OpaqueUid::getUid).containsOnly("adnxsUid");
+    }
+
+    @Test
+    public void toCookieShouldRemoveUidsOfFamiliesUnknownToServerFirstToEnforceMaxCookieSize() {
+        // given
+        final UidsCookieBinaryCodec otherServerCodec = new UidsCookieBinaryCodec(asList(RUBICON, "other"));
+        final Map<String, UidWithExpiry> uidsMap = new HashMap<>();
+        uidsMap.put(RUBICON, UidWithExpiry.live(StringUtils.repeat('r', 300)));
+        uidsMap.put("other", UidWithExpiry.live(StringUtils.repeat('o', 300)));
+        final byte[] value = otherServerCodec.encode(Uids.builder()
+                .uids(uidsMap)
+                .bday(ZonedDateTime.now(Clock.systemUTC()))
+                .build());
+
+        uidsCookieService = new UidsCookieService("trp_optout", "true", null, null, "cookie-domain", 90,
+                500, UidsCookieFormat.binary, binaryCodec, jacksonMapper);
+
+        // when
+        final Cookie cookie = uidsCookieService.toCookie(uidsCookieService.parseFromCookies(
+                singletonMap("uids", Base64.getUrlEncoder().encodeToString(value))));
+
+        // then
+        final Uids result = otherServerCodec.decode(Base64.getUrlDecoder().decode(cookie.getValue()));
+        assertThat(result.getUids()).containsOnlyKeys(RUBICON);
+    }
+
+    @Test
+    public void shouldParseJsonCookieIfBinaryFormatIsConfigured() {
+        // given
+        uidsCookieService = new UidsCookieService("trp_optout", "true", null, null, "cookie-domain", 90,
+                MAX_COOKIE_SIZE_BYTES, UidsCookieFormat.binary, binaryCodec, jacksonMapper);
+
+        // this uids cookie value stands for {"uids":{"rubicon":"J5VLCWQP-26-CWFT","adnxs":"12345"}}
+        final Map<String, String> cookies = singletonMap("uids",
+                "eyJ1aWRzIjp7InJ1Ymljb24iOiJKNVZMQ1dRUC0yNi1DV0ZUIiwiYWRueHMiOiIxMjM0NSJ9fQ==");
+
+        // when
+        final UidsCookie uidsCookie = uidsCookieService.parseFromCookies(cookies);
+
+        // then
+        assertThat(uidsCookie.uidFrom(RUBICON)).isEqualTo("J5VLCWQP-26-CWFT");
+        assertThat(uidsCookie.uidFrom(ADNXS)).isEqualTo("12345");
+    }
+
     @Test
     public void shouldParseHostCookie() {
         // given
         uidsCookieService = new UidsCookieService(
-                "trp_optout", "true", null, "khaos", "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, jacksonMapper);
+                "trp_optout", "true", null, "khaos", "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES,
+                UidsCookieFormat.json, binaryCodec, jacksonMapper);
 
         // when
         final String hostCookie = uidsCookieService.parseHostCookie(singletonMap("khaos", "userId"));
@@ -0,0 +1,76 @@
+package org.prebid.server.currency;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class CurrencyRateMatrixTest {
+
+    @Test
+    public void multiplierShouldReturnInvertedDirectRate() {
+        // given
+        final CurrencyRateMatrix matrix = CurrencyRateMatrix.of(
+                singletonMap("USD", singletonMap("EUR", BigDecimal.valueOf(0.8))));
+
+        // when and then
+        assertThat(matrix.multiplier("USD", "EUR")).isCloseTo(1.25, within(1e-12));
+    }
+
+    @Test
+    public void multiplierShouldReturnReverseRate() {
+        // given
+        final CurrencyRateMatrix matrix = CurrencyRateMatrix.of(
+                singletonMap("USD", singletonMap("EUR", BigDecimal.valueOf(0.8))));
+
+        // when and then
+        assertThat(matrix.multiplier("EUR", "USD")).isCloseTo(0.8, within(1e-12));
+    }
+
+    @Test
+    public void multiplierShouldPreferIntermediateCurrencyWithDirectRates() {
+        // given
+        final Map<String, Map<String, BigDecimal>> rates = new HashMap<>();
+        final Map<String, BigDecimal> usdRates = new HashMap<>();
+        usdRates.put("AUD", BigDecimal.valueOf(1.5));
+        usdRates.put("EUR", BigDecimal.valueOf(0.8));
+        rates.put("USD", usdRates);
+        rates.put("GBP", singletonMap("EUR", BigDecimal.valueOf(1.1)));
+        // AUD rate to GBP is available only as reverse, so path through EUR is preferred
+        rates.put("AUD", singletonMap("GBP", BigDecimal.valueOf(0.5)));
+
+        final CurrencyRateMatrix matrix = CurrencyRateMatrix.of(rates);
+
+        // when and then
+        assertThat(matrix.multiplier("USD", "GBP")).isCloseTo(1.1 / 0.8, within(1e-12));
+    }
+
+    @Test
+    public void multiplierShouldReturnNaNForUnknownOrDisconnectedCurrencies() {
+        // given
+        final Map<String, Map<String, BigDecimal>> rates = new HashMap<>();
+        rates.put("USD", singletonMap("EUR", BigDecimal.valueOf(0.8)));
+        rates.put("GBP", singletonMap("UAH", BigDecimal.valueOf(35)));
+
+        final CurrencyRateMatrix matrix = CurrencyRateMatrix.of(rates);
+
+        // when and then
+        assertThat(matrix.multiplier("USD", "JPY")).isNaN();
+        assertThat(matrix.multiplier("USD", "GBP")).isNaN();
+    }
+
+    @Test
+    public void getRatesShouldReturnSourceRates() {
+        // given
+        final Map<String, Map<String, BigDecimal>> rates = singletonMap("USD",
+                singletonMap("EUR", BigDecimal.valueOf(0.8)));
+
+        // when and then
+        assertThat(CurrencyRateMatrix.of(rates).getRates()).isSameAs(rates);
+    }
+}
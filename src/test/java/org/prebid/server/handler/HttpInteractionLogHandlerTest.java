@@ -52,13 +52,16 @@ public class HttpInteractionLogHandlerTest {
                 .add("endpoint", "auction")
                 .add("statusCode", "400")
                 .add("account", "123")
-                .add("limit", "2"));
+                .add("bidder", "bidder1")
+                .add("limit", "2")
+                .add("samplingRate", "0.5"));
 
         // when
         handler.handle(routingContext);
 
         // then
-        verify(httpInteractionLogger).setSpec(HttpLogSpec.of(HttpLogSpec.Endpoint.auction, 400, "123", 2));
+        verify(httpInteractionLogger).setSpec(
+                HttpLogSpec.of(HttpLogSpec.Endpoint.auction, 400, "123", "bidder1", 2, 0.5));
     }
 
     @Test
@@ -71,7 +74,7 @@ public class HttpInteractionLogHandlerTest {
         handler.handle(routingContext);
 
         // then
-        verify(httpInteractionLogger).setSpec(eq(HttpLogSpec.of(null, null, null, 2)));
+        verify(httpInteractionLogger).setSpec(eq(HttpLogSpec.of(null, null, null, null, 2, 1.0)));
     }
 
     @Test
@@ -171,4 +174,21 @@ public class HttpInteractionLogHandlerTest {
 
         verifyZeroInteractions(httpInteractionLogger);
     }
+
+    @Test
+    public void shouldRespondWithErrorWhenSamplingRateNotValid() {
+        // given
+        given(httpRequest.params()).willReturn(MultiMap.caseInsensitiveMultiMap()
+                .add("limit", "2")
+                .add("samplingRate", "0"));
+
+        // when
+        handler.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(eq(400));
+        verify(httpResponse).end(eq("Parameter 'samplingRate' must be greater than 0 and not greater than 1"));
+
+        verifyZeroInteractions(httpInteractionLogger);
+    }
 }
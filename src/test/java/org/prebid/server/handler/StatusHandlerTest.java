@@ -10,6 +10,7 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
 import org.prebid.server.health.HealthChecker;
+import org.prebid.server.health.WarmupHealthChecker;
 import org.prebid.server.health.model.StatusResponse;
 
 import java.time.Clock;
@@ -19,7 +20,9 @@ import java.util.Map;
 import java.util.TreeMap;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
@@ -35,6 +38,8 @@ public class StatusHandlerTest extends VertxTest {
     private HttpServerResponse httpResponse;
     @Mock
     private HealthChecker healthCheck;
+    @Mock
+    private WarmupHealthChecker warmupHealthChecker;
 
     private StatusHandler statusHandler;
 
@@ -50,6 +55,7 @@ public class StatusHandlerTest extends VertxTest {
         statusHandler = new StatusHandler(Arrays.asList(healthCheck, healthCheck, healthCheck), jacksonMapper);
 
         given(routingContext.response()).willReturn(httpResponse);
+        given(httpResponse.setStatusCode(anyInt())).willReturn(httpResponse);
         given(healthCheck.name()).willReturn("application", "db", "other");
         given(healthCheck.status()).willReturn(StatusResponse.of("ready", null),
                 StatusResponse.of("UP", testTime), StatusResponse.of("DOWN", testTime));
@@ -63,9 +69,28 @@ public class StatusHandlerTest extends VertxTest {
         expectedMap.put("db", StatusResponse.of("UP", testTime));
         expectedMap.put("other", StatusResponse.of("DOWN", testTime));
 
+        verify(httpResponse).setStatusCode(eq(200));
         verify(httpResponse).end(eq(mapper.writeValueAsString(expectedMap)));
     }
 
+    @Test
+    public void shouldRespondWithServiceUnavailableWhenWarmupIsNotCompleted() {
+        // given
+        statusHandler = new StatusHandler(singletonList(warmupHealthChecker), jacksonMapper);
+
+        given(routingContext.response()).willReturn(httpResponse);
+        given(httpResponse.setStatusCode(anyInt())).willReturn(httpResponse);
+        given(warmupHealthChecker.name()).willReturn("warmup");
+        given(warmupHealthChecker.status()).willReturn(StatusResponse.of("DOWN", null));
+        given(warmupHealthChecker.isCompleted()).willReturn(false);
+
+        // when
+        statusHandler.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(eq(503));
+    }
+
     @Test
     public void shouldRespondWithNoContentWhenMessageWasNotDefined() {
         statusHandler = new StatusHandler(emptyList(), jacksonMapper);
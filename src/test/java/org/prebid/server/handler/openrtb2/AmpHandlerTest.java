@@ -42,6 +42,7 @@ import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.overload.OverloadController;
 import org.prebid.server.proto.openrtb.ext.ExtPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
@@ -95,6 +96,8 @@ public class AmpHandlerTest extends VertxTest {
     @Mock
     private AnalyticsReporterDelegator analyticsReporterDelegator;
     @Mock
+    private OverloadController overloadController;
+    @Mock
     private Metrics metrics;
     @Mock
     private Clock clock;
@@ -136,6 +139,7 @@ public class AmpHandlerTest extends VertxTest {
                 ampRequestFactory,
                 exchangeService,
                 analyticsReporterDelegator,
+                overloadController,
                 metrics,
                 clock,
                 bidderCatalog,
@@ -405,8 +409,8 @@ public class AmpHandlerTest extends VertxTest {
 
         given(exchangeService.holdAuction(any()))
                 .willReturn(givenBidResponseWithExt(mapper.valueToTree(
-                        ExtBidResponse.of(ExtResponseDebug.of(null, auctionContext.getBidRequest()), null, null, null,
-                                null, null, ExtBidResponsePrebid.of(1000L)))));
+                        ExtBidResponse.of(ExtResponseDebug.of(null, auctionContext.getBidRequest(), null), null,
+                                null, null, null, null, ExtBidResponsePrebid.of(1000L)))));
 
         // when
         ampHandler.handle(routingContext);
@@ -428,8 +432,8 @@ public class AmpHandlerTest extends VertxTest {
 
         given(exchangeService.holdAuction(any()))
                 .willReturn(givenBidResponseWithExt(mapper.valueToTree(
-                        ExtBidResponse.of(ExtResponseDebug.of(null, auctionContext.getBidRequest()), null, null, null,
-                                null, null, ExtBidResponsePrebid.of(1000L)))));
+                        ExtBidResponse.of(ExtResponseDebug.of(null, auctionContext.getBidRequest(), null), null,
+                                null, null, null, null, ExtBidResponsePrebid.of(1000L)))));
 
         // when
         ampHandler.handle(routingContext);
@@ -747,6 +751,47 @@ public class AmpHandlerTest extends VertxTest {
                 .build());
     }
 
+    @Test
+    public void shouldRespondWithServiceUnavailableIfAccountIsOverloaded() {
+        // given
+        given(httpRequest.getParam("account")).willReturn("accountId");
+        given(overloadController.shouldReject(any(), any())).willReturn(true);
+        given(overloadController.getRetryAfterSeconds()).willReturn(1L);
+        given(httpResponse.putHeader(any(CharSequence.class), any(CharSequence.class))).willReturn(httpResponse);
+
+        // when
+        ampHandler.handle(routingContext);
+
+        // then
+        verify(overloadController).shouldReject(MetricName.amp, "accountId");
+        verifyZeroInteractions(ampRequestFactory, exchangeService, analyticsReporterDelegator);
+        verify(httpResponse).putHeader(HttpUtil.RETRY_AFTER_HEADER, "1");
+        verify(httpResponse).setStatusCode(eq(503));
+        verify(metrics).updateRequestTypeMetric(eq(MetricName.amp), eq(MetricName.overloaded));
+    }
+
+    @Test
+    public void shouldNotPassEventToAnalyticsReporterIfDegraded() {
+        // given
+        given(ampRequestFactory.fromRequest(any(), anyLong()))
+                .willReturn(Future.succeededFuture(givenAuctionContext(identity())));
+
+        given(exchangeService.holdAuction(any()))
+                .willReturn(givenBidResponse(mapper.valueToTree(
+                        ExtPrebid.of(ExtBidPrebid.builder().build(), null))));
+
+        given(overloadController.shouldDegrade(any(), any())).willReturn(true);
+
+        // when
+        ampHandler.handle(routingContext);
+
+        // then
+        verify(overloadController).auctionStarted();
+        verify(overloadController).auctionFinished();
+        verify(httpResponse).setStatusCode(eq(200));
+        verifyZeroInteractions(analyticsReporterDelegator);
+    }
+
     private AuctionContext givenAuctionContext(
             Function<BidRequest.BidRequestBuilder, BidRequest.BidRequestBuilder> bidRequestBuilderCustomizer) {
         final BidRequest bidRequest = bidRequestBuilderCustomizer.apply(BidRequest.builder()
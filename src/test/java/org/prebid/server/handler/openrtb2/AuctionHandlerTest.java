@@ -32,9 +32,11 @@ import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.exception.UnauthorizedAccountException;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.health.WarmupRequestMarker;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.overload.OverloadController;
 import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
 import org.prebid.server.proto.openrtb.ext.request.ExtMediaTypePriceGranularity;
 import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
@@ -43,6 +45,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestTargeting;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidResponse;
 import org.prebid.server.proto.openrtb.ext.response.ExtResponseDebug;
+import org.prebid.server.settings.model.Account;
 import org.prebid.server.util.HttpUtil;
 
 import java.math.BigDecimal;
@@ -83,6 +86,10 @@ public class AuctionHandlerTest extends VertxTest {
     @Mock
     private AnalyticsReporterDelegator analyticsReporterDelegator;
     @Mock
+    private OverloadController overloadController;
+    @Mock
+    private WarmupRequestMarker warmupRequestMarker;
+    @Mock
     private Metrics metrics;
     @Mock
     private Clock clock;
@@ -120,6 +127,8 @@ public class AuctionHandlerTest extends VertxTest {
                 auctionRequestFactory,
                 exchangeService,
                 analyticsReporterDelegator,
+                overloadController,
+                warmupRequestMarker,
                 metrics,
                 clock,
                 httpInteractionLogger,
@@ -310,7 +319,7 @@ public class AuctionHandlerTest extends VertxTest {
                 .build();
         given(exchangeService.holdAuction(any()))
                 .willReturn(Future.succeededFuture(BidResponse.builder()
-                        .ext(mapper.valueToTree(ExtBidResponse.of(ExtResponseDebug.of(null, resolvedRequest),
+                        .ext(mapper.valueToTree(ExtBidResponse.of(ExtResponseDebug.of(null, resolvedRequest, null),
                                 null, null, null, null, null, null)))
                         .build()));
 
@@ -634,6 +643,70 @@ public class AuctionHandlerTest extends VertxTest {
                 .build());
     }
 
+    @Test
+    public void shouldRespondWithServiceUnavailableIfOverloaded() {
+        // given
+        given(overloadController.shouldReject(any(), any())).willReturn(true);
+        given(overloadController.getRetryAfterSeconds()).willReturn(5L);
+        given(httpResponse.putHeader(any(CharSequence.class), any(CharSequence.class))).willReturn(httpResponse);
+
+        // when
+        auctionHandler.handle(routingContext);
+
+        // then
+        verify(overloadController).shouldReject(MetricName.openrtb2web, null);
+        verifyZeroInteractions(auctionRequestFactory, exchangeService, analyticsReporterDelegator);
+        verify(httpResponse).putHeader(HttpUtil.RETRY_AFTER_HEADER, "5");
+        verify(httpResponse).setStatusCode(eq(503));
+        verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.overloaded));
+        verify(overloadController, never()).auctionStarted();
+    }
+
+    @Test
+    public void shouldTrackAuctionInFlightAndSkipAnalyticsIfDegraded() {
+        // given
+        final AuctionContext auctionContext = givenAuctionContext(identity(),
+                builder -> builder.account(Account.builder().id("accountId").build()));
+        given(auctionRequestFactory.fromRequest(any(), anyLong()))
+                .willReturn(Future.succeededFuture(auctionContext));
+
+        given(exchangeService.holdAuction(any()))
+                .willReturn(Future.succeededFuture(BidResponse.builder().build()));
+
+        given(overloadController.shouldDegrade(any(), any())).willReturn(true);
+
+        // when
+        auctionHandler.handle(routingContext);
+
+        // then
+        verify(overloadController).auctionStarted();
+        verify(overloadController).auctionFinished();
+        verify(overloadController).shouldDegrade(MetricName.openrtb2web, "accountId");
+        verify(httpResponse).setStatusCode(eq(200));
+        verifyZeroInteractions(analyticsReporterDelegator);
+    }
+
+    @Test
+    public void shouldNotUpdateMetricsAndPassEventToAnalyticsReporterForWarmupRequest() {
+        // given
+        given(warmupRequestMarker.isWarmupRequest(any())).willReturn(true);
+
+        given(auctionRequestFactory.fromRequest(any(), anyLong()))
+                .willReturn(Future.succeededFuture(givenAuctionContext(identity())));
+
+        given(exchangeService.holdAuction(any()))
+                .willReturn(Future.succeededFuture(BidResponse.builder().build()));
+
+        // when
+        auctionHandler.handle(routingContext);
+
+        // then
+        verify(warmupRequestMarker).isWarmupRequest(same(routingContext));
+        verify(httpResponse).setStatusCode(eq(200));
+        verify(httpResponse).end(anyString());
+        verifyZeroInteractions(metrics, analyticsReporterDelegator);
+    }
+
     @Test
     public void shouldTolerateDuplicateQueryParamNames() {
         // given
@@ -0,0 +1,164 @@
+package org.prebid.server.health;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileSystem;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class WarmupHealthCheckerTest extends VertxTest {
+
+    private static final String REQUESTS_FILE = "/path/to/requests.json";
+    private static final String AUCTION_URL = "http://localhost:8080/openrtb2/auction";
+    private static final String REQUEST_1 = "{\"id\":\"1\",\"imp\":[{\"ext\":{\"prebid\":"
+            + "{\"storedauctionresponse\":{\"id\":\"1\"}}}}]}";
+    private static final String REQUEST_2 = "{\"id\":\"2\",\"imp\":[{\"ext\":{\"prebid\":"
+            + "{\"storedauctionresponse\":{\"id\":\"2\"}}}}]}";
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private FileSystem fileSystem;
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private Metrics metrics;
+
+    private WarmupHealthChecker warmupHealthChecker;
+
+    @Before
+    public void setUp() {
+        final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        warmupHealthChecker = new WarmupHealthChecker(REQUESTS_FILE, AUCTION_URL, 2, 1000L, fileSystem, httpClient,
+                new WarmupRequestMarker("token"), metrics, clock, jacksonMapper);
+    }
+
+    @Test
+    public void nameShouldReturnWarmup() {
+        assertThat(warmupHealthChecker.name()).isEqualTo("warmup");
+    }
+
+    @Test
+    public void statusShouldBeDownBeforeInitialization() {
+        assertThat(warmupHealthChecker.status().getStatus()).isEqualTo("DOWN");
+        assertThat(warmupHealthChecker.isCompleted()).isFalse();
+    }
+
+    @Test
+    public void initializeShouldReplayEachRequestForEachIterationAndReportUp() {
+        // given
+        givenRequestsFile(Future.succeededFuture(Buffer.buffer("[" + REQUEST_1 + "," + REQUEST_2 + "]")));
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)))
+                .willReturn(Future.failedFuture("timeout"));
+
+        // when
+        warmupHealthChecker.initialize();
+
+        // then
+        verify(httpClient, times(2)).post(eq(AUCTION_URL), any(), eq(REQUEST_1), eq(1000L));
+        verify(httpClient, times(2)).post(eq(AUCTION_URL), any(), eq(REQUEST_2), eq(1000L));
+        assertThat(warmupHealthChecker.status().getStatus()).isEqualTo("UP");
+        assertThat(warmupHealthChecker.isCompleted()).isTrue();
+    }
+
+    @Test
+    public void initializeShouldSendRequestsWithWarmupMarker() {
+        // given
+        givenRequestsFile(Future.succeededFuture(Buffer.buffer("[" + REQUEST_1 + "]")));
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+
+        // when
+        warmupHealthChecker.initialize();
+
+        // then
+        verify(httpClient, times(2)).post(anyString(),
+                argThat((MultiMap headers) -> "token".equals(headers.get(WarmupRequestMarker.WARMUP_HEADER))),
+                anyString(), anyLong());
+    }
+
+    @Test
+    public void initializeShouldSkipRequestsWithoutStoredAuctionResponsesForAllImps() {
+        // given
+        final String withoutImps = "{\"id\":\"3\"}";
+        final String withImpWithoutStoredResponse = "{\"id\":\"4\",\"imp\":["
+                + "{\"ext\":{\"prebid\":{\"storedauctionresponse\":{\"id\":\"1\"}}}},{\"id\":\"imp\"}]}";
+        givenRequestsFile(Future.succeededFuture(Buffer.buffer(
+                "[" + withoutImps + "," + REQUEST_1 + "," + withImpWithoutStoredResponse + "]")));
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+
+        // when
+        warmupHealthChecker.initialize();
+
+        // then
+        verify(httpClient, times(2)).post(eq(AUCTION_URL), any(), eq(REQUEST_1), eq(1000L));
+        verify(httpClient, times(2)).post(anyString(), any(), anyString(), anyLong());
+        assertThat(warmupHealthChecker.isCompleted()).isTrue();
+    }
+
+    @Test
+    public void initializeShouldUpdateWarmupMetrics() {
+        // given
+        givenRequestsFile(Future.succeededFuture(Buffer.buffer("[" + REQUEST_1 + "]")));
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)))
+                .willReturn(Future.failedFuture("timeout"));
+
+        // when
+        warmupHealthChecker.initialize();
+
+        // then
+        verify(metrics).updateWarmupMetrics(eq(0L), eq(0L), eq(1L));
+    }
+
+    @Test
+    public void initializeShouldReportUpWhenRequestsFileIsInvalid() {
+        // given
+        givenRequestsFile(Future.succeededFuture(Buffer.buffer("{}")));
+
+        // when
+        warmupHealthChecker.initialize();
+
+        // then
+        verify(httpClient, never()).post(anyString(), any(), anyString(), anyLong());
+        verify(metrics, never()).updateWarmupMetrics(anyLong(), anyLong(), anyLong());
+        assertThat(warmupHealthChecker.isCompleted()).isTrue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRequestsFile(AsyncResult<Buffer> result) {
+        given(fileSystem.readFile(anyString(), any())).willAnswer(invocation -> {
+            ((Handler<AsyncResult<Buffer>>) invocation.getArgument(1)).handle(result);
+            return fileSystem;
+        });
+    }
+}
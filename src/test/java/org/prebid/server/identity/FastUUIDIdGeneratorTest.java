@@ -0,0 +1,33 @@
+package org.prebid.server.identity;
+
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FastUUIDIdGeneratorTest {
+
+    @Test
+    public void shouldGenerateRandomVersionFourUUID() {
+        // given
+        final FastUUIDIdGenerator generator = new FastUUIDIdGenerator();
+
+        // when
+        final String id = generator.generateId();
+
+        // then
+        final UUID uuid = UUID.fromString(id);
+        assertThat(uuid.version()).isEqualTo(4);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldGenerateDifferentIds() {
+        // given
+        final FastUUIDIdGenerator generator = new FastUUIDIdGenerator();
+
+        // when and then
+        assertThat(generator.generateId()).isNotEqualTo(generator.generateId());
+    }
+}
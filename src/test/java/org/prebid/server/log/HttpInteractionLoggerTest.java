@@ -0,0 +1,193 @@
+package org.prebid.server.log;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Publisher;
+import com.iab.openrtb.request.Site;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.bidder.model.HttpCall;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.bidder.model.HttpResponse;
+import org.prebid.server.log.model.HttpLogSpec;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.Account;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class HttpInteractionLoggerTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private RoutingContext routingContext;
+    @Mock
+    private HttpServerRequest httpRequest;
+
+    private HttpInteractionLogger httpInteractionLogger;
+
+    @Before
+    public void setUp() {
+        given(routingContext.request()).willReturn(httpRequest);
+        given(routingContext.getBody()).willReturn(Buffer.buffer("{}"));
+        given(httpRequest.uri()).willReturn("/openrtb2/auction");
+
+        httpInteractionLogger = new HttpInteractionLogger(4, metrics);
+    }
+
+    @Test
+    public void shouldNotLogIfSpecIsNotSet() {
+        // when
+        httpInteractionLogger.maybeLogOpenrtb2Auction(givenAuctionContext("123"), routingContext, 200, "{}");
+
+        // then
+        assertThat(httpInteractionLogger.drain()).isZero();
+    }
+
+    @Test
+    public void shouldLogOnlyInteractionsMatchingSpec() {
+        // given
+        httpInteractionLogger.setSpec(HttpLogSpec.of(HttpLogSpec.Endpoint.auction, 400, "123", null, 10, 1.0));
+
+        // when
+        httpInteractionLogger.maybeLogOpenrtb2Auction(givenAuctionContext("123"), routingContext, 400, "{}");
+        httpInteractionLogger.maybeLogOpenrtb2Auction(givenAuctionContext("456"), routingContext, 400, "{}");
+        httpInteractionLogger.maybeLogOpenrtb2Auction(givenAuctionContext("123"), routingContext, 200, "{}");
+        httpInteractionLogger.maybeLogOpenrtb2Amp(givenAuctionContext("123"), routingContext, 400, "{}");
+
+        // then
+        assertThat(httpInteractionLogger.drain()).isOne();
+    }
+
+    @Test
+    public void shouldStopLoggingWhenLimitIsReached() {
+        // given
+        httpInteractionLogger.setSpec(HttpLogSpec.of(null, null, null, null, 2, 1.0));
+
+        // when
+        httpInteractionLogger.maybeLogOpenrtb2Auction(null, routingContext, 200, "{}");
+        httpInteractionLogger.maybeLogOpenrtb2Amp(null, routingContext, 200, "{}");
+        httpInteractionLogger.maybeLogOpenrtb2Auction(null, routingContext, 200, "{}");
+
+        // then
+        assertThat(httpInteractionLogger.drain()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldLogOnlyBidderCallsIfSpecHasBidder() {
+        // given
+        httpInteractionLogger.setSpec(HttpLogSpec.of(null, null, "123", "bidder", 10, 1.0));
+        final BidRequest bidRequest = BidRequest.builder()
+                .site(Site.builder().publisher(Publisher.builder().id("123").build()).build())
+                .build();
+
+        // when
+        httpInteractionLogger.maybeLogOpenrtb2Auction(givenAuctionContext("123"), routingContext, 200, "{}");
+        httpInteractionLogger.maybeLogBidderRequest("bidder", bidRequest, givenHttpCall());
+        httpInteractionLogger.maybeLogBidderRequest("otherBidder", bidRequest, givenHttpCall());
+        httpInteractionLogger.maybeLogBidderRequest("bidder", BidRequest.builder().build(), givenHttpCall());
+
+        // then
+        assertThat(httpInteractionLogger.drain()).isOne();
+    }
+
+    @Test
+    public void shouldCountDroppedInteractionsIfBufferIsFull() {
+        // given
+        httpInteractionLogger.setSpec(HttpLogSpec.of(null, null, null, null, 10, 1.0));
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            httpInteractionLogger.maybeLogOpenrtb2Auction(null, routingContext, 200, "{}");
+        }
+
+        // then
+        verify(metrics).updateHttpInteractionLogDroppedMetric();
+        assertThat(httpInteractionLogger.drain()).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldNotCountInteractionsSkippedBySampling() {
+        // given
+        httpInteractionLogger.setSpec(HttpLogSpec.of(null, null, null, null, 10, Double.MIN_VALUE));
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            httpInteractionLogger.maybeLogOpenrtb2Auction(null, routingContext, 200, "{}");
+        }
+
+        // then
+        assertThat(httpInteractionLogger.drain()).isZero();
+        verifyZeroInteractions(metrics);
+    }
+
+    @Test
+    public void closeShouldLetWriterThreadWriteBufferedInteractions() {
+        // given
+        httpInteractionLogger.setSpec(HttpLogSpec.of(null, null, null, null, 10, 1.0));
+        httpInteractionLogger.initialize();
+
+        // when
+        httpInteractionLogger.maybeLogOpenrtb2Auction(null, routingContext, 200, "{}");
+        httpInteractionLogger.maybeLogOpenrtb2Amp(null, routingContext, 200, "{}");
+        httpInteractionLogger.close();
+
+        // then
+        assertThat(httpInteractionLogger.drain()).isZero();
+    }
+
+    @Test
+    public void shouldNotResetSpecSetAfterInteractionMatchedPreviousSpec() {
+        // given
+        httpInteractionLogger.setSpec(HttpLogSpec.of(null, null, null, null, 1, 1.0));
+        httpInteractionLogger.maybeLogOpenrtb2Auction(null, routingContext, 200, "{}");
+
+        // when
+        httpInteractionLogger.setSpec(HttpLogSpec.of(null, null, null, null, 2, 1.0));
+        httpInteractionLogger.maybeLogOpenrtb2Auction(null, routingContext, 200, "{}");
+        httpInteractionLogger.maybeLogOpenrtb2Auction(null, routingContext, 200, "{}");
+        httpInteractionLogger.maybeLogOpenrtb2Auction(null, routingContext, 200, "{}");
+
+        // then
+        assertThat(httpInteractionLogger.drain()).isEqualTo(3);
+    }
+
+    @Test
+    public void toLineShouldWriteInteractionInSingleLineSkippingAbsentFields() {
+        // given
+        final HttpInteractionLogger.Interaction interaction = HttpInteractionLogger.Interaction.of(
+                "auction", null, "123", "/openrtb2/auction", 200, Buffer.buffer("{\n\"id\":\"1\"\r\n}"), "{}");
+
+        // when
+        final String line = HttpInteractionLogger.toLine(interaction);
+
+        // then
+        assertThat(line).isEqualTo("type=auction account=123 status=200 uri=/openrtb2/auction "
+                + "request={\\n\"id\":\"1\"\\r\\n} response={}");
+    }
+
+    private static AuctionContext givenAuctionContext(String accountId) {
+        return AuctionContext.builder().account(Account.builder().id(accountId).build()).build();
+    }
+
+    private static HttpCall<BidRequest> givenHttpCall() {
+        return HttpCall.success(
+                HttpRequest.<BidRequest>builder().method(HttpMethod.POST).uri("uri").body("requestBody").build(),
+                HttpResponse.of(200, null, "responseBody"),
+                null);
+    }
+}
@@ -0,0 +1,94 @@
+package org.prebid.server.log;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class MpscRingBufferTest {
+
+    @Test
+    public void creationShouldFailOnCapacityNotPowerOfTwo() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new MpscRingBuffer<>(6));
+    }
+
+    @Test
+    public void pollShouldReturnElementsInOfferOrder() {
+        // given
+        final MpscRingBuffer<String> buffer = new MpscRingBuffer<>(4);
+
+        // when
+        buffer.offer("first");
+        buffer.offer("second");
+
+        // then
+        assertThat(buffer.poll()).isEqualTo("first");
+        assertThat(buffer.poll()).isEqualTo("second");
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    public void offerShouldRejectElementsIfBufferIsFullAndAcceptAgainAfterPoll() {
+        // given
+        final MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(2);
+        buffer.offer(1);
+        buffer.offer(2);
+
+        // when and then
+        assertThat(buffer.offer(3)).isFalse();
+        assertThat(buffer.poll()).isEqualTo(1);
+        assertThat(buffer.offer(3)).isTrue();
+        assertThat(buffer.poll()).isEqualTo(2);
+        assertThat(buffer.poll()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldNotLoseOrDuplicateElementsOfferedConcurrently() throws InterruptedException {
+        // given
+        final int producers = 4;
+        final int elementsPerProducer = 10_000;
+        final MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(64);
+        final ExecutorService executor = Executors.newFixedThreadPool(producers);
+        final CountDownLatch done = new CountDownLatch(producers);
+        final AtomicInteger dropped = new AtomicInteger();
+
+        // when
+        for (int producer = 0; producer < producers; producer++) {
+            final int base = producer * elementsPerProducer;
+            executor.execute(() -> {
+                for (int i = 0; i < elementsPerProducer; i++) {
+                    if (!buffer.offer(base + i)) {
+                        dropped.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        final List<Integer> polled = new ArrayList<>();
+        while (done.getCount() > 0) {
+            final Integer element = buffer.poll();
+            if (element != null) {
+                polled.add(element);
+            }
+        }
+        Integer element;
+        while ((element = buffer.poll()) != null) {
+            polled.add(element);
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(polled).doesNotHaveDuplicates();
+        assertThat(polled.size() + dropped.get()).isEqualTo(producers * elementsPerProducer);
+    }
+}
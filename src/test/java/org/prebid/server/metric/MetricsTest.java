@@ -4,6 +4,7 @@ import com.codahale.metrics.Counter;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.Metric;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.iab.openrtb.request.Audio;
 import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.Imp;
@@ -410,6 +411,17 @@ public class MetricsTest {
         assertThat(metricRegistry.timer("request_time").getCount()).isOne();
     }
 
+    @Test
+    public void updateAuctionStageTimeMetricShouldUpdateTimerInNanoseconds() {
+        // when
+        metrics.updateAuctionStageTimeMetric(MetricName.openrtb2web, MetricName.bidder_responses, 1500L);
+
+        // then
+        final Timer timer = metricRegistry.timer("auction_stages.openrtb2-web.bidder_responses");
+        assertThat(timer.getCount()).isOne();
+        assertThat(timer.getSnapshot().getMax()).isEqualTo(1500L);
+    }
+
     @Test
     public void updateRequestTypeMetricShouldIncrementMetric() {
         // when
@@ -990,6 +1002,48 @@ public class MetricsTest {
         assertThat(metricRegistry.gauge("currency-rates.stale.count", () -> null).getValue()).isEqualTo(1L);
     }
 
+    @Test
+    public void shouldCreateOverloadGaugeMetrics() {
+        // when
+        metrics.createOverloadGauges(() -> 1L, () -> 20L, () -> 300L, () -> 4000L);
+
+        // then
+        assertThat(metricRegistry.gauge("overload.level", () -> null).getValue()).isEqualTo(1L);
+        assertThat(metricRegistry.gauge("overload.event_loop_lag", () -> null).getValue()).isEqualTo(20L);
+        assertThat(metricRegistry.gauge("overload.in_flight_auctions", () -> null).getValue()).isEqualTo(300L);
+        assertThat(metricRegistry.gauge("overload.pending_bidder_requests", () -> null).getValue()).isEqualTo(4000L);
+    }
+
+    @Test
+    public void updateOverloadDegradedMetricShouldIncrementMetrics() {
+        // when
+        metrics.updateOverloadDegradedMetric(MetricName.amp);
+
+        // then
+        assertThat(metricRegistry.counter("overload.degraded").getCount()).isOne();
+        assertThat(metricRegistry.counter("requests.degraded.amp").getCount()).isOne();
+    }
+
+    @Test
+    public void updateHttpInteractionLogDroppedMetricShouldIncrementMetric() {
+        // when
+        metrics.updateHttpInteractionLogDroppedMetric();
+
+        // then
+        assertThat(metricRegistry.counter("http_interaction_log.dropped").getCount()).isOne();
+    }
+
+    @Test
+    public void updateWarmupMetricsShouldCreateGauges() {
+        // when
+        metrics.updateWarmupMetrics(1000L, 5L, 2L);
+
+        // then
+        assertThat(metricRegistry.gauge("warmup.duration", () -> null).getValue()).isEqualTo(1000L);
+        assertThat(metricRegistry.gauge("warmup.latency", () -> null).getValue()).isEqualTo(5L);
+        assertThat(metricRegistry.gauge("warmup.failed", () -> null).getValue()).isEqualTo(2L);
+    }
+
     @Test
     public void updateSettingsCacheRefreshTimeShouldUpdateTimer() {
         // when
@@ -1002,6 +1056,18 @@ public class MetricsTest {
                 .isEqualTo(1);
     }
 
+    @Test
+    public void updateSettingsCacheRefreshChangesMetricsShouldIncrementMetrics() {
+        // when
+        metrics.updateSettingsCacheRefreshChangesMetrics(MetricName.stored_request, MetricName.update, 1024L, 3L);
+
+        // then
+        assertThat(metricRegistry.counter("settings.cache.stored-request.refresh.update.response_size").getCount())
+                .isEqualTo(1024);
+        assertThat(metricRegistry.counter("settings.cache.stored-request.refresh.update.changed_entries").getCount())
+                .isEqualTo(3);
+    }
+
     @Test
     public void updateSettingsCacheRefreshErrorMetricShouldIncrementMetric() {
         // when
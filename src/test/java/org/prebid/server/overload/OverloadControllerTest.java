@@ -0,0 +1,358 @@
+package org.prebid.server.overload;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.spring.config.model.OverloadProperties;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class OverloadControllerTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Metrics metrics;
+
+    private OverloadProperties properties;
+
+    private OverloadController overloadController;
+
+    @Before
+    public void setUp() {
+        properties = givenProperties();
+        overloadController = new OverloadController(properties, vertx, metrics);
+    }
+
+    @Test
+    public void initializeShouldStartSamplingAndCreateGaugesIfEnabled() {
+        // when
+        overloadController.initialize();
+
+        // then
+        verify(vertx).setPeriodic(eq(100L), any());
+        verify(metrics).createOverloadGauges(any(), any(), any(), any());
+    }
+
+    @Test
+    public void initializeShouldDoNothingIfDisabled() {
+        // given
+        properties.setEnabled(false);
+        overloadController = new OverloadController(properties, vertx, metrics);
+
+        // when
+        overloadController.initialize();
+
+        // then
+        verifyZeroInteractions(vertx, metrics);
+    }
+
+    @Test
+    public void monitorCurrentEventLoopShouldFailIfCalledNotOnEventLoopThread() {
+        // when and then
+        assertThatIllegalStateException().isThrownBy(() -> overloadController.monitorCurrentEventLoop());
+    }
+
+    @Test
+    public void monitorCurrentEventLoopShouldDoNothingIfDisabled() {
+        // given
+        properties.setEnabled(false);
+        overloadController = new OverloadController(properties, vertx, metrics);
+
+        // when
+        overloadController.monitorCurrentEventLoop();
+
+        // then
+        verifyZeroInteractions(vertx);
+    }
+
+    @Test
+    public void maxEventLoopLagMsShouldReturnLagOfBusiestMonitoredEventLoop() throws InterruptedException {
+        // given
+        final Vertx realVertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(2));
+        try {
+            overloadController = new OverloadController(properties, realVertx, metrics);
+
+            final Context idleContext = realVertx.getOrCreateContext();
+            final Context busyContext = realVertx.getOrCreateContext();
+            final CountDownLatch monitoringStarted = new CountDownLatch(2);
+            idleContext.runOnContext(ignored -> {
+                overloadController.monitorCurrentEventLoop();
+                monitoringStarted.countDown();
+            });
+            busyContext.runOnContext(ignored -> {
+                overloadController.monitorCurrentEventLoop();
+                monitoringStarted.countDown();
+            });
+            assertThat(monitoringStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            busyContext.runOnContext(ignored -> sleep(600));
+            sleep(400);
+
+            // then
+            assertThat(overloadController.maxEventLoopLagMs()).isGreaterThanOrEqualTo(200);
+        } finally {
+            realVertx.close();
+        }
+    }
+
+    @Test
+    public void sampleShouldEscalateOnlyAfterConsecutiveSamplesAboveThreshold() {
+        // when
+        overloadController.sample(60);
+        overloadController.sample(60);
+        overloadController.sample(0);
+        overloadController.sample(60);
+        overloadController.sample(60);
+
+        // then
+        assertThat(overloadController.getLevel()).isEqualTo(OverloadLevel.normal);
+
+        // when
+        overloadController.sample(60);
+
+        // then
+        assertThat(overloadController.getLevel()).isEqualTo(OverloadLevel.degraded);
+    }
+
+    @Test
+    public void sampleShouldEscalateOneLevelAtTimeIfRejectThresholdIsReached() {
+        // when
+        sample(3, 250);
+
+        // then
+        assertThat(overloadController.getLevel()).isEqualTo(OverloadLevel.degraded);
+
+        // when
+        sample(2, 250);
+
+        // then
+        assertThat(overloadController.getLevel()).isEqualTo(OverloadLevel.degraded);
+
+        // when
+        overloadController.sample(250);
+
+        // then
+        assertThat(overloadController.getLevel()).isEqualTo(OverloadLevel.rejecting);
+    }
+
+    @Test
+    public void sampleShouldTakeInFlightAuctionsAndPendingBidderRequestsIntoAccount() {
+        // given
+        IntStream.range(0, 20).forEach(ignored -> overloadController.auctionStarted());
+
+        // when
+        sample(3, 0);
+
+        // then
+        assertThat(overloadController.getLevel()).isEqualTo(OverloadLevel.degraded);
+
+        // given
+        IntStream.range(0, 200).forEach(ignored -> overloadController.bidderRequestStarted());
+
+        // when
+        sample(3, 0);
+
+        // then
+        assertThat(overloadController.getLevel()).isEqualTo(OverloadLevel.rejecting);
+    }
+
+    @Test
+    public void sampleShouldStayOverloadedWhileSignalIsAboveRecoveryRatioOfThreshold() {
+        // given
+        sample(3, 60);
+
+        // when
+        sample(10, 45);
+
+        // then
+        assertThat(overloadController.getLevel()).isEqualTo(OverloadLevel.degraded);
+    }
+
+    @Test
+    public void sampleShouldRecoverOneLevelAtTimeAfterConsecutiveSamplesBelowRecoveryThreshold() {
+        // given
+        sample(6, 250);
+
+        // when
+        sample(4, 0);
+        overloadController.sample(170);
+        sample(4, 0);
+
+        // then
+        assertThat(overloadController.getLevel()).isEqualTo(OverloadLevel.rejecting);
+
+        // when
+        overloadController.sample(0);
+
+        // then
+        assertThat(overloadController.getLevel()).isEqualTo(OverloadLevel.degraded);
+
+        // when
+        sample(5, 0);
+
+        // then
+        assertThat(overloadController.getLevel()).isEqualTo(OverloadLevel.normal);
+    }
+
+    @Test
+    public void shouldRejectAndDegradeDependingOnLevel() {
+        // then
+        assertThat(overloadController.shouldDegrade(MetricName.openrtb2web, null)).isFalse();
+        assertThat(overloadController.shouldReject(MetricName.openrtb2web, null)).isFalse();
+
+        // when
+        sample(3, 60);
+
+        // then
+        assertThat(overloadController.shouldDegrade(MetricName.openrtb2web, null)).isTrue();
+        assertThat(overloadController.shouldReject(MetricName.openrtb2web, null)).isFalse();
+
+        // when
+        sample(3, 250);
+
+        // then
+        assertThat(overloadController.shouldDegrade(MetricName.openrtb2web, null)).isTrue();
+        assertThat(overloadController.shouldReject(MetricName.openrtb2web, null)).isTrue();
+    }
+
+    @Test
+    public void shouldShiftDecisionsByEndpointAndAccountPriority() {
+        // given
+        properties.setEndpointPriorities(singletonMap("amp", OverloadPriority.high));
+        properties.setAccountPriorities(singletonMap("lowAccount", OverloadPriority.low));
+        overloadController = new OverloadController(properties, vertx, metrics);
+
+        // when
+        sample(3, 60);
+
+        // then
+        assertThat(overloadController.shouldDegrade(MetricName.amp, null)).isFalse();
+        assertThat(overloadController.shouldReject(MetricName.openrtb2app, "lowAccount")).isTrue();
+        assertThat(overloadController.shouldReject(MetricName.amp, "lowAccount")).isTrue();
+
+        // when
+        sample(3, 250);
+
+        // then
+        assertThat(overloadController.shouldDegrade(MetricName.amp, "otherAccount")).isTrue();
+        assertThat(overloadController.shouldReject(MetricName.amp, "otherAccount")).isFalse();
+    }
+
+    @Test
+    public void isLowPriorityBidderShouldReturnTrueForConfiguredBidders() {
+        // expect
+        assertThat(overloadController.isLowPriorityBidder("lowBidder")).isTrue();
+        assertThat(overloadController.isLowPriorityBidder("bidder")).isFalse();
+    }
+
+    /**
+     * Simulates 100 auctions arriving every sample interval, each taking 10 intervals to complete. Without admission
+     * control 1000 auctions would be in flight, which is far above thresholds.
+     */
+    @Test
+    public void shouldKeepInFlightAuctionsBoundedUnderSimulatedOverloadAndRecoverAfterIt() {
+        // given
+        final Deque<Integer> admittedPerInterval = new ArrayDeque<>();
+        int maxInFlight = 0;
+        int rejected = 0;
+
+        // when
+        for (int interval = 0; interval < 100; interval++) {
+            int admitted = 0;
+            for (int i = 0; i < 100; i++) {
+                if (overloadController.shouldReject(MetricName.openrtb2web, null)) {
+                    rejected++;
+                } else {
+                    overloadController.auctionStarted();
+                    admitted++;
+                }
+            }
+            admittedPerInterval.addLast(admitted);
+            if (admittedPerInterval.size() > 10) {
+                IntStream.range(0, admittedPerInterval.removeFirst())
+                        .forEach(ignored -> overloadController.auctionFinished());
+            }
+            maxInFlight = Math.max(maxInFlight, admittedPerInterval.stream().mapToInt(Integer::intValue).sum());
+
+            overloadController.sample(0);
+        }
+
+        // then
+        assertThat(rejected).isPositive();
+        assertThat(maxInFlight).isLessThan(1000);
+        assertThat(overloadController.getLevel()).isNotEqualTo(OverloadLevel.normal);
+
+        // when
+        while (!admittedPerInterval.isEmpty()) {
+            IntStream.range(0, admittedPerInterval.removeFirst())
+                    .forEach(ignored -> overloadController.auctionFinished());
+        }
+        sample(10, 0);
+
+        // then
+        assertThat(overloadController.getLevel()).isEqualTo(OverloadLevel.normal);
+        assertThat(overloadController.shouldReject(MetricName.openrtb2web, null)).isFalse();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void sample(int times, long eventLoopLagMs) {
+        IntStream.range(0, times).forEach(ignored -> overloadController.sample(eventLoopLagMs));
+    }
+
+    private static OverloadProperties givenProperties() {
+        final OverloadProperties.Thresholds degrade = new OverloadProperties.Thresholds();
+        degrade.setEventLoopLagMs(50L);
+        degrade.setInFlightAuctions(20);
+        degrade.setPendingBidderRequests(100);
+
+        final OverloadProperties.Thresholds reject = new OverloadProperties.Thresholds();
+        reject.setEventLoopLagMs(200L);
+        reject.setInFlightAuctions(200);
+        reject.setPendingBidderRequests(200);
+
+        final OverloadProperties properties = new OverloadProperties();
+        properties.setEnabled(true);
+        properties.setSampleIntervalMs(100L);
+        properties.setActivationSamples(3);
+        properties.setRecoverySamples(5);
+        properties.setRecoveryRatio(0.8);
+        properties.setRetryAfterSeconds(1L);
+        properties.setDegrade(degrade);
+        properties.setReject(reject);
+        properties.setLowPriorityBidders(singletonList("lowBidder"));
+        return properties;
+    }
+}
@@ -20,7 +20,11 @@ import org.prebid.server.settings.model.StoredResponseDataResult;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
@@ -238,6 +242,47 @@ public class CachingApplicationSettingsTest {
         verifyNoMoreInteractions(applicationSettings);
     }
 
+    @Test
+    public void getStoredResponsesShouldReturnResultFromCacheOnSuccessiveCalls() {
+        // given
+        given(applicationSettings.getStoredResponses(eq(singleton("id")), same(timeout)))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("id", "json"), emptyList())));
+
+        // when
+        cachingApplicationSettings.getStoredResponses(singleton("id"), timeout);
+        final Future<StoredResponseDataResult> future =
+                cachingApplicationSettings.getStoredResponses(singleton("id"), timeout);
+
+        // then
+        verify(applicationSettings).getStoredResponses(eq(singleton("id")), same(timeout));
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result()).isEqualTo(StoredResponseDataResult.of(singletonMap("id", "json"), emptyList()));
+    }
+
+    @Test
+    public void getStoredResponsesShouldDelegateOnlyMissedIds() {
+        // given
+        given(applicationSettings.getStoredResponses(anySet(), same(timeout)))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("id1", "json1"), emptyList())))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("id2", "json2"), singletonList("error"))));
+
+        // when
+        cachingApplicationSettings.getStoredResponses(singleton("id1"), timeout);
+        final Future<StoredResponseDataResult> future =
+                cachingApplicationSettings.getStoredResponses(new HashSet<>(asList("id1", "id2")), timeout);
+
+        // then
+        verify(applicationSettings).getStoredResponses(eq(singleton("id2")), same(timeout));
+        final Map<String, String> expectedIdToStoredResponses = new HashMap<>();
+        expectedIdToStoredResponses.put("id1", "json1");
+        expectedIdToStoredResponses.put("id2", "json2");
+        assertThat(future.result())
+                .isEqualTo(StoredResponseDataResult.of(expectedIdToStoredResponses, singletonList("error")));
+    }
+
     @Test
     public void getStoredResponseShouldPropagateFailure() {
         // given
@@ -4,6 +4,9 @@ import org.junit.Before;
 import org.junit.Test;
 import org.prebid.server.settings.model.StoredItem;
 
+import java.util.Set;
+
+import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -75,4 +78,47 @@ public class SettingsCacheTest {
         assertThat(settingsCache.getImpCache()).hasSize(1)
                 .containsEntry("impId2", singleton(StoredItem.of(null, "impValue2")));
     }
+
+    @Test
+    public void invalidateResponsesShouldRemoveResponsesFromCache() {
+        // given
+        settingsCache.saveResponses(singletonMap("respId1", "respValue1"));
+        settingsCache.saveResponses(singletonMap("respId2", "respValue2"));
+
+        // when
+        settingsCache.invalidateResponses(singletonList("respId1"));
+
+        // then
+        assertThat(settingsCache.getResponseCache()).hasSize(1)
+                .containsEntry("respId2", "respValue2");
+    }
+
+    @Test
+    public void saveAndInvalidateShouldReturnNumberOfChangedEntries() {
+        // given
+        settingsCache.save(singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+
+        // when
+        final int saved = settingsCache.save(singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue2"));
+        final int invalidated = settingsCache.invalidate(asList("reqId1", "reqId2"), singletonList("impId2"));
+
+        // then
+        assertThat(saved).isOne();
+        assertThat(invalidated).isOne();
+    }
+
+    @Test
+    public void saveShouldKeepCachedItemsIfTheyAreNotChanged() {
+        // given
+        settingsCache.save(singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+        final Set<StoredItem> cachedRequest = settingsCache.getRequestCache().get("reqId1");
+
+        // when
+        settingsCache.save(singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue2"));
+
+        // then
+        assertThat(settingsCache.getRequestCache().get("reqId1")).isSameAs(cachedRequest);
+        assertThat(settingsCache.getImpCache()).hasSize(1)
+                .containsEntry("impId1", singleton(StoredItem.of(null, "impValue2")));
+    }
 }
@@ -12,11 +12,15 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.mockito.stubbing.Answer;
 import org.prebid.server.VertxTest;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.CacheNotificationListener;
+import org.prebid.server.settings.SettingsCache;
 import org.prebid.server.settings.proto.response.HttpRefreshResponse;
 import org.prebid.server.vertx.http.HttpClient;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 
+import java.time.Clock;
 import java.util.Map;
 
 import static java.util.Collections.emptyList;
@@ -48,6 +52,8 @@ public class HttpPeriodicRefreshServiceTest extends VertxTest {
     private HttpClient httpClient;
     @Mock
     private Vertx vertx;
+    @Mock
+    private Metrics metrics;
 
     private HttpClientResponse updatedResponse;
     private Map<String, String> expectedRequests = singletonMap("id1", "{\"field1\":\"field-value1\"}");
@@ -167,11 +173,70 @@ public class HttpPeriodicRefreshServiceTest extends VertxTest {
         verify(httpClient).get(startsWith("http://stored-requests.prebid.com?amp=true&last-modified="), anyLong());
     }
 
-    private static void createAndInitService(CacheNotificationListener notificationListener,
-                                             String url, long refreshPeriod, long timeout,
-                                             Vertx vertx, HttpClient httpClient) {
+    @Test
+    public void shouldUpdateRefreshMetrics() {
+        // given
+        given(vertx.setPeriodic(anyLong(), any()))
+                .willAnswer(withSelfAndPassObjectToHandler(1L));
+
+        // when
+        createAndInitService(new SettingsCache(1000, 100), ENDPOINT_URL,
+                1000, 2000, vertx, httpClient);
+
+        // then
+        verify(metrics).updateSettingsCacheRefreshTime(eq(MetricName.stored_request), eq(MetricName.initialize),
+                anyLong());
+        verify(metrics).updateSettingsCacheRefreshChangesMetrics(eq(MetricName.stored_request),
+                eq(MetricName.initialize), anyLong(), eq(2L));
+        // update deletes 'id1' and repeats unchanged 'id2'
+        verify(metrics).updateSettingsCacheRefreshChangesMetrics(eq(MetricName.stored_request),
+                eq(MetricName.update), eq((long) updatedResponse.getBody().length()), eq(1L));
+    }
+
+    @Test
+    public void shouldNotCountUnchangedEntriesInRefreshMetrics() throws JsonProcessingException {
+        // given
+        updatedResponse = HttpClientResponse.of(200, null,
+                mapper.writeValueAsString(HttpRefreshResponse.of(
+                        singletonMap("id1", mapper.createObjectNode().put("field1", "field-value1")),
+                        singletonMap("id2", mapper.createObjectNode().put("field2", "field-value2")))));
+
+        given(vertx.setPeriodic(anyLong(), any()))
+                .willAnswer(withSelfAndPassObjectToHandler(1L));
+        given(httpClient.get(contains("?last-modified="), anyLong()))
+                .willReturn(Future.succeededFuture(updatedResponse));
+
+        // when
+        createAndInitService(new SettingsCache(1000, 100), ENDPOINT_URL,
+                1000, 2000, vertx, httpClient);
+
+        // then
+        verify(metrics).updateSettingsCacheRefreshChangesMetrics(eq(MetricName.stored_request),
+                eq(MetricName.update), anyLong(), eq(0L));
+    }
+
+    @Test
+    public void shouldUpdateRefreshErrorMetricOnFailure() {
+        // given
+        given(httpClient.get(anyString(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(500, null, null)));
+
+        // when
+        createAndInitService(cacheNotificationListener, ENDPOINT_URL,
+                -1, 2000, vertx, httpClient);
+
+        // then
+        verify(metrics).updateSettingsCacheRefreshErrorMetric(eq(MetricName.stored_request),
+                eq(MetricName.initialize));
+        verify(cacheNotificationListener, never()).save(any(), any());
+    }
+
+    private void createAndInitService(CacheNotificationListener notificationListener,
+                                      String url, long refreshPeriod, long timeout,
+                                      Vertx vertx, HttpClient httpClient) {
         final HttpPeriodicRefreshService httpPeriodicRefreshService = new HttpPeriodicRefreshService(
-                url, refreshPeriod, timeout, notificationListener, vertx, httpClient, jacksonMapper);
+                url, refreshPeriod, timeout, MetricName.stored_request, notificationListener, vertx, httpClient,
+                metrics, Clock.systemUTC(), jacksonMapper);
         httpPeriodicRefreshService.initialize();
     }
 
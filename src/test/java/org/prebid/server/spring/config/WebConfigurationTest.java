@@ -0,0 +1,25 @@
+package org.prebid.server.spring.config;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WebConfigurationTest {
+
+    @Test
+    public void resolveHttpServerInstancesShouldReturnAvailableProcessorsIfConfiguredNumberIsNotPositive() {
+        // given
+        final int availableProcessors = Runtime.getRuntime().availableProcessors();
+
+        // when and then
+        assertThat(WebConfiguration.resolveHttpServerInstances(0)).isEqualTo(availableProcessors);
+        assertThat(WebConfiguration.resolveHttpServerInstances(-1)).isEqualTo(availableProcessors);
+    }
+
+    @Test
+    public void resolveHttpServerInstancesShouldReturnConfiguredNumberIfItIsPositive() {
+        // when and then
+        assertThat(WebConfiguration.resolveHttpServerInstances(1)).isOne();
+        assertThat(WebConfiguration.resolveHttpServerInstances(3)).isEqualTo(3);
+    }
+}
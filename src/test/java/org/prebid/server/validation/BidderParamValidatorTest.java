@@ -1,6 +1,7 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -423,6 +424,113 @@ public class BidderParamValidatorTest extends VertxTest {
         assertThat(messages.size()).isEqualTo(3);
     }
 
+    @Test
+    public void validateShouldReturnCachedValidationMessagesForSameBidderParams() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", 10, true,
+                jacksonMapper);
+
+        final ExtImpRubicon ext = ExtImpRubicon.builder().siteId(2).zoneId(3).build();
+        final ObjectNode node = mapper.valueToTree(ext);
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate(RUBICON, node);
+        node.put("accountId", 1);
+        final Set<String> sameMessages = bidderParamValidator.validate(RUBICON, mapper.valueToTree(ext));
+
+        // then
+        assertThat(messages).hasSize(1);
+        assertThat(sameMessages).isSameAs(messages);
+    }
+
+    @Test
+    public void validateShouldNotReturnCachedValidationMessagesForDifferentBidderParams() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", 10, true,
+                jacksonMapper);
+
+        final ExtImpRubicon invalidExt = ExtImpRubicon.builder().siteId(2).zoneId(3).build();
+        final ExtImpRubicon validExt = ExtImpRubicon.builder().accountId(1).siteId(2).zoneId(3).build();
+
+        // when
+        final Set<String> invalidMessages = bidderParamValidator.validate(RUBICON, mapper.valueToTree(invalidExt));
+        final Set<String> validMessages = bidderParamValidator.validate(RUBICON, mapper.valueToTree(validExt));
+
+        // then
+        assertThat(invalidMessages).hasSize(1);
+        assertThat(validMessages).isEmpty();
+    }
+
+    @Test
+    public void validateShouldNotReturnCachedValidationMessagesIfSameParamsNodeWasChanged() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", 10, true,
+                jacksonMapper);
+
+        final ObjectNode node = mapper.valueToTree(ExtImpRubicon.builder().siteId(2).zoneId(3).build());
+
+        // when
+        final Set<String> invalidMessages = bidderParamValidator.validate(RUBICON, node);
+        node.put("accountId", 1);
+        final Set<String> validMessages = bidderParamValidator.validate(RUBICON, node);
+
+        // then
+        assertThat(invalidMessages).hasSize(1);
+        assertThat(validMessages).isEmpty();
+    }
+
+    @Test
+    public void validateShouldValidateWithoutCachingIfBidderParamsCannotBeDigested() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", 10, true,
+                jacksonMapper);
+
+        final ObjectNode node = mapper.createObjectNode().putPOJO("accountId", new Object());
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate(RUBICON, node);
+        final Set<String> sameMessages = bidderParamValidator.validate(RUBICON, node);
+
+        // then
+        assertThat(messages).isNotEmpty();
+        assertThat(sameMessages).isEqualTo(messages).isNotSameAs(messages);
+    }
+
+    @Test
+    public void validateShouldNotCacheValidationMessagesIfCacheSizeIsZero() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", 0, true,
+                jacksonMapper);
+
+        final ExtImpRubicon ext = ExtImpRubicon.builder().siteId(2).zoneId(3).build();
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate(RUBICON, mapper.valueToTree(ext));
+        final Set<String> sameMessages = bidderParamValidator.validate(RUBICON, mapper.valueToTree(ext));
+
+        // then
+        assertThat(messages).hasSize(1);
+        assertThat(sameMessages).isEqualTo(messages).isNotSameAs(messages);
+    }
+
+    @Test
+    public void validateShouldNotValidateDisabledBidderWhenItsSchemaIsNotLoaded() {
+        // given
+        given(bidderCatalog.isActive(anyString())).willReturn(true);
+        given(bidderCatalog.isActive(eq(RUBICON))).willReturn(false);
+        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", 0, false,
+                jacksonMapper);
+
+        final ExtImpRubicon ext = ExtImpRubicon.builder().siteId(2).zoneId(3).build();
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate(RUBICON, mapper.valueToTree(ext));
+
+        // then
+        assertThat(messages).isEmpty();
+        assertThat(bidderParamValidator.schemas()).doesNotContain("\"rubicon\"").contains("\"appnexus\"");
+    }
+
     @Test
     public void schemaShouldReturnSchemasString() throws IOException {
         // given
@@ -0,0 +1,116 @@
+package org.prebid.server.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.junit.Before;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonNodeDigestTest extends VertxTest {
+
+    private JsonNodeDigest jsonNodeDigest;
+
+    @Before
+    public void setUp() {
+        jsonNodeDigest = JsonNodeDigest.create();
+    }
+
+    @Test
+    public void digestShouldReturnSameDigestForEqualTrees() throws IOException {
+        // given
+        final String json = "{\"accountId\":1001,\"inventory\":{\"rating\":[\"5-star\"]},\"flag\":true,\"n\":null}";
+
+        // when and then
+        assertThat(digestOf(mapper.readTree(json))).isEqualTo(digestOf(mapper.readTree(json)));
+    }
+
+    @Test
+    public void digestShouldReturnDifferentDigestsForNumbersOfDifferentTypes() throws IOException {
+        // when
+        final List<List<Long>> digests = Arrays.asList(
+                digestOf(mapper.readTree("1")),
+                digestOf(mapper.readTree("1.0")),
+                digestOf(mapper.readTree("\"1\"")),
+                digestOf(mapper.readTree("10000000000")));
+
+        // then
+        assertThat(digests).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void digestShouldReturnDifferentDigestsForDifferentlySplitStrings() throws IOException {
+        // when
+        final List<List<Long>> digests = Arrays.asList(
+                digestOf(mapper.readTree("[\"ab\",\"c\"]")),
+                digestOf(mapper.readTree("[\"a\",\"bc\"]")),
+                digestOf(mapper.readTree("[[\"a\"],\"b\"]")),
+                digestOf(mapper.readTree("{\"a\":\"b\"}")));
+
+        // then
+        assertThat(digests).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void digestShouldTellApartNonAsciiStrings() {
+        // when
+        final List<List<Long>> digests = Arrays.asList(
+                digestOf(mapper.getNodeFactory().textNode("\u0430\u0431")),
+                digestOf(mapper.getNodeFactory().textNode("\u0431\u0430")),
+                digestOf(mapper.getNodeFactory().textNode("\u0080\u0000")));
+
+        // then
+        assertThat(digests).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void digestShouldDigestTreesLargerThanBuffer() {
+        // given
+        final ArrayNode array = mapper.createArrayNode();
+        for (int i = 0; i < 1000; i++) {
+            array.add("value" + i);
+        }
+        final ArrayNode changedArray = array.deepCopy();
+        changedArray.set(999, mapper.getNodeFactory().textNode("changed"));
+
+        // when and then
+        assertThat(digestOf(array)).isEqualTo(digestOf(array.deepCopy())).isNotEqualTo(digestOf(changedArray));
+    }
+
+    @Test
+    public void digestShouldDependOnKey() {
+        // given
+        final JsonNode node = mapper.getNodeFactory().textNode("value");
+
+        // when
+        final JsonNodeDigest otherDigest = JsonNodeDigest.create(1L, 2L);
+        otherDigest.digest(node);
+
+        // then
+        assertThat(digestOf(node)).isNotEqualTo(Arrays.asList(otherDigest.getHigh(), otherDigest.getLow()));
+    }
+
+    @Test
+    public void digestShouldReturnFalseForTreeWithPojoAndNotAffectNextDigest() {
+        // given
+        final JsonNode node = mapper.getNodeFactory().textNode("value");
+        final List<Long> expectedDigest = digestOf(node);
+
+        // when
+        final boolean digested = jsonNodeDigest.digest(mapper.createArrayNode().add("value").addPOJO(new Object()));
+
+        // then
+        assertThat(digested).isFalse();
+        assertThat(digestOf(node)).isEqualTo(expectedDigest);
+    }
+
+    private List<Long> digestOf(JsonNode node) {
+        assertThat(jsonNodeDigest.digest(node)).isTrue();
+        return Arrays.asList(jsonNodeDigest.getHigh(), jsonNodeDigest.getLow());
+    }
+}
@@ -2677,6 +2677,48 @@ public class RequestValidatorTest extends VertxTest {
                 .containsOnly(0, 1);
     }
 
+    @Test
+    public void validateShouldReuseEncodedNativeRequestForSameRawNativeRequest() throws JsonProcessingException {
+        // given
+        requestValidator = new RequestValidator(bidderCatalog, bidderParamValidator, 10, jacksonMapper);
+
+        final BidRequest bidRequest = givenBidRequestWithNativeRequest(nativeReqCustomizer ->
+                nativeReqCustomizer.assets(asList(Asset.builder().build(), Asset.builder().build())));
+        final BidRequest sameBidRequest = givenBidRequestWithNativeRequest(nativeReqCustomizer ->
+                nativeReqCustomizer.assets(asList(Asset.builder().build(), Asset.builder().build())));
+
+        // when
+        final ValidationResult result = requestValidator.validate(bidRequest);
+        final ValidationResult sameResult = requestValidator.validate(sameBidRequest);
+
+        // then
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(sameResult.getErrors()).isEmpty();
+
+        final String nativeRequest = bidRequest.getImp().get(0).getXNative().getRequest();
+        assertThat(sameBidRequest.getImp().get(0).getXNative().getRequest()).isSameAs(nativeRequest);
+        assertThat(mapper.readValue(nativeRequest, Request.class).getAssets())
+                .extracting(Asset::getId)
+                .containsOnly(0, 1);
+    }
+
+    @Test
+    public void validateShouldNotReuseInvalidNativeRequest() throws JsonProcessingException {
+        // given
+        requestValidator = new RequestValidator(bidderCatalog, bidderParamValidator, 10, jacksonMapper);
+
+        final BidRequest bidRequest = givenBidRequestWithNativeRequest(nativeReqCustomizer ->
+                nativeReqCustomizer.assets(emptyList()));
+
+        // when
+        requestValidator.validate(bidRequest);
+        final ValidationResult result = requestValidator.validate(bidRequest);
+
+        // then
+        assertThat(result.getErrors()).hasSize(1)
+                .containsOnly("request.imp[0].native.request.assets must be an array containing at least one object");
+    }
+
     @Test
     public void validateShouldReturnValidationMessageWhenMetricTypeNullOrEmpty() {
         // given
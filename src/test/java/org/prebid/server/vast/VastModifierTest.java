@@ -176,6 +176,32 @@ public class VastModifierTest {
         assertThat(result).isEqualTo("<Impression><![CDATA[" + VAST_URL_TRACKING + "]]></Impression>");
     }
 
+    @Test
+    public void createBidVastXmlShouldBeInjectedWithImpressionVastUrlWhenEventsEnabledAndAdmSelfClosingTagPresent() {
+        // when
+        final String adm = "<Ad><Impression/><Creatives></Creatives></Ad>";
+        final String result = target.createBidVastXml(BIDDER, adm, BID_NURL, BID_ID, ACCOUNT_ID, eventsContext());
+
+        // then
+        assertThat(result).isEqualTo("<Ad><Impression><![CDATA[" + VAST_URL_TRACKING + "]]></Impression>"
+                + "<Creatives></Creatives></Ad>");
+    }
+
+    @Test
+    public void createBidVastXmlShouldInsertVastUrlWithRegexSpecialCharactersAsIs() {
+        // given
+        final String vastUrlTracking = "http://external-url/event?a=$1&b=\\d";
+        given(eventsService.vastUrlTracking(any(), any(), any(), any(), anyString())).willReturn(vastUrlTracking);
+
+        // when
+        final String adm = "<Impression>http:/test.com</Impression><Creatives></Creatives>";
+        final String result = target.createBidVastXml(BIDDER, adm, BID_NURL, BID_ID, ACCOUNT_ID, eventsContext());
+
+        // then
+        assertThat(result).isEqualTo("<Impression>http:/test.com</Impression>"
+                + "<Impression><![CDATA[" + vastUrlTracking + "]]></Impression><Creatives></Creatives>");
+    }
+
     @Test
     public void createBidVastXmlShouldNotModifyWhenEventsEnabledAndAdmHaveNoImpression() {
         // when
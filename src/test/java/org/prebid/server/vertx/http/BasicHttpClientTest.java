@@ -3,6 +3,7 @@ package org.prebid.server.vertx.http;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.CaseInsensitiveHeaders;
@@ -20,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.mockito.stubbing.Answer;
+import org.prebid.server.vertx.timer.TimerWheelDeadlineScheduler;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -185,6 +187,35 @@ public class BasicHttpClientTest {
                 .hasMessage("Timeout period of 1000ms has been exceeded");
     }
 
+    @Test
+    public void requestShouldFailIfHttpRequestTimedOutWithTimerWheelDeadlineScheduler(TestContext context) {
+        // given
+        final Vertx vertx = Vertx.vertx();
+        final BasicHttpClient httpClient = new BasicHttpClient(new TimerWheelDeadlineScheduler(vertx, 10L, 512),
+                vertx.createHttpClient());
+        final int serverPort = 7778;
+
+        startServer(serverPort, 2000L, 0L);
+
+        // when
+        final Async async = context.async();
+        final Promise<Future<?>> futurePromise = Promise.promise();
+        // request is sent from event loop, so its deadline is kept in the wheel rather than in a Vert.x timer
+        vertx.runOnContext(ignored -> {
+            final Future<?> future = httpClient.get("http://localhost:" + serverPort, 1000L);
+            future.setHandler(ar -> async.complete());
+            futurePromise.complete(future);
+        });
+        async.await();
+
+        // then
+        final Future<?> future = futurePromise.future().result();
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause())
+                .isInstanceOf(TimeoutException.class)
+                .hasMessageStartingWith("Timeout period of 1000ms has been exceeded");
+    }
+
     /**
      * The server returns entire response or body with delay.
      */
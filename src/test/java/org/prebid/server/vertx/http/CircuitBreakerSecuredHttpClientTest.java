@@ -206,6 +206,26 @@ public class CircuitBreakerSecuredHttpClientTest {
         assertThat(gaugeValueProvider.getAsLong()).isEqualTo(1);
     }
 
+    @Test
+    public void requestShouldUseSameCircuitBreakerForUrlsWithSameOrigin(TestContext context) {
+        // given
+        givenHttpClientReturning(HttpClientResponse.of(200, null, null));
+
+        // when
+        doRequest("http://www.some-host-1.com:80/path?param=value", context);
+        doRequest("http://user@www.some-host-1.com:80?param=value", context);
+        doRequest("http://www.some-host-1.com:80", context);
+        doRequest("http://www.some-host-1.com:8080/path", context);
+
+        // then
+        verify(metrics).createHttpClientCircuitBreakerGauge(eq("http_www_some_host_1_com_80"), any());
+        verify(metrics).createHttpClientCircuitBreakerGauge(eq("http_www_some_host_1_com_8080"), any());
+
+        final ArgumentCaptor<LongSupplier> gaugeValueProviderCaptor = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(metrics).createHttpClientCircuitBreakerNumberGauge(gaugeValueProviderCaptor.capture());
+        assertThat(gaugeValueProviderCaptor.getValue().getAsLong()).isEqualTo(2);
+    }
+
     @Test
     public void circuitBreakerGaugeShouldReportOpenedWhenCircuitOpen(TestContext context) {
         // given
@@ -18,10 +18,13 @@ import org.mockito.junit.MockitoRule;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.timer.TimerWheelDeadlineScheduler;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static java.util.Collections.emptyList;
@@ -65,7 +68,7 @@ public class BasicJdbcClientTest {
 
     @Test
     public void creationShouldFailOnNullArguments() {
-        assertThatNullPointerException().isThrownBy(() -> new BasicJdbcClient(null, null, null, null));
+        assertThatNullPointerException().isThrownBy(() -> new BasicJdbcClient((Vertx) null, null, null, null));
         assertThatNullPointerException().isThrownBy(() -> new BasicJdbcClient(vertx, null, null, null));
         assertThatNullPointerException().isThrownBy(() -> new BasicJdbcClient(vertx, vertxJdbcClient, null, null));
         assertThatNullPointerException().isThrownBy(() -> new BasicJdbcClient(vertx, vertxJdbcClient, metrics, null));
@@ -138,6 +141,35 @@ public class BasicJdbcClientTest {
                 .hasMessage("Timed out while executing SQL query");
     }
 
+    @Test
+    public void executeQueryShouldReturnFailedFutureIfItTakesLongerThanRemainingTimeoutWithTimerWheelDeadlineScheduler()
+            throws Exception {
+        // given
+        final Vertx realVertx = Vertx.vertx();
+        try {
+            jdbcClient = new BasicJdbcClient(new TimerWheelDeadlineScheduler(realVertx, 10L, 512), vertxJdbcClient,
+                    metrics, clock);
+            final Timeout shortTimeout = new TimeoutFactory(clock).create(100L);
+
+            // when
+            final CompletableFuture<Future<ResultSet>> result = new CompletableFuture<>();
+            // query is executed on event loop, so its deadline is kept in the wheel rather than in a Vert.x timer
+            realVertx.runOnContext(ignored -> {
+                final Future<ResultSet> future = jdbcClient.executeQuery("query", emptyList(), identity(),
+                        shortTimeout);
+                future.setHandler(ar -> result.complete(future));
+            });
+
+            // then
+            final Future<ResultSet> future = result.get(5L, TimeUnit.SECONDS);
+            assertThat(future.failed()).isTrue();
+            assertThat(future.cause()).isInstanceOf(TimeoutException.class)
+                    .hasMessage("Timed out while executing SQL query");
+        } finally {
+            realVertx.close();
+        }
+    }
+
     @Test
     public void executeQueryShouldReturnFailedFutureIfConnectionAcquisitionFails() {
         // given
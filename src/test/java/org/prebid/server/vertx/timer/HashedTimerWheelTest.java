@@ -0,0 +1,168 @@
+package org.prebid.server.vertx.timer;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class HashedTimerWheelTest {
+
+    private final HashedTimerWheel wheel = new HashedTimerWheel(10, 8, 0);
+
+    private final List<String> fired = new ArrayList<>();
+
+    @Test
+    public void creationShouldFailOnWheelSizeNotPowerOfTwo() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new HashedTimerWheel(10, 6, 0));
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveTick() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new HashedTimerWheel(0, 8, 0));
+    }
+
+    @Test
+    public void advanceShouldRunHandlerNotEarlierThanDelay() {
+        // given
+        wheel.schedule(25, () -> fired.add("deadline"), 0);
+
+        // when
+        wheel.advance(millis(29));
+
+        // then
+        assertThat(fired).isEmpty();
+
+        // when
+        wheel.advance(millis(30));
+
+        // then
+        assertThat(fired).containsOnly("deadline");
+        assertThat(wheel.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void advanceShouldRunHandlerWithZeroDelayOnNextTick() {
+        // given
+        wheel.schedule(0, () -> fired.add("deadline"), millis(5));
+
+        // when
+        wheel.advance(millis(9));
+
+        // then
+        assertThat(fired).isEmpty();
+
+        // when
+        wheel.advance(millis(10));
+
+        // then
+        assertThat(fired).containsOnly("deadline");
+    }
+
+    @Test
+    public void advanceShouldNotRunCancelledHandler() {
+        // given
+        final HashedTimerWheel.Entry cancelled = wheel.schedule(20, () -> fired.add("cancelled"), 0);
+        wheel.schedule(20, () -> fired.add("active"), 0);
+
+        // when
+        cancelled.cancel();
+        wheel.advance(millis(20));
+
+        // then
+        assertThat(fired).containsOnly("active");
+        assertThat(wheel.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void cancelShouldRemoveEntryFromWheel() {
+        // given
+        final HashedTimerWheel.Entry first = wheel.schedule(20, () -> fired.add("first"), 0);
+        final HashedTimerWheel.Entry second = wheel.schedule(20, () -> fired.add("second"), 0);
+
+        // when
+        first.cancel();
+        second.cancel();
+        second.cancel();
+
+        // then
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    public void advanceShouldKeepDeadlinesBeyondOneTurnUntilTheyExpire() {
+        // given
+        wheel.schedule(30, () -> fired.add("near"), 0);
+        wheel.schedule(110, () -> fired.add("far"), 0);
+
+        // when
+        wheel.advance(millis(100));
+
+        // then
+        assertThat(fired).containsOnly("near");
+        assertThat(wheel.size()).isOne();
+
+        // when
+        wheel.advance(millis(110));
+
+        // then
+        assertThat(fired).containsExactly("near", "far");
+    }
+
+    @Test
+    public void advanceShouldRunAllExpiredHandlersWhenLaggingBehindForSeveralTurns() {
+        // given
+        wheel.schedule(10, () -> fired.add("first"), 0);
+        wheel.schedule(75, () -> fired.add("second"), 0);
+        wheel.schedule(500, () -> fired.add("third"), 0);
+        wheel.schedule(1000, () -> fired.add("fourth"), 0);
+
+        // when
+        wheel.advance(millis(600));
+
+        // then
+        assertThat(fired).containsOnly("first", "second", "third");
+        assertThat(wheel.size()).isOne();
+    }
+
+    @Test
+    public void advanceShouldRunRemainingHandlersIfOneFails() {
+        // given
+        wheel.schedule(10, () -> {
+            throw new IllegalStateException("failed");
+        }, 0);
+        wheel.schedule(10, () -> fired.add("deadline"), 0);
+
+        // when
+        wheel.advance(millis(10));
+
+        // then
+        assertThat(fired).containsOnly("deadline");
+        assertThat(wheel.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void advanceShouldRunHandlerScheduledByAnotherHandlerOnLaterTick() {
+        // given
+        wheel.schedule(10, () -> wheel.schedule(0, () -> fired.add("nested"), millis(10)), 0);
+
+        // when
+        wheel.advance(millis(10));
+
+        // then
+        assertThat(fired).isEmpty();
+
+        // when
+        wheel.advance(millis(20));
+
+        // then
+        assertThat(fired).containsOnly("nested");
+    }
+
+    private static long millis(long value) {
+        return TimeUnit.MILLISECONDS.toNanos(value);
+    }
+}
@@ -0,0 +1,216 @@
+package org.prebid.server.vertx.timer;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.vertx.timer.DeadlineScheduler.Deadline;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Deadlines are scheduled on event loop threads of a real {@link Vertx} instance, while timers of the scheduler are
+ * set on a mock, so ticks of the wheel are driven by the test.
+ */
+public class TimerWheelDeadlineSchedulerTest {
+
+    private static final long TICK_MS = 1L;
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+
+    private Vertx eventLoops;
+
+    private TimerWheelDeadlineScheduler deadlineScheduler;
+
+    @Before
+    public void setUp() {
+        given(vertx.setPeriodic(anyLong(), any())).willReturn(1L, 2L, 3L);
+
+        eventLoops = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(2));
+        deadlineScheduler = new TimerWheelDeadlineScheduler(vertx, TICK_MS, 64);
+    }
+
+    @After
+    public void tearDown() {
+        eventLoops.close();
+    }
+
+    @Test
+    public void scheduleShouldFallBackToVertxTimerIfCalledNotOnEventLoopThread() {
+        // given
+        given(vertx.setTimer(anyLong(), any())).willReturn(123L);
+
+        // when
+        final Deadline deadline = deadlineScheduler.schedule(100L, () -> {
+        });
+        deadline.cancel();
+
+        // then
+        verify(vertx).setTimer(eq(100L), any());
+        verify(vertx).cancelTimer(eq(123L));
+        verify(vertx, never()).setPeriodic(anyLong(), any());
+    }
+
+    @Test
+    public void scheduleShouldStartTickerOnlyWhenWheelBecomesNonEmpty() throws Exception {
+        // given
+        final Context context = eventLoops.getOrCreateContext();
+
+        // when
+        runOnContext(context, () -> deadlineScheduler.schedule(1000L, () -> {
+        }));
+        runOnContext(context, () -> deadlineScheduler.schedule(2000L, () -> {
+        }));
+
+        // then
+        verify(vertx).setPeriodic(eq(TICK_MS), any());
+        verify(vertx, never()).setTimer(anyLong(), any());
+    }
+
+    @Test
+    public void tickShouldRunExpiredDeadlineAndCancelTickerWhenWheelBecomesEmpty() throws Exception {
+        // given
+        final Context context = eventLoops.getOrCreateContext();
+        final AtomicInteger handlerCalls = new AtomicInteger();
+        runOnContext(context, () -> deadlineScheduler.schedule(1L, handlerCalls::incrementAndGet));
+        final Handler<Long> ticker = captureTicker(1);
+
+        // when
+        TimeUnit.MILLISECONDS.sleep(20L);
+        tick(context, ticker, 1L);
+
+        // then
+        assertThat(handlerCalls.get()).isOne();
+        verify(vertx).cancelTimer(eq(1L));
+
+        // when
+        runOnContext(context, () -> deadlineScheduler.schedule(1000L, () -> {
+        }));
+
+        // then
+        verify(vertx, times(2)).setPeriodic(eq(TICK_MS), any());
+    }
+
+    @Test
+    public void tickShouldKeepTickerRunningWhilePendingDeadlinesRemain() throws Exception {
+        // given
+        final Context context = eventLoops.getOrCreateContext();
+        final AtomicInteger handlerCalls = new AtomicInteger();
+        runOnContext(context, () -> deadlineScheduler.schedule(1L, handlerCalls::incrementAndGet));
+        runOnContext(context, () -> deadlineScheduler.schedule(10000L, handlerCalls::incrementAndGet));
+        final Handler<Long> ticker = captureTicker(1);
+
+        // when
+        TimeUnit.MILLISECONDS.sleep(20L);
+        tick(context, ticker, 1L);
+
+        // then
+        assertThat(handlerCalls.get()).isOne();
+        verify(vertx, never()).cancelTimer(anyLong());
+    }
+
+    @Test
+    public void tickShouldCancelTickerIfAllDeadlinesWereCancelled() throws Exception {
+        // given
+        final Context context = eventLoops.getOrCreateContext();
+        final AtomicInteger handlerCalls = new AtomicInteger();
+        final Deadline deadline = runOnContext(context,
+                () -> deadlineScheduler.schedule(1L, handlerCalls::incrementAndGet));
+        final Handler<Long> ticker = captureTicker(1);
+
+        // when
+        runOnContext(context, () -> {
+            deadline.cancel();
+            return null;
+        });
+        TimeUnit.MILLISECONDS.sleep(20L);
+        tick(context, ticker, 1L);
+
+        // then
+        assertThat(handlerCalls.get()).isZero();
+        verify(vertx).cancelTimer(eq(1L));
+    }
+
+    @Test
+    public void scheduleShouldUseSeparateWheelForEachEventLoopThread() throws Exception {
+        // given
+        final Context firstContext = eventLoops.getOrCreateContext();
+        final Context secondContext = eventLoops.getOrCreateContext();
+        final AtomicInteger firstHandlerCalls = new AtomicInteger();
+        final AtomicInteger secondHandlerCalls = new AtomicInteger();
+
+        // when
+        runOnContext(firstContext, () -> deadlineScheduler.schedule(1L, firstHandlerCalls::incrementAndGet));
+        runOnContext(secondContext, () -> deadlineScheduler.schedule(1L, secondHandlerCalls::incrementAndGet));
+        runOnContext(firstContext, () -> deadlineScheduler.schedule(1000L, () -> {
+        }));
+
+        // then
+        final ArgumentCaptor<Handler<Long>> tickersCaptor = tickersCaptor();
+        verify(vertx, times(2)).setPeriodic(eq(TICK_MS), tickersCaptor.capture());
+
+        // when
+        TimeUnit.MILLISECONDS.sleep(20L);
+        tick(secondContext, tickersCaptor.getAllValues().get(1), 2L);
+
+        // then
+        assertThat(firstHandlerCalls.get()).isZero();
+        assertThat(secondHandlerCalls.get()).isOne();
+        verify(vertx).cancelTimer(eq(2L));
+        verify(vertx, never()).cancelTimer(eq(1L));
+    }
+
+    private Handler<Long> captureTicker(int expectedTickers) {
+        final ArgumentCaptor<Handler<Long>> tickersCaptor = tickersCaptor();
+        verify(vertx, times(expectedTickers)).setPeriodic(eq(TICK_MS), tickersCaptor.capture());
+        return tickersCaptor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Handler<Long>> tickersCaptor() {
+        return ArgumentCaptor.forClass(Handler.class);
+    }
+
+    private static void tick(Context context, Handler<Long> ticker, long timerId) throws Exception {
+        runOnContext(context, () -> {
+            ticker.handle(timerId);
+            return null;
+        });
+    }
+
+    private static <T> T runOnContext(Context context, Supplier<T> action) throws Exception {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        context.runOnContext(ignored -> {
+            try {
+                result.complete(action.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result.get(5L, TimeUnit.SECONDS);
+    }
+}